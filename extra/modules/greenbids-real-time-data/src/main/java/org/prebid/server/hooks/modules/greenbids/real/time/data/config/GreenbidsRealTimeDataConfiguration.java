@@ -1,5 +1,6 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.config;
 
+import com.codahale.metrics.MetricRegistry;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.cloud.storage.Storage;
@@ -9,6 +10,7 @@ import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ModelCache;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxInferenceBatcher;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerFactory;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerWithThresholds;
@@ -47,14 +49,30 @@ public class GreenbidsRealTimeDataConfiguration {
     GreenbidsRealTimeDataModule greenbidsRealTimeDataModule(
             FilterService filterService,
             OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds,
-            GreenbidsInferenceDataService greenbidsInferenceDataService) {
+            GreenbidsInferenceDataService greenbidsInferenceDataService,
+            OnnxInferenceBatcher onnxInferenceBatcher) {
 
         return new GreenbidsRealTimeDataModule(List.of(
                 new GreenbidsRealTimeDataProcessedAuctionRequestHook(
                         ObjectMapperProvider.mapper(),
                         filterService,
                         onnxModelRunnerWithThresholds,
-                        greenbidsInferenceDataService)));
+                        greenbidsInferenceDataService,
+                        onnxInferenceBatcher)));
+    }
+
+    @Bean
+    OnnxInferenceBatcher onnxInferenceBatcher(GreenbidsRealTimeDataProperties properties,
+                                              Vertx vertx,
+                                              MetricRegistry metricRegistry) {
+
+        return new OnnxInferenceBatcher(
+                vertx,
+                vertx.createSharedWorkerExecutor(
+                        "greenbids-onnx-inference", properties.getInferenceWorkerPoolSize()),
+                properties.getInferenceBatchWindowMs(),
+                properties.getInferenceMaxBatchSize(),
+                metricRegistry);
     }
 
     @Bean
@@ -24,4 +24,10 @@ public class GreenbidsRealTimeDataProperties {
     Long timeoutMs;
 
     Integer maxRedirects;
+
+    Long inferenceBatchWindowMs = 1L;
+
+    Integer inferenceMaxBatchSize = 64;
+
+    Integer inferenceWorkerPoolSize = 4;
 }
@@ -0,0 +1,163 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import ai.onnxruntime.OrtException;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import org.prebid.server.exception.PreBidException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesces inference requests of concurrent auctions for the same model into a single tensor.
+ * <p>
+ * Rows are collected for up to the batch window or until the max batch size is reached, the model is run
+ * on the dedicated worker pool, and each caller is completed with its own slice of probabilities
+ * on the context it was called from.
+ */
+public class OnnxInferenceBatcher {
+
+    private static final String METRIC_PREFIX = "modules.module.greenbids-real-time-data.inference.";
+
+    private final Vertx vertx;
+    private final WorkerExecutor workerExecutor;
+    private final long batchWindowMs;
+    private final int maxBatchSize;
+
+    private final Map<OnnxModelRunner, Batch> pendingBatches;
+    private final AtomicInteger queueDepth;
+    private final Histogram batchSizeHistogram;
+    private final Timer inferenceTimer;
+
+    public OnnxInferenceBatcher(Vertx vertx,
+                                WorkerExecutor workerExecutor,
+                                long batchWindowMs,
+                                int maxBatchSize,
+                                MetricRegistry metricRegistry) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.workerExecutor = Objects.requireNonNull(workerExecutor);
+        this.batchWindowMs = batchWindowMs;
+        this.maxBatchSize = maxBatchSize;
+
+        pendingBatches = new HashMap<>();
+        queueDepth = new AtomicInteger();
+        metricRegistry.gauge(METRIC_PREFIX + "queue-depth", () -> queueDepth::get);
+        batchSizeHistogram = metricRegistry.histogram(METRIC_PREFIX + "batch-size");
+        inferenceTimer = metricRegistry.timer(METRIC_PREFIX + "duration");
+    }
+
+    public Future<float[][]> runModelForProbabilities(OnnxModelRunner onnxModelRunner,
+                                                      String[][] throttlingInferenceRows) {
+
+        if (throttlingInferenceRows.length == 0) {
+            return Future.failedFuture(new PreBidException("throttlingInferenceRows cannot be empty"));
+        }
+
+        final Promise<float[][]> promise = Promise.promise();
+        final BatchEntry entry = new BatchEntry(throttlingInferenceRows, promise, Vertx.currentContext());
+        queueDepth.addAndGet(throttlingInferenceRows.length);
+
+        final Batch batch;
+        final boolean isFirst;
+        final boolean isFull;
+        synchronized (pendingBatches) {
+            batch = pendingBatches.computeIfAbsent(onnxModelRunner, key -> new Batch());
+            batch.add(entry);
+
+            isFirst = batch.entries.size() == 1;
+            isFull = batchWindowMs <= 0 || batch.rowsNumber >= maxBatchSize;
+            if (isFull) {
+                pendingBatches.remove(onnxModelRunner);
+            }
+        }
+
+        if (isFull) {
+            run(onnxModelRunner, batch);
+        } else if (isFirst) {
+            vertx.setTimer(batchWindowMs, timerId -> flush(onnxModelRunner, batch));
+        }
+
+        return promise.future();
+    }
+
+    private void flush(OnnxModelRunner onnxModelRunner, Batch batch) {
+        final boolean isPending;
+        synchronized (pendingBatches) {
+            isPending = pendingBatches.remove(onnxModelRunner, batch);
+        }
+
+        if (isPending) {
+            run(onnxModelRunner, batch);
+        }
+    }
+
+    private void run(OnnxModelRunner onnxModelRunner, Batch batch) {
+        workerExecutor.<float[][]>executeBlocking(() -> infer(onnxModelRunner, batch), false)
+                .onComplete(result -> complete(batch, result));
+    }
+
+    private float[][] infer(OnnxModelRunner onnxModelRunner, Batch batch) throws OrtException {
+        queueDepth.addAndGet(-batch.rowsNumber);
+        batchSizeHistogram.update(batch.rowsNumber);
+
+        final String[][] rows = batch.entries.size() == 1
+                ? batch.entries.getFirst().rows()
+                : batch.entries.stream().map(BatchEntry::rows).flatMap(Arrays::stream).toArray(String[][]::new);
+
+        try (Timer.Context ignored = inferenceTimer.time()) {
+            return onnxModelRunner.runModelForProbabilities(rows);
+        }
+    }
+
+    private static void complete(Batch batch, AsyncResult<float[][]> result) {
+        int offset = 0;
+        for (BatchEntry entry : batch.entries) {
+            final int from = offset;
+            offset += entry.rows().length;
+
+            final AsyncResult<float[][]> entryResult = result.succeeded()
+                    ? Future.succeededFuture(slice(result.result(), from, offset))
+                    : Future.failedFuture(result.cause());
+
+            if (entry.context() != null) {
+                entry.context().runOnContext(ignored -> entry.promise().handle(entryResult));
+            } else {
+                entry.promise().handle(entryResult);
+            }
+        }
+    }
+
+    private static float[][] slice(float[][] probabilities, int from, int to) {
+        return from == 0 && to == probabilities.length
+                ? probabilities
+                : Arrays.copyOfRange(probabilities, from, to);
+    }
+
+    private record BatchEntry(String[][] rows, Promise<float[][]> promise, Context context) {
+    }
+
+    private static class Batch {
+
+        private final List<BatchEntry> entries = new ArrayList<>();
+
+        private int rowsNumber;
+
+        private void add(BatchEntry entry) {
+            entries.add(entry);
+            rowsNumber += entry.rows().length;
+        }
+    }
+}
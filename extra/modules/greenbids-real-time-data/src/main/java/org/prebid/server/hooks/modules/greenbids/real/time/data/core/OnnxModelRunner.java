@@ -1,9 +1,11 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
 import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OnnxValue;
 import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
+import org.prebid.server.exception.PreBidException;
 
 import java.util.Collections;
 
@@ -11,14 +13,34 @@ public class OnnxModelRunner {
 
     private static final OrtEnvironment ENVIRONMENT = OrtEnvironment.getEnvironment();
 
+    private static final String PROBABILITIES_OUTPUT = "probabilities";
+
     private final OrtSession session;
 
     public OnnxModelRunner(byte[] onnxModelBytes) throws OrtException {
         session = ENVIRONMENT.createSession(onnxModelBytes, new OrtSession.SessionOptions());
     }
 
-    public OrtSession.Result runModel(String[][] throttlingInferenceRow) throws OrtException {
-        final OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRow);
-        return session.run(Collections.singletonMap("input", inputTensor));
+    /**
+     * Runs model and copies out "probabilities" output, releasing all native tensors of the run.
+     */
+    public float[][] runModelForProbabilities(String[][] throttlingInferenceRows) throws OrtException {
+        try (OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRows);
+             OrtSession.Result results = session.run(Collections.singletonMap("input", inputTensor))) {
+
+            final OnnxValue probabilities = results.get(PROBABILITIES_OUTPUT)
+                    .orElseThrow(() -> new PreBidException("Model output 'probabilities' not found"));
+            if (!(probabilities instanceof OnnxTensor tensor)) {
+                throw new PreBidException("Expected OnnxTensor for 'probabilities', but found: "
+                        + probabilities.getClass().getName());
+            }
+
+            final float[][] values = (float[][]) tensor.getValue();
+            if (values.length != throttlingInferenceRows.length) {
+                throw new PreBidException("Mismatch between tensor size and throttlingMessages size");
+            }
+
+            return values;
+        }
     }
 }
@@ -24,6 +24,7 @@ import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterServi
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInvocationResultCreator;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsPayloadUpdater;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxInferenceBatcher;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerWithThresholds;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.data.GreenbidsConfig;
@@ -61,17 +62,20 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHook implements Process
     private final FilterService filterService;
     private final OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds;
     private final GreenbidsInferenceDataService greenbidsInferenceDataService;
+    private final OnnxInferenceBatcher onnxInferenceBatcher;
 
     public GreenbidsRealTimeDataProcessedAuctionRequestHook(
             ObjectMapper mapper,
             FilterService filterService,
             OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds,
-            GreenbidsInferenceDataService greenbidsInferenceDataService) {
+            GreenbidsInferenceDataService greenbidsInferenceDataService,
+            OnnxInferenceBatcher onnxInferenceBatcher) {
 
         this.mapper = Objects.requireNonNull(mapper);
         this.filterService = Objects.requireNonNull(filterService);
         this.onnxModelRunnerWithThresholds = Objects.requireNonNull(onnxModelRunnerWithThresholds);
         this.greenbidsInferenceDataService = Objects.requireNonNull(greenbidsInferenceDataService);
+        this.onnxInferenceBatcher = Objects.requireNonNull(onnxInferenceBatcher);
     }
 
     @Override
@@ -89,11 +93,14 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHook implements Process
         return Future.all(
                         onnxModelRunnerWithThresholds.retrieveOnnxModelRunner(greenbidsConfig),
                         onnxModelRunnerWithThresholds.retrieveThreshold(greenbidsConfig))
-                .compose(compositeFuture -> toInvocationResult(
+                .compose(compositeFuture -> filterBidders(
                         bidRequest,
-                        greenbidsConfig,
                         compositeFuture.resultAt(0),
                         compositeFuture.resultAt(1)))
+                .compose(impsBiddersFilterMap -> toInvocationResult(
+                        bidRequest,
+                        greenbidsConfig,
+                        impsBiddersFilterMap))
                 .recover(throwable -> noActionInvocationResult());
     }
 
@@ -119,25 +126,29 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHook implements Process
         }
     }
 
-    private Future<InvocationResult<AuctionRequestPayload>> toInvocationResult(
+    private Future<Map<String, Map<String, Boolean>>> filterBidders(
             BidRequest bidRequest,
-            GreenbidsConfig greenbidsConfig,
             OnnxModelRunner onnxModelRunner,
             Double threshold) {
 
-        final Map<String, Map<String, Boolean>> impsBiddersFilterMap;
+        final List<ThrottlingMessage> throttlingMessages;
         try {
-            final List<ThrottlingMessage> throttlingMessages = greenbidsInferenceDataService
-                    .extractThrottlingMessagesFromBidRequest(bidRequest);
-
-            impsBiddersFilterMap = filterService.filterBidders(
-                    onnxModelRunner,
-                    throttlingMessages,
-                    threshold);
+            throttlingMessages = greenbidsInferenceDataService.extractThrottlingMessagesFromBidRequest(bidRequest);
         } catch (PreBidException e) {
-            return noActionInvocationResult();
+            return Future.failedFuture(e);
         }
 
+        return onnxInferenceBatcher.runModelForProbabilities(
+                        onnxModelRunner,
+                        FilterService.toThrottlingInferenceRows(throttlingMessages))
+                .map(probabilities -> filterService.filterBidders(probabilities, throttlingMessages, threshold));
+    }
+
+    private Future<InvocationResult<AuctionRequestPayload>> toInvocationResult(
+            BidRequest bidRequest,
+            GreenbidsConfig greenbidsConfig,
+            Map<String, Map<String, Boolean>> impsBiddersFilterMap) {
+
         final GreenbidsInvocationResult invocationResult = GreenbidsInvocationResultCreator.create(
                 greenbidsConfig,
                 bidRequest,
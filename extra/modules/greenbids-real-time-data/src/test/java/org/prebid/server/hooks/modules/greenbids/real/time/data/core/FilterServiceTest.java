@@ -1,21 +1,13 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
-import ai.onnxruntime.OnnxTensor;
-import ai.onnxruntime.OnnxValue;
 import ai.onnxruntime.OrtException;
-import ai.onnxruntime.OrtSession;
-import ai.onnxruntime.TensorInfo;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.data.ThrottlingMessage;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -23,27 +15,10 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.entry;
 
-@ExtendWith(MockitoExtension.class)
 public class FilterServiceTest {
 
-    @Mock
-    private OnnxModelRunner onnxModelRunnerMock;
-
-    @Mock
-    private OrtSession.Result results;
-
-    @Mock
-    private OnnxTensor onnxTensor;
-
-    @Mock
-    private TensorInfo tensorInfo;
-
-    @Mock
-    private OnnxValue onnxValue;
-
     private final FilterService target = new FilterService();
 
     @Test
@@ -52,11 +27,12 @@ public class FilterServiceTest {
         // given
         final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
         final Double threshold = 0.5;
-        final OnnxModelRunner onnxModelRunner = givenOnnxModelRunner();
+        final float[][] probabilities = givenOnnxModelRunner().runModelForProbabilities(
+                FilterService.toThrottlingInferenceRows(throttlingMessages));
 
         // when
         final Map<String, Map<String, Boolean>> impsBiddersFilterMap = target.filterBidders(
-                onnxModelRunner, throttlingMessages, threshold);
+                probabilities, throttlingMessages, threshold);
 
         // then
         assertThat(impsBiddersFilterMap).isNotNull();
@@ -66,60 +42,42 @@ public class FilterServiceTest {
     }
 
     @Test
-    public void validateOnnxTensorShouldThrowPreBidExceptionWhenOnnxValueIsNotTensor() throws OrtException {
+    public void filterBiddersShouldThrowPreBidExceptionWhenThrottlingMessagesIsEmpty() {
         // given
-        final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
-        final Double threshold = 0.5;
-
-        when(onnxModelRunnerMock.runModel(any(String[][].class))).thenReturn(results);
-        when(results.spliterator()).thenReturn(Arrays.asList(createInvalidOnnxItem()).spliterator());
+        final List<ThrottlingMessage> throttlingMessages = Collections.emptyList();
+        final float[][] probabilities = {};
 
         // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        assertThatThrownBy(() -> target.filterBidders(probabilities, throttlingMessages, 0.5))
                 .isInstanceOf(PreBidException.class)
-                .hasMessageContaining("Expected OnnxTensor for 'probabilities', but found");
+                .hasMessageContaining("throttlingMessages cannot be null or empty");
     }
 
     @Test
-    public void filterBiddersShouldThrowPreBidExceptionWhenOrtExceptionOccurs() throws OrtException {
+    public void filterBiddersShouldApplyThresholdToProbabilities() {
         // given
         final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
-        final Double threshold = 0.5;
-
-        when(onnxModelRunnerMock.runModel(any(String[][].class)))
-                .thenThrow(new OrtException("Exception during runModel"));
-
-        // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
-                .isInstanceOf(PreBidException.class)
-                .hasMessageContaining("Exception during model inference");
-    }
+        final float[][] probabilities = {{0.1f, 0.9f}, {0.6f, 0.4f}, {0.5f, 0.5f}};
 
-    @Test
-    public void filterBiddersShouldThrowPreBidExceptionWhenThrottlingMessagesIsEmpty() {
-        // given
-        final List<ThrottlingMessage> throttlingMessages = Collections.emptyList();
-        final Double threshold = 0.5;
+        // when
+        final Map<String, Map<String, Boolean>> impsBiddersFilterMap = target.filterBidders(
+                probabilities, throttlingMessages, 0.5);
 
-        // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
-                .isInstanceOf(PreBidException.class)
-                .hasMessageContaining("throttlingMessages cannot be null or empty");
+        // then
+        assertThat(impsBiddersFilterMap).containsOnly(
+                entry("adUnit1", Map.of("bidder1", true)),
+                entry("adUnit2", Map.of("bidder2", false)),
+                entry("adUnit3", Map.of("bidder3", false)));
     }
 
     @Test
-    public void filterBiddersShouldThrowPreBidExceptionWhenTensorSizeMismatchOccurs() throws OrtException {
+    public void filterBiddersShouldThrowPreBidExceptionWhenProbabilitiesSizeMismatchOccurs() {
         // given
         final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
-        final Double threshold = 0.5;
-
-        when(onnxModelRunnerMock.runModel(any(String[][].class))).thenReturn(results);
-        when(results.spliterator()).thenReturn(Arrays.asList(createOnnxItem()).spliterator());
-        when(onnxTensor.getInfo()).thenReturn(tensorInfo);
-        when(tensorInfo.getShape()).thenReturn(new long[]{0});
+        final float[][] probabilities = {{0.1f, 0.9f}};
 
         // when & then
-        assertThatThrownBy(() -> target.filterBidders(onnxModelRunnerMock, throttlingMessages, threshold))
+        assertThatThrownBy(() -> target.filterBidders(probabilities, throttlingMessages, 0.5))
                 .isInstanceOf(PreBidException.class)
                 .hasMessageContaining("Mismatch between tensor size and throttlingMessages size");
     }
@@ -166,12 +124,4 @@ public class FilterServiceTest {
 
         return Arrays.asList(throttlingMessage1, throttlingMessage2, throttlingMessage3);
     }
-
-    private Map.Entry<String, OnnxValue> createOnnxItem() {
-        return new AbstractMap.SimpleEntry<>("probabilities", onnxTensor);
-    }
-
-    private Map.Entry<String, OnnxValue> createInvalidOnnxItem() {
-        return new AbstractMap.SimpleEntry<>("probabilities", onnxValue);
-    }
 }
@@ -0,0 +1,147 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import ai.onnxruntime.OrtException;
+import com.codahale.metrics.MetricRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.PreBidException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class OnnxInferenceBatcherTest {
+
+    private static final String METRIC_PREFIX = "modules.module.greenbids-real-time-data.inference.";
+
+    @Mock
+    private OnnxModelRunner onnxModelRunner;
+
+    private Vertx vertx;
+
+    private MetricRegistry metricRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        metricRegistry = new MetricRegistry();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void runModelForProbabilitiesShouldCoalesceConcurrentRequestsIntoSingleBatch() throws OrtException {
+        // given
+        final OnnxInferenceBatcher target = givenTarget(10_000L, 3);
+        given(onnxModelRunner.runModelForProbabilities(any()))
+                .willReturn(new float[][]{{0.1f, 0.9f}, {0.2f, 0.8f}, {0.3f, 0.7f}});
+
+        // when
+        final Future<float[][]> first = target.runModelForProbabilities(onnxModelRunner, rows("a"));
+        final Future<float[][]> second = target.runModelForProbabilities(onnxModelRunner, rows("b", "c"));
+
+        // then
+        assertThat(await(first)).isEqualTo(new float[][]{{0.1f, 0.9f}});
+        assertThat(await(second)).isEqualTo(new float[][]{{0.2f, 0.8f}, {0.3f, 0.7f}});
+
+        final ArgumentCaptor<String[][]> rowsCaptor = ArgumentCaptor.forClass(String[][].class);
+        verify(onnxModelRunner).runModelForProbabilities(rowsCaptor.capture());
+        assertThat(rowsCaptor.getValue()).isEqualTo(new String[][]{{"a"}, {"b"}, {"c"}});
+
+        assertThat(metricRegistry.histogram(METRIC_PREFIX + "batch-size").getSnapshot().getValues())
+                .containsExactly(3L);
+        assertThat(metricRegistry.timer(METRIC_PREFIX + "duration").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.getGauges().get(METRIC_PREFIX + "queue-depth").getValue()).isEqualTo(0);
+    }
+
+    @Test
+    public void runModelForProbabilitiesShouldRunBatchWhenWindowElapsed() throws OrtException {
+        // given
+        final OnnxInferenceBatcher target = givenTarget(1L, 64);
+        given(onnxModelRunner.runModelForProbabilities(any())).willReturn(new float[][]{{0.4f, 0.6f}});
+
+        // when
+        final Future<float[][]> result = target.runModelForProbabilities(onnxModelRunner, rows("a"));
+
+        // then
+        assertThat(await(result)).isEqualTo(new float[][]{{0.4f, 0.6f}});
+    }
+
+    @Test
+    public void runModelForProbabilitiesShouldFailAllRequestsOfBatchWhenInferenceFailed() throws OrtException {
+        // given
+        final OnnxInferenceBatcher target = givenTarget(10_000L, 2);
+        given(onnxModelRunner.runModelForProbabilities(any())).willThrow(new PreBidException("failed"));
+
+        // when
+        final Future<float[][]> first = target.runModelForProbabilities(onnxModelRunner, rows("a"));
+        final Future<float[][]> second = target.runModelForProbabilities(onnxModelRunner, rows("b"));
+
+        // then
+        assertThat(awaitFailure(first)).isInstanceOf(PreBidException.class).hasMessage("failed");
+        assertThat(awaitFailure(second)).isInstanceOf(PreBidException.class).hasMessage("failed");
+    }
+
+    @Test
+    public void runModelForProbabilitiesShouldFailWhenRowsAreEmpty() {
+        // given
+        final OnnxInferenceBatcher target = givenTarget(1L, 64);
+
+        // when
+        final Future<float[][]> result = target.runModelForProbabilities(onnxModelRunner, new String[0][]);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).isInstanceOf(PreBidException.class);
+        verifyNoInteractions(onnxModelRunner);
+    }
+
+    private OnnxInferenceBatcher givenTarget(long batchWindowMs, int maxBatchSize) {
+        return new OnnxInferenceBatcher(
+                vertx,
+                vertx.createSharedWorkerExecutor("test-inference", 1),
+                batchWindowMs,
+                maxBatchSize,
+                metricRegistry);
+    }
+
+    private static String[][] rows(String... values) {
+        final String[][] rows = new String[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            rows[i] = new String[]{values[i]};
+        }
+        return rows;
+    }
+
+    private static float[][] await(Future<float[][]> future) {
+        try {
+            return future.toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static Throwable awaitFailure(Future<float[][]> future) {
+        try {
+            future.toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            return e.getCause();
+        }
+        throw new AssertionError("Expected failed future");
+    }
+}
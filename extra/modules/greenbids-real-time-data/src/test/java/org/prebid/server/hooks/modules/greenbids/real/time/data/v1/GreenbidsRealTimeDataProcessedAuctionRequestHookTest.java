@@ -16,6 +16,7 @@ import org.prebid.server.hooks.execution.v1.auction.AuctionInvocationContextImpl
 import org.prebid.server.hooks.execution.v1.auction.AuctionRequestPayloadImpl;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxInferenceBatcher;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerWithThresholds;
 import org.prebid.server.hooks.v1.InvocationAction;
@@ -53,6 +54,9 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
     @Mock
     private GreenbidsInferenceDataService greenbidsInferenceDataService;
 
+    @Mock
+    private OnnxInferenceBatcher onnxInferenceBatcher;
+
     private GreenbidsRealTimeDataProcessedAuctionRequestHook target;
 
     @BeforeEach
@@ -63,12 +67,15 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
                 .willReturn(Future.succeededFuture(18.2d));
         given(greenbidsInferenceDataService.extractThrottlingMessagesFromBidRequest(any()))
                 .willReturn(Collections.emptyList());
+        given(onnxInferenceBatcher.runModelForProbabilities(any(), any()))
+                .willReturn(Future.succeededFuture(new float[0][]));
 
         target = new GreenbidsRealTimeDataProcessedAuctionRequestHook(
                 MAPPER,
                 filterService,
                 onnxModelRunnerWithThresholds,
-                greenbidsInferenceDataService);
+                greenbidsInferenceDataService,
+                onnxInferenceBatcher);
     }
 
     @Test
@@ -83,7 +90,7 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
         final BidRequest bidRequest = givenBidRequest(identity(), List.of(imp));
         final AuctionInvocationContext invocationContext = givenAuctionInvocationContext(explorationRate);
 
-        given(filterService.filterBidders(any(), any(), any())).willReturn(Map.of("adunitcodevalue",
+        given(filterService.filterBidders(any(float[][].class), any(), any())).willReturn(Map.of("adunitcodevalue",
                 Map.of("rubicon", false, "appnexus", false, "pubmatic", false)));
 
         // when
@@ -126,7 +133,7 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
         final BidRequest bidRequest = givenBidRequest(identity(), List.of(imp));
         final AuctionInvocationContext invocationContext = givenAuctionInvocationContext(explorationRate);
 
-        given(filterService.filterBidders(any(), any(), any())).willReturn(Map.of("adunitcodevalue",
+        given(filterService.filterBidders(any(float[][].class), any(), any())).willReturn(Map.of("adunitcodevalue",
                 Map.of("rubicon", true, "appnexus", false, "pubmatic", false)));
 
         // when
@@ -5,6 +5,8 @@ import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.debug.ActivityInfrastructureDebug;
 import org.prebid.server.activity.infrastructure.payload.ActivityInvocationPayload;
+import org.prebid.server.activity.infrastructure.payload.impl.ActivityInvocationPayloadImpl;
+import org.prebid.server.activity.infrastructure.payload.impl.PrivacyEnforcementServiceActivityInvocationPayload;
 import org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier;
 import org.prebid.server.proto.openrtb.ext.response.ExtTraceActivityInfrastructure;
 
@@ -12,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ActivityInfrastructure {
 
@@ -20,6 +23,8 @@ public class ActivityInfrastructure {
     private final Map<Activity, ActivityController> activitiesControllers;
     private final ActivityInfrastructureDebug debug;
 
+    private final Map<Invocation, Boolean> invocationResults;
+
     public ActivityInfrastructure(Map<Activity, ActivityController> activitiesControllers,
                                   ActivityInfrastructureDebug debug) {
 
@@ -27,6 +32,8 @@ public class ActivityInfrastructure {
 
         this.activitiesControllers = activitiesControllers;
         this.debug = Objects.requireNonNull(debug);
+
+        invocationResults = new ConcurrentHashMap<>();
     }
 
     private static void validate(Map<Activity, ActivityController> activitiesControllers) {
@@ -37,12 +44,31 @@ public class ActivityInfrastructure {
 
     public boolean isAllowed(Activity activity, ActivityInvocationPayload activityInvocationPayload) {
         debug.emitActivityInvocation(activity, activityInvocationPayload);
-        final boolean result = activitiesControllers.get(activity).isAllowed(activityInvocationPayload);
+        final boolean result = isMemoizable(activityInvocationPayload)
+                ? invocationResults.computeIfAbsent(
+                        new Invocation(activity, activityInvocationPayload),
+                        invocation -> proceed(activity, activityInvocationPayload))
+                : proceed(activity, activityInvocationPayload);
         debug.emitActivityInvocationResult(activity, activityInvocationPayload, result);
 
         return result;
     }
 
+    /**
+     * Rules are deterministic within a request, so the decision for the same activity and payload is taken once.
+     * Only payloads compared by a few plain values are remembered, and nothing is remembered when trace is requested,
+     * so the trace keeps every processed rule.
+     */
+    private boolean isMemoizable(ActivityInvocationPayload activityInvocationPayload) {
+        return !debug.isTraceEnabled()
+                && (activityInvocationPayload instanceof ActivityInvocationPayloadImpl
+                || activityInvocationPayload instanceof PrivacyEnforcementServiceActivityInvocationPayload);
+    }
+
+    private boolean proceed(Activity activity, ActivityInvocationPayload activityInvocationPayload) {
+        return activitiesControllers.get(activity).isAllowed(activityInvocationPayload);
+    }
+
     public void updateActivityMetrics(Activity activity, ComponentType componentType, String componentName) {
         debug.updateActivityMetrics(activity, componentType, componentName);
     }
@@ -54,4 +80,7 @@ public class ActivityInfrastructure {
     public Set<PrivacyModuleQualifier> skippedPrivacyModules() {
         return debug.skippedPrivacyModules();
     }
+
+    private record Invocation(Activity activity, ActivityInvocationPayload payload) {
+    }
 }
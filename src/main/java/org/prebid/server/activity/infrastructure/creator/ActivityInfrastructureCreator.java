@@ -1,5 +1,6 @@
 package org.prebid.server.activity.infrastructure.creator;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.collections4.ListUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.ActivityController;
@@ -46,12 +47,15 @@ public class ActivityInfrastructureCreator {
     private static final Logger logger = LoggerFactory.getLogger(ActivityInfrastructureCreator.class);
 
     private static final int MODULE_MAX_SKIP_RATE = 100;
+    private static final int MAXIMUM_ACCOUNT_ACTIVITIES_CACHE_SIZE = 10_000;
 
     private final ActivityRuleFactory activityRuleFactory;
     private final Purpose defaultPurpose4;
     private final Metrics metrics;
     private final JacksonMapper jacksonMapper;
 
+    private final Map<AccountActivitiesKey, AccountActivities> accountActivitiesByKey;
+
     public ActivityInfrastructureCreator(ActivityRuleFactory activityRuleFactory,
                                          GdprConfig gdprConfig,
                                          Metrics metrics,
@@ -64,6 +68,11 @@ public class ActivityInfrastructureCreator {
                 .orElse(null);
         this.metrics = Objects.requireNonNull(metrics);
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
+
+        accountActivitiesByKey = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_ACCOUNT_ACTIVITIES_CACHE_SIZE)
+                .<AccountActivitiesKey, AccountActivities>build()
+                .asMap();
     }
 
     public ActivityInfrastructure create(Account account, GppContext gppContext, TraceLevel traceLevel) {
@@ -76,7 +85,52 @@ public class ActivityInfrastructureCreator {
     }
 
     Map<Activity, ActivityController> parse(Account account, GppContext gppContext, ActivityInfrastructureDebug debug) {
-        final Optional<AccountPrivacyConfig> accountPrivacyConfig = Optional.ofNullable(account.getPrivacy());
+        final AccountActivities accountActivities = accountActivities(account);
+        final Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs =
+                accountActivities.modulesConfigs();
+
+        final Set<PrivacyModuleQualifier> skipPrivacyModules = modulesConfigs.entrySet().stream()
+                .filter(entry -> shouldSkipPrivacyModule(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(PrivacyModuleQualifier.class)));
+
+        return Arrays.stream(Activity.values()).collect(Collectors.toMap(
+                UnaryOperator.identity(),
+                activity -> from(
+                        activity,
+                        accountActivities.activitiesConfigs().get(activity),
+                        modulesConfigs,
+                        skipPrivacyModules,
+                        gppContext,
+                        debug),
+                (oldValue, newValue) -> oldValue,
+                enumMapFactory()));
+    }
+
+    /**
+     * Returns account privacy configuration prepared for creating activity controllers.
+     * <p>
+     * Preparation depends only on the account privacy configuration, so its result is looked up by the values
+     * it is prepared from.
+     */
+    private AccountActivities accountActivities(Account account) {
+        final AccountPrivacyConfig accountPrivacyConfig = account.getPrivacy();
+        return accountPrivacyConfig != null
+                ? accountActivitiesByKey.computeIfAbsent(
+                        accountActivitiesKey(accountPrivacyConfig),
+                        ignored -> prepareAccountActivities(account.getId(), accountPrivacyConfig))
+                : prepareAccountActivities(account.getId(), null);
+    }
+
+    private AccountActivitiesKey accountActivitiesKey(AccountPrivacyConfig accountPrivacyConfig) {
+        return new AccountActivitiesKey(
+                accountPrivacyConfig.getActivities(),
+                accountPrivacyConfig.getModules(),
+                isEidActivityTransition(Optional.of(accountPrivacyConfig)));
+    }
+
+    private AccountActivities prepareAccountActivities(String accountId, AccountPrivacyConfig privacyConfig) {
+        final Optional<AccountPrivacyConfig> accountPrivacyConfig = Optional.ofNullable(privacyConfig);
 
         final Map<Activity, AccountActivityConfiguration> activitiesConfiguration = accountPrivacyConfig
                 .map(AccountPrivacyConfig::getActivities)
@@ -90,27 +144,19 @@ public class ActivityInfrastructureCreator {
                 .collect(Collectors.toMap(
                         AccountPrivacyModuleConfig::getCode,
                         UnaryOperator.identity(),
-                        takeFirstAndLogDuplicates(account.getId())));
+                        takeFirstAndLogDuplicates(accountId)));
 
-        final Set<PrivacyModuleQualifier> skipPrivacyModules = modulesConfigs.entrySet().stream()
-                .filter(entry -> shouldSkipPrivacyModule(entry.getValue()))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toCollection(() -> EnumSet.noneOf(PrivacyModuleQualifier.class)));
+        final Function<Activity, AccountActivityConfiguration> activityConfigurationResolver = fallbackActivity(
+                activitiesConfiguration,
+                accountPrivacyConfig,
+                activitiesConfiguration::get);
 
-        return Arrays.stream(Activity.values()).collect(Collectors.toMap(
-                UnaryOperator.identity(),
-                fallbackActivity(
-                        activitiesConfiguration,
-                        accountPrivacyConfig,
-                        activity -> from(
-                                activity,
-                                activitiesConfiguration.get(activity),
-                                modulesConfigs,
-                                skipPrivacyModules,
-                                gppContext,
-                                debug)),
-                (oldValue, newValue) -> oldValue,
-                enumMapFactory()));
+        final Map<Activity, AccountActivityConfiguration> activitiesConfigs = new EnumMap<>(Activity.class);
+        for (Activity activity : Activity.values()) {
+            activitiesConfigs.put(activity, activityConfigurationResolver.apply(activity));
+        }
+
+        return new AccountActivities(activitiesConfigs, modulesConfigs);
     }
 
     private BinaryOperator<AccountPrivacyModuleConfig> takeFirstAndLogDuplicates(String accountId) {
@@ -124,14 +170,22 @@ public class ActivityInfrastructureCreator {
     }
 
     // TODO: remove this wrapper after transition period
-    private Function<Activity, ActivityController> fallbackActivity(
+    private Function<Activity, AccountActivityConfiguration> fallbackActivity(
             Map<Activity, AccountActivityConfiguration> activitiesConfiguration,
             Optional<AccountPrivacyConfig> accountPrivacyConfig,
-            Function<Activity, ActivityController> activityControllerCreator) {
+            Function<Activity, AccountActivityConfiguration> activityConfigurationResolver) {
 
         final boolean imitateTransmitEids = !activitiesConfiguration.containsKey(Activity.TRANSMIT_EIDS)
                 && activitiesConfiguration.containsKey(Activity.TRANSMIT_UFPD)
-                && accountPrivacyConfig
+                && isEidActivityTransition(accountPrivacyConfig);
+
+        return originalActivity -> originalActivity == Activity.TRANSMIT_EIDS && imitateTransmitEids
+                ? activityConfigurationResolver.apply(Activity.TRANSMIT_UFPD)
+                : activityConfigurationResolver.apply(originalActivity);
+    }
+
+    private boolean isEidActivityTransition(Optional<AccountPrivacyConfig> accountPrivacyConfig) {
+        return accountPrivacyConfig
                 .map(AccountPrivacyConfig::getGdpr)
                 .map(AccountGdprConfig::getPurposes)
                 .map(Purposes::getP4)
@@ -139,10 +193,6 @@ public class ActivityInfrastructureCreator {
                 .map(Purpose::getEid)
                 .map(PurposeEid::getActivityTransition)
                 .orElse(false);
-
-        return originalActivity -> originalActivity == Activity.TRANSMIT_EIDS && imitateTransmitEids
-                ? activityControllerCreator.apply(Activity.TRANSMIT_UFPD)
-                : activityControllerCreator.apply(originalActivity);
     }
 
     private static boolean shouldSkipPrivacyModule(AccountPrivacyModuleConfig config) {
@@ -200,4 +250,13 @@ public class ActivityInfrastructureCreator {
     private static Supplier<Map<Activity, ActivityController>> enumMapFactory() {
         return () -> new EnumMap<>(Activity.class);
     }
+
+    private record AccountActivitiesKey(Map<Activity, AccountActivityConfiguration> activities,
+                                        List<AccountPrivacyModuleConfig> modules,
+                                        boolean eidActivityTransition) {
+    }
+
+    private record AccountActivities(Map<Activity, AccountActivityConfiguration> activitiesConfigs,
+                                     Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs) {
+    }
 }
@@ -1,8 +1,8 @@
 package org.prebid.server.activity.infrastructure.creator.privacy.uscustomlogic;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.gpp.encoder.GppModel;
-import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
 import org.apache.commons.collections4.SetUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.creator.PrivacyModuleCreationContext;
@@ -14,6 +14,7 @@ import org.prebid.server.activity.infrastructure.privacy.PrivacySection;
 import org.prebid.server.activity.infrastructure.privacy.uscustomlogic.USCustomLogicDataSupplier;
 import org.prebid.server.activity.infrastructure.privacy.uscustomlogic.USCustomLogicModule;
 import org.prebid.server.auction.gpp.model.GppContext;
+import org.prebid.server.json.CompiledJsonLogic;
 import org.prebid.server.json.JsonLogic;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
@@ -38,6 +39,8 @@ public class USCustomLogicModuleCreator implements PrivacyModuleCreator {
     private static final Logger logger = LoggerFactory.getLogger(USCustomLogicModuleCreator.class);
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
 
+    private static final int ACCOUNT_JSON_LOGIC_CACHE_SIZE = 10_000;
+
     private static final Set<Integer> ALLOWED_SECTIONS_IDS =
             PrivacySection.US_PRIVACY_SECTIONS.stream()
                     .map(PrivacySection::sectionId)
@@ -45,7 +48,8 @@ public class USCustomLogicModuleCreator implements PrivacyModuleCreator {
 
     private final USCustomLogicGppReaderFactory gppReaderFactory;
     private final JsonLogic jsonLogic;
-    private final Map<String, JsonLogicNode> jsonLogicNodesCache;
+    private final Map<String, CompiledJsonLogic> compiledJsonLogicCache;
+    private final Map<ObjectNode, CompiledJsonLogic> accountJsonLogicCache;
     private final Metrics metrics;
     private final double samplingRate;
 
@@ -61,9 +65,14 @@ public class USCustomLogicModuleCreator implements PrivacyModuleCreator {
         this.metrics = Objects.requireNonNull(metrics);
         this.samplingRate = samplingRate;
 
-        jsonLogicNodesCache = cacheTtl != null && cacheSize != null
+        compiledJsonLogicCache = cacheTtl != null && cacheSize != null
                 ? SettingsCache.createCache(cacheTtl, cacheSize, 0)
                 : null;
+
+        accountJsonLogicCache = Caffeine.newBuilder()
+                .maximumSize(ACCOUNT_JSON_LOGIC_CACHE_SIZE)
+                .<ObjectNode, CompiledJsonLogic>build()
+                .asMap();
     }
 
     @Override
@@ -133,8 +142,7 @@ public class USCustomLogicModuleCreator implements PrivacyModuleCreator {
 
         try {
             return new USCustomLogicModule(
-                    jsonLogic,
-                    jsonLogicNode(jsonLogicConfig),
+                    compiledJsonLogic(jsonLogicConfig),
                     USCustomLogicDataSupplier.of(gppReaderFactory.forSection(sectionId, normalizeSection, gppModel)));
         } catch (Exception e) {
             conditionalLogger.error(
@@ -146,10 +154,30 @@ public class USCustomLogicModuleCreator implements PrivacyModuleCreator {
         }
     }
 
-    private JsonLogicNode jsonLogicNode(ObjectNode jsonLogicConfig) {
+    /**
+     * Looks compiled expression up by JSON value, so it is compiled once even if account is built anew
+     * for each request, without serializing the config.
+     */
+    private CompiledJsonLogic compiledJsonLogic(ObjectNode jsonLogicConfig) {
+        final CompiledJsonLogic cachedJsonLogic = accountJsonLogicCache.get(jsonLogicConfig);
+        if (cachedJsonLogic != null) {
+            return cachedJsonLogic;
+        }
+
+        final CompiledJsonLogic compiledJsonLogic = compileJsonLogic(jsonLogicConfig);
+        // account config can be modified later, so key is its own copy
+        accountJsonLogicCache.put(jsonLogicConfig.deepCopy(), compiledJsonLogic);
+        return compiledJsonLogic;
+    }
+
+    private CompiledJsonLogic compileJsonLogic(ObjectNode jsonLogicConfig) {
         final String jsonAsString = jsonLogicConfig.toString();
-        return jsonLogicNodesCache != null
-                ? jsonLogicNodesCache.computeIfAbsent(jsonAsString, jsonLogic::parse)
-                : jsonLogic.parse(jsonAsString);
+        return compiledJsonLogicCache != null
+                ? compiledJsonLogicCache.computeIfAbsent(jsonAsString, this::compileJsonLogic)
+                : compileJsonLogic(jsonAsString);
+    }
+
+    private CompiledJsonLogic compileJsonLogic(String jsonLogicConfig) {
+        return jsonLogic.compile(jsonLogic.parse(jsonLogicConfig));
     }
 }
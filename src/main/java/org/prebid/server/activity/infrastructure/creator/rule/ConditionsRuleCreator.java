@@ -1,5 +1,6 @@
 package org.prebid.server.activity.infrastructure.creator.rule;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.ComponentType;
@@ -12,30 +13,53 @@ import org.prebid.server.settings.model.activity.rule.AccountActivityConditionsR
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 
 public class ConditionsRuleCreator extends AbstractRuleCreator<AccountActivityConditionsRuleConfig> {
 
+    private static final int MAXIMUM_PREPARED_CONDITIONS_CACHE_SIZE = 10_000;
+
+    // rule configurations are compared by value, since account is usually built anew for each request
+    private final Map<AccountActivityConditionsRuleConfig, PreparedConditions> preparedConditionsByConfig;
+
     public ConditionsRuleCreator() {
         super(AccountActivityConditionsRuleConfig.class);
+
+        preparedConditionsByConfig = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_PREPARED_CONDITIONS_CACHE_SIZE)
+                .<AccountActivityConditionsRuleConfig, PreparedConditions>build()
+                .asMap();
     }
 
     @Override
     protected Rule fromConfiguration(AccountActivityConditionsRuleConfig ruleConfiguration,
                                      ActivityControllerCreationContext creationContext) {
 
-        final boolean allow = allowFromConfig(ruleConfiguration.getAllow());
-        final AccountActivityConditionsRuleConfig.Condition condition = ruleConfiguration.getCondition();
+        final PreparedConditions conditions = preparedConditionsByConfig.computeIfAbsent(
+                ruleConfiguration, ConditionsRuleCreator::prepareConditions);
 
         return new ConditionsRule(
+                conditions.componentTypes(),
+                conditions.componentNames(),
+                sidsMatched(conditions.sids(), creationContext.getGppContext().scope().getSectionsIds()),
+                conditions.geoCodes(),
+                conditions.gpc(),
+                conditions.allow());
+    }
+
+    private static PreparedConditions prepareConditions(AccountActivityConditionsRuleConfig ruleConfiguration) {
+        final AccountActivityConditionsRuleConfig.Condition condition = ruleConfiguration.getCondition();
+
+        return new PreparedConditions(
                 condition != null ? setOf(condition.getComponentTypes()) : null,
                 condition != null ? caseInsensitiveSetOf(condition.getComponentNames()) : null,
-                sidsMatched(condition, creationContext.getGppContext().scope().getSectionsIds()),
+                condition != null ? condition.getSids() : null,
                 condition != null ? geoCodes(condition.getGeoCodes()) : null,
                 condition != null ? condition.getGpc() : null,
-                allow);
+                allowFromConfig(ruleConfiguration.getAllow()));
     }
 
     private static boolean allowFromConfig(Boolean configValue) {
@@ -56,8 +80,7 @@ public class ConditionsRuleCreator extends AbstractRuleCreator<AccountActivityCo
         return caseInsensitiveSet;
     }
 
-    private static boolean sidsMatched(AccountActivityConditionsRuleConfig.Condition condition, Set<Integer> gppSids) {
-        final List<Integer> sids = condition != null ? condition.getSids() : null;
+    private static boolean sidsMatched(List<Integer> sids, Set<Integer> gppSids) {
         return sids == null || intersects(sids, gppSids);
     }
 
@@ -91,4 +114,12 @@ public class ConditionsRuleCreator extends AbstractRuleCreator<AccountActivityCo
                 stringGeoCode.substring(0, firstDot),
                 stringGeoCode.substring(firstDot + 1));
     }
+
+    private record PreparedConditions(Set<ComponentType> componentTypes,
+                                      Set<String> componentNames,
+                                      List<Integer> sids,
+                                      List<ConditionsRule.GeoCode> geoCodes,
+                                      String gpc,
+                                      boolean allow) {
+    }
 }
@@ -126,6 +126,10 @@ public class ActivityInfrastructureDebug {
         return Collections.unmodifiableSet(skippedPrivacyModules);
     }
 
+    public boolean isTraceEnabled() {
+        return atLeast(TraceLevel.basic);
+    }
+
     private boolean atLeast(TraceLevel minTraceLevel) {
         return traceLevel != null && traceLevel.ordinal() >= minTraceLevel.ordinal();
     }
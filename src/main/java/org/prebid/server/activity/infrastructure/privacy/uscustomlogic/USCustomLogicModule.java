@@ -3,13 +3,12 @@ package org.prebid.server.activity.infrastructure.privacy.uscustomlogic;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.TextNode;
-import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
 import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
 import org.prebid.server.activity.infrastructure.debug.Loggable;
 import org.prebid.server.activity.infrastructure.payload.ActivityInvocationPayload;
 import org.prebid.server.activity.infrastructure.privacy.PrivacyModule;
 import org.prebid.server.exception.PreBidException;
-import org.prebid.server.json.JsonLogic;
+import org.prebid.server.json.CompiledJsonLogic;
 
 import java.util.Map;
 import java.util.function.Supplier;
@@ -18,12 +17,9 @@ public class USCustomLogicModule implements PrivacyModule, Loggable {
 
     private final Result result;
 
-    public USCustomLogicModule(JsonLogic jsonLogic,
-                               JsonLogicNode jsonLogicNode,
-                               Supplier<Map<String, Object>> dataSupplier) {
-
+    public USCustomLogicModule(CompiledJsonLogic jsonLogic, Supplier<Map<String, Object>> dataSupplier) {
         try {
-            result = jsonLogic.evaluate(jsonLogicNode, dataSupplier.get())
+            result = jsonLogic.evaluate(dataSupplier.get())
                     ? Result.DISALLOW
                     : Result.ALLOW;
         } catch (JsonLogicEvaluationException e) {
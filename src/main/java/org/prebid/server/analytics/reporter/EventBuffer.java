@@ -0,0 +1,79 @@
+package org.prebid.server.analytics.reporter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free buffer of analytics events shared by reporters.
+ * <p>
+ * Any number of threads can put events concurrently, while polling is done by a single consumer at a time:
+ * a thread that finds the buffer being polled by another one gets nothing, since its events will be taken
+ * by that consumer or by the next flush.
+ */
+public class EventBuffer<T> {
+
+    private final long maxEvents;
+
+    private final long maxBytes;
+
+    private final Queue<Event<T>> events = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong eventsCount = new AtomicLong();
+
+    private final AtomicLong byteSize = new AtomicLong();
+
+    private final AtomicBoolean polling = new AtomicBoolean();
+
+    public EventBuffer(long maxEvents, long maxBytes) {
+        this.maxEvents = maxEvents;
+        this.maxBytes = maxBytes;
+    }
+
+    public void put(T event, long eventSize) {
+        events.add(new Event<>(event, eventSize));
+        eventsCount.incrementAndGet();
+        byteSize.addAndGet(eventSize);
+    }
+
+    public List<T> pollToFlush() {
+        return eventsCount.get() >= maxEvents || byteSize.get() >= maxBytes
+                ? poll()
+                : Collections.emptyList();
+    }
+
+    public List<T> pollAll() {
+        return poll();
+    }
+
+    private List<T> poll() {
+        if (!polling.compareAndSet(false, true)) {
+            return Collections.emptyList();
+        }
+
+        try {
+            final List<T> polled = new ArrayList<>();
+            long polledBytes = 0;
+
+            Event<T> event;
+            while ((event = events.poll()) != null) {
+                polled.add(event.value());
+                polledBytes += event.size();
+            }
+
+            eventsCount.addAndGet(-polled.size());
+            byteSize.addAndGet(-polledBytes);
+
+            return polled;
+        } finally {
+            polling.set(false);
+        }
+    }
+
+    private record Event<T>(T value, long size) {
+    }
+}
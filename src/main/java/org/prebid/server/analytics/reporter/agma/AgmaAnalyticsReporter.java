@@ -22,6 +22,7 @@ import org.prebid.server.analytics.AnalyticsReporter;
 import org.prebid.server.analytics.model.AmpEvent;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.VideoEvent;
+import org.prebid.server.analytics.reporter.EventBuffer;
 import org.prebid.server.analytics.reporter.agma.model.AgmaAnalyticsProperties;
 import org.prebid.server.analytics.reporter.agma.model.AgmaEvent;
 import org.prebid.server.auction.model.AuctionContext;
@@ -211,10 +212,9 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
         if (events.isEmpty()) {
             return;
         }
-        final String payload = preparePayload(events);
         final Future<HttpClientResponse> responseFuture = compressToGzip
-                ? httpClient.request(HttpMethod.POST, url, headers, gzip(payload), httpTimeoutMs)
-                : httpClient.request(HttpMethod.POST, url, headers, payload, httpTimeoutMs);
+                ? httpClient.request(HttpMethod.POST, url, headers, gzip(events), httpTimeoutMs)
+                : httpClient.request(HttpMethod.POST, url, headers, preparePayload(events), httpTimeoutMs);
 
         responseFuture.onComplete(this::handleReportResponse);
     }
@@ -223,11 +223,18 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
         return "[" + String.join(",", events) + "]";
     }
 
-    private static byte[] gzip(String value) {
+    private static byte[] gzip(List<String> events) {
         try (ByteArrayOutputStream obj = new ByteArrayOutputStream();
                 GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
 
-            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+            gzip.write('[');
+            for (int i = 0; i < events.size(); i++) {
+                if (i > 0) {
+                    gzip.write(',');
+                }
+                gzip.write(events.get(i).getBytes(StandardCharsets.UTF_8));
+            }
+            gzip.write(']');
             gzip.finish();
 
             return obj.toByteArray();
@@ -7,6 +7,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import org.prebid.server.analytics.reporter.EventBuffer;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
@@ -19,13 +20,9 @@ import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Predicate;
 import java.util.zip.GZIPOutputStream;
 
 public class PubstackEventHandler {
@@ -34,23 +31,20 @@ public class PubstackEventHandler {
     private static final String SCOPE_FIELD_NAME = "scope";
     private static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
     private static final String GZIP = "gzip";
-    private static final String NEW_LINE = "\n";
+    private static final byte NEW_LINE = '\n';
 
     private volatile boolean enabled;
     private volatile String endpoint;
     private volatile String scopeId;
-    private final long maxByteSize;
-    private final long maxEventCount;
     private final long reportTtlMillis;
     private final long timeoutMs;
     private final Vertx vertx;
     private final JacksonMapper jacksonMapper;
     private final HttpClient httpClient;
 
-    private final ReentrantLock lockOnSend;
-    private final AtomicReference<Queue<String>> events;
+    private final ReentrantLock lockOnTimerReset;
+    private final EventBuffer<String> events;
     private final MultiMap headers;
-    private final AtomicLong byteSize;
     private volatile long reportTimerId;
 
     public PubstackEventHandler(PubstackAnalyticsProperties pubstackAnalyticsProperties,
@@ -62,18 +56,18 @@ public class PubstackEventHandler {
         this.enabled = enabled;
         this.endpoint = HttpUtil.validateUrl(endpoint);
         this.scopeId = pubstackAnalyticsProperties.getScopeId();
-        this.maxByteSize = pubstackAnalyticsProperties.getSizeBytes();
-        this.maxEventCount = pubstackAnalyticsProperties.getCount();
         this.reportTtlMillis = pubstackAnalyticsProperties.getReportTtlMs();
         this.timeoutMs = pubstackAnalyticsProperties.getTimeoutMs();
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.httpClient = Objects.requireNonNull(httpClient);
         this.vertx = Objects.requireNonNull(vertx);
 
-        this.lockOnSend = new ReentrantLock();
-        this.events = new AtomicReference<>(new ConcurrentLinkedQueue<>());
+        this.lockOnTimerReset = new ReentrantLock();
+        // events are sent once buffer limits are exceeded, not just reached
+        this.events = new EventBuffer<>(
+                pubstackAnalyticsProperties.getCount() + 1,
+                pubstackAnalyticsProperties.getSizeBytes() + 1);
         this.headers = makeHeaders();
-        this.byteSize = new AtomicLong();
         if (enabled) {
             this.reportTimerId = setReportTtlTimer();
         }
@@ -82,14 +76,13 @@ public class PubstackEventHandler {
     public <T> void handle(T event) {
         if (enabled) {
             buffer(event);
-            reportEventsOnCondition(byteSize -> byteSize.get() > maxByteSize, byteSize);
-            reportEventsOnCondition(eventsReference -> eventsReference.get().size() > maxEventCount, events);
+            sendEvents(events.pollToFlush());
         }
     }
 
     public void reportEvents() {
         if (enabled) {
-            reportEventsOnCondition(events -> !events.get().isEmpty(), events);
+            sendEvents(events.pollAll());
         }
     }
 
@@ -104,55 +97,49 @@ public class PubstackEventHandler {
         final ObjectNode eventNode = jacksonMapper.mapper().valueToTree(event);
         eventNode.put(SCOPE_FIELD_NAME, scopeId);
         final String jsonEvent = jacksonMapper.encodeToString(eventNode);
-        events.get().add(jsonEvent);
-        byteSize.getAndAdd(jsonEvent.getBytes().length);
+        events.put(jsonEvent, jsonEvent.getBytes().length);
     }
 
-    private <T> boolean reportEventsOnCondition(Predicate<T> conditionToSend, T conditionValue) {
-        boolean requestWasSent = false;
-        if (conditionToSend.test(conditionValue)) {
-            lockOnSend.lock();
-            try {
-                if (conditionToSend.test(conditionValue)) {
-                    requestWasSent = true;
-                    sendEvents(events);
-                }
-            } catch (Exception exception) {
-                logger.error("[pubstack] Failed to send analytics report to endpoint {} with a reason {}",
-                        endpoint, exception.getMessage());
-            } finally {
-                lockOnSend.unlock();
-            }
+    private boolean sendEvents(List<String> toSend) {
+        if (toSend.isEmpty()) {
+            return false;
         }
-        return requestWasSent;
-    }
 
-    private void sendEvents(AtomicReference<Queue<String>> events) {
-        final String url = HttpUtil.validateUrl(endpoint);
-        final Queue<String> copyToSend = events.getAndSet(new ConcurrentLinkedQueue<>());
+        try {
+            final String url = HttpUtil.validateUrl(endpoint);
+            resetReportTtlTimer();
 
-        resetReportEventsConditions();
-
-        httpClient.request(HttpMethod.POST, url, headers, toGzippedBytes(copyToSend), timeoutMs)
-                .onComplete(this::handleReportResponse);
-    }
+            httpClient.request(HttpMethod.POST, url, headers, toGzippedBytes(toSend), timeoutMs)
+                    .onComplete(this::handleReportResponse);
+        } catch (Exception exception) {
+            logger.error("[pubstack] Failed to send analytics report to endpoint {} with a reason {}",
+                    endpoint, exception.getMessage());
+        }
 
-    private void resetReportEventsConditions() {
-        byteSize.set(0);
-        vertx.cancelTimer(reportTimerId);
-        reportTimerId = setReportTtlTimer();
+        return true;
     }
 
-    private static byte[] toGzippedBytes(Queue<String> events) {
-        return gzip(String.join(NEW_LINE, events));
+    private void resetReportTtlTimer() {
+        lockOnTimerReset.lock();
+        try {
+            vertx.cancelTimer(reportTimerId);
+            reportTimerId = setReportTtlTimer();
+        } finally {
+            lockOnTimerReset.unlock();
+        }
     }
 
-    private static byte[] gzip(String value) {
+    private static byte[] toGzippedBytes(List<String> events) {
         try (
                 ByteArrayOutputStream obj = new ByteArrayOutputStream();
                 GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
 
-            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+            for (int i = 0; i < events.size(); i++) {
+                if (i > 0) {
+                    gzip.write(NEW_LINE);
+                }
+                gzip.write(events.get(i).getBytes(StandardCharsets.UTF_8));
+            }
             gzip.finish();
 
             return obj.toByteArray();
@@ -179,7 +166,7 @@ public class PubstackEventHandler {
     }
 
     private void sendOnTimer() {
-        final boolean requestWasSent = reportEventsOnCondition(events -> !events.get().isEmpty(), events);
+        final boolean requestWasSent = sendEvents(events.pollAll());
         if (!requestWasSent) {
             setReportTtlTimer();
         }
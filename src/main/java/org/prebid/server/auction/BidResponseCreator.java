@@ -410,7 +410,7 @@ public class BidResponseCreator {
                                                            BidRequestCacheInfo cacheInfo,
                                                            AuctionContext auctionContext) {
 
-        final List<Imp> imps = auctionContext.getBidRequest().getImp();
+        final Map<String, Imp> idToImp = idToImp(auctionContext.getBidRequest().getImp());
         final Account account = auctionContext.getAccount();
         final List<BidderResponseInfo> result = new ArrayList<>();
         final List<BidderResponse> bidderResponses = categoryMappingResult.getBidderResponses();
@@ -460,7 +460,7 @@ public class BidResponseCreator {
                             bidderBid.getBid(),
                             bidderBid.getType(),
                             seat,
-                            imps,
+                            idToImp,
                             bidder,
                             categoryMappingResult,
                             cacheInfo,
@@ -490,13 +490,13 @@ public class BidResponseCreator {
     private BidInfo toBidInfo(Bid bid,
                               BidType type,
                               String seat,
-                              List<Imp> imps,
+                              Map<String, Imp> idToImp,
                               String bidder,
                               CategoryMappingResult categoryMappingResult,
                               BidRequestCacheInfo cacheInfo,
                               Account account) {
 
-        final Imp correspondingImp = correspondingImp(bid, imps);
+        final Imp correspondingImp = correspondingImp(bid, idToImp);
         return BidInfo.builder()
                 .bid(bid)
                 .bidType(type)
@@ -510,18 +510,23 @@ public class BidResponseCreator {
                 .build();
     }
 
-    private static Imp correspondingImp(Bid bid, List<Imp> imps) {
+    /**
+     * Returns imps by their ids, so corresponding imp is found without scanning all imps for every bid.
+     */
+    private static Map<String, Imp> idToImp(List<Imp> imps) {
+        return imps.stream().collect(Collectors.toMap(Imp::getId, Function.identity(), (first, second) -> first));
+    }
+
+    private static Imp correspondingImp(Bid bid, Map<String, Imp> idToImp) {
         final String impId = bid.getImpid();
-        return correspondingImp(impId, imps)
+        return correspondingImp(impId, idToImp)
                 // Should never occur. See ResponseBidValidator
                 .orElseThrow(
                         () -> new PreBidException("Bid with impId %s doesn't have matched imp".formatted(impId)));
     }
 
-    private static Optional<Imp> correspondingImp(String impId, List<Imp> imps) {
-        return imps.stream()
-                .filter(imp -> Objects.equals(impId, imp.getId()))
-                .findFirst();
+    private static Optional<Imp> correspondingImp(String impId, Map<String, Imp> idToImp) {
+        return Optional.ofNullable(idToImp.get(impId));
     }
 
     private Integer resolveTtl(Bid bid, BidType type, Imp imp, BidRequestCacheInfo cacheInfo, Account account) {
@@ -892,9 +897,9 @@ public class BidResponseCreator {
                 : Collections.emptyList();
 
         // TODO: Remove after transition period
-        final List<Imp> imps = auctionContext.getBidRequest().getImp();
+        final Map<String, Imp> idToImp = idToImp(auctionContext.getBidRequest().getImp());
         final List<FledgeAuctionConfig> deprecatedFledgeConfigs = bidderResponseInfos.stream()
-                .flatMap(bidderResponseInfo -> toDeprecatedFledgeConfigs(bidderResponseInfo, imps))
+                .flatMap(bidderResponseInfo -> toDeprecatedFledgeConfigs(bidderResponseInfo, idToImp))
                 .toList();
 
         final List<FledgeAuctionConfig> combinedFledgeConfigs = ListUtils.union(deprecatedFledgeConfigs, fledgeConfigs);
@@ -1008,20 +1013,20 @@ public class BidResponseCreator {
     }
 
     private Stream<FledgeAuctionConfig> toDeprecatedFledgeConfigs(BidderResponseInfo bidderResponseInfo,
-                                                                  List<Imp> imps) {
+                                                                  Map<String, Imp> idToImp) {
 
         return Optional.ofNullable(bidderResponseInfo.getSeatBid().getFledgeAuctionConfigs())
                 .stream()
                 .flatMap(Collection::stream)
-                .filter(fledgeConfig -> validateFledgeConfig(fledgeConfig, imps))
+                .filter(fledgeConfig -> validateFledgeConfig(fledgeConfig, idToImp))
                 .map(fledgeConfig -> fledgeConfigWithBidder(
                         fledgeConfig,
                         bidderResponseInfo.getSeat(),
                         bidderResponseInfo.getAdapterCode()));
     }
 
-    private boolean validateFledgeConfig(FledgeAuctionConfig fledgeAuctionConfig, List<Imp> imps) {
-        final ExtImpAuctionEnvironment fledgeEnabled = correspondingImp(fledgeAuctionConfig.getImpId(), imps)
+    private boolean validateFledgeConfig(FledgeAuctionConfig fledgeAuctionConfig, Map<String, Imp> idToImp) {
+        final ExtImpAuctionEnvironment fledgeEnabled = correspondingImp(fledgeAuctionConfig.getImpId(), idToImp)
                 .map(Imp::getExt)
                 .map(ext -> convertValue(ext, "ae", ExtImpAuctionEnvironment.class))
                 .orElse(ExtImpAuctionEnvironment.SERVER_SIDE_AUCTION);
@@ -0,0 +1,136 @@
+package org.prebid.server.auction;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.SlidingWindowReservoir;
+import lombok.Value;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps rolling response time distribution of each bidder and uses it to schedule bidder timeouts.
+ * <p>
+ * Once enough responses are collected, bidders get the timeout of the configured latency percentile multiplied
+ * by the headroom factor instead of the whole remaining auction budget, so the auction is not held for the bidders
+ * usually responding fast. The headroom lets the timeout grow back, since responses are cut by the timeout itself,
+ * and the minimum timeout keeps bidders from being starved by a window of too fast responses.
+ */
+public class BidderLatencyTracker {
+
+    private static final int LATENCY_SAMPLES_NUMBER = 1024;
+    private static final int STATS_REFRESH_SAMPLES_NUMBER = 64;
+
+    private final double percentile;
+    private final double headroomFactor;
+    private final long minTimeoutMs;
+    private final long minSamples;
+    private final boolean skipSlowBidders;
+
+    private final Map<String, BidderLatency> bidderLatencies;
+
+    public BidderLatencyTracker(double percentile,
+                                double headroomFactor,
+                                long minTimeoutMs,
+                                long minSamples,
+                                boolean skipSlowBidders) {
+
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("Latency percentile should be between 0 and 1");
+        }
+        if (headroomFactor < 1) {
+            throw new IllegalArgumentException("Latency headroom factor cannot be less than 1");
+        }
+        if (minTimeoutMs < 0) {
+            throw new IllegalArgumentException("Minimum bidder timeout cannot be negative");
+        }
+
+        this.percentile = percentile;
+        this.headroomFactor = headroomFactor;
+        this.minTimeoutMs = minTimeoutMs;
+        this.minSamples = minSamples;
+        this.skipSlowBidders = skipSlowBidders;
+
+        bidderLatencies = new ConcurrentHashMap<>();
+    }
+
+    public void recordResponseTime(String bidder, long responseTimeMs) {
+        bidderLatencies.computeIfAbsent(bidder, ignored -> new BidderLatency()).record(responseTimeMs);
+    }
+
+    /**
+     * Returns timeout for the bidder limited by its usual response time, but not below the minimum timeout,
+     * or the given one if it is not known yet.
+     */
+    public long limitTimeout(String bidder, long timeout) {
+        final LatencyStats stats = statsFor(bidder);
+        return stats != null ? Math.min(timeout, stats.getTimeout()) : timeout;
+    }
+
+    /**
+     * Tells if the bidder is not worth requesting because its median response time exceeds the remaining timeout.
+     */
+    public boolean isTooSlow(String bidder, long remainingTimeout) {
+        if (!skipSlowBidders) {
+            return false;
+        }
+
+        final LatencyStats stats = statsFor(bidder);
+        return stats != null && stats.getP50() > remainingTimeout;
+    }
+
+    /**
+     * Returns current latency statistics per bidder, sorted by bidder name.
+     */
+    public Map<String, LatencyStats> stats() {
+        final Map<String, LatencyStats> stats = new TreeMap<>();
+        bidderLatencies.forEach((bidder, latency) -> {
+            if (latency.stats != null) {
+                stats.put(bidder, latency.stats);
+            }
+        });
+        return stats;
+    }
+
+    private LatencyStats statsFor(String bidder) {
+        final BidderLatency latency = bidderLatencies.get(bidder);
+        return latency != null ? latency.stats : null;
+    }
+
+    private class BidderLatency {
+
+        private final Histogram responseTimes = new Histogram(new SlidingWindowReservoir(LATENCY_SAMPLES_NUMBER));
+
+        private volatile LatencyStats stats;
+
+        private void record(long responseTimeMs) {
+            responseTimes.update(responseTimeMs);
+
+            final long samplesNumber = responseTimes.getCount();
+            if (samplesNumber >= minSamples && samplesNumber % STATS_REFRESH_SAMPLES_NUMBER == 0) {
+                final Snapshot snapshot = responseTimes.getSnapshot();
+                stats = LatencyStats.of(
+                        samplesNumber,
+                        Math.round(snapshot.getMedian()),
+                        Math.round(snapshot.get95thPercentile()),
+                        Math.round(snapshot.get99thPercentile()),
+                        Math.max(minTimeoutMs, Math.round(snapshot.getValue(percentile) * headroomFactor)));
+            }
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    public static class LatencyStats {
+
+        long count;
+
+        long p50;
+
+        long p95;
+
+        long p99;
+
+        long timeout;
+    }
+}
@@ -127,6 +127,7 @@ public class ExchangeService {
     private static final String PREBID_EXT = "prebid";
     private static final String PREBID_META_EXT = "meta";
     private static final String BIDDER_EXT = "bidder";
+    private static final String PREBID_IMP_EXT = "imp";
     private static final String TID_EXT = "tid";
     private static final String ALL_BIDDERS_CONFIG = "*";
     private static final Integer DEFAULT_MULTIBID_LIMIT_MIN = 1;
@@ -147,6 +148,7 @@ public class ExchangeService {
     private final MediaTypeProcessor mediaTypeProcessor;
     private final UidUpdater uidUpdater;
     private final TimeoutResolver timeoutResolver;
+    private final BidderLatencyTracker bidderLatencyTracker;
     private final TimeoutFactory timeoutFactory;
     private final BidRequestOrtbVersionConversionManager ortbVersionConversionManager;
     private final HttpBidderRequester httpBidderRequester;
@@ -174,6 +176,7 @@ public class ExchangeService {
                            MediaTypeProcessor mediaTypeProcessor,
                            UidUpdater uidUpdater,
                            TimeoutResolver timeoutResolver,
+                           BidderLatencyTracker bidderLatencyTracker,
                            TimeoutFactory timeoutFactory,
                            BidRequestOrtbVersionConversionManager ortbVersionConversionManager,
                            HttpBidderRequester httpBidderRequester,
@@ -201,6 +204,7 @@ public class ExchangeService {
         this.mediaTypeProcessor = Objects.requireNonNull(mediaTypeProcessor);
         this.uidUpdater = Objects.requireNonNull(uidUpdater);
         this.timeoutResolver = Objects.requireNonNull(timeoutResolver);
+        this.bidderLatencyTracker = bidderLatencyTracker;
         this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
         this.ortbVersionConversionManager = Objects.requireNonNull(ortbVersionConversionManager);
         this.httpBidderRequester = Objects.requireNonNull(httpBidderRequester);
@@ -908,12 +912,36 @@ public class ExchangeService {
 
         return bidRequest.getImp().stream()
                 .filter(imp -> bidderParamsFromImpExt(imp.getExt()).hasNonNull(bidder))
-                .map(imp -> imp.toBuilder().ext(imp.getExt().deepCopy()).build())
+                .map(imp -> imp.toBuilder().ext(copyImpExtForBidder(imp.getExt(), bidder)).build())
                 .map(imp -> impAdjuster.adjust(imp, bidder, debugWarnings))
                 .map(imp -> prepareImp(imp, bidder, bidRequest, transmitTid, useFirstPartyData, account, debugWarnings))
                 .toList();
     }
 
+    /**
+     * Copies imp extension for the bidder. Only nodes that are modified while preparing the bidder request are copied,
+     * the others are shared with the original imp. The params of other bidders are left out of the copy,
+     * so it does not grow with the number of bidders in the auction.
+     */
+    private static ObjectNode copyImpExtForBidder(ObjectNode impExt, String bidder) {
+        if (!(impExt.get(PREBID_EXT) instanceof ObjectNode impExtPrebid)) {
+            return impExt.deepCopy();
+        }
+
+        final ObjectNode bidderParams = impExtPrebid.objectNode()
+                .set(bidder, bidderParamsFromImpExt(impExt).get(bidder).deepCopy());
+
+        final ObjectNode impExtPrebidCopy = impExtPrebid.objectNode().setAll(impExtPrebid);
+        impExtPrebidCopy.set(BIDDER_EXT, bidderParams);
+        // modified by imp adjuster
+        Optional.ofNullable(impExtPrebid.get(PREBID_IMP_EXT))
+                .ifPresent(impExtPrebidImp -> impExtPrebidCopy.set(PREBID_IMP_EXT, impExtPrebidImp.deepCopy()));
+
+        final ObjectNode impExtCopy = impExt.objectNode().setAll(impExt);
+        impExtCopy.set(PREBID_EXT, impExtPrebidCopy);
+        return impExtCopy;
+    }
+
     private Imp prepareImp(Imp imp,
                            String bidder,
                            BidRequest bidRequest,
@@ -961,13 +989,11 @@ public class ExchangeService {
             return null;
         }
 
-        final Iterator<String> fieldsIterator = extImpPrebid.fieldNames();
-        final ObjectNode modifiedExtImpPrebid = extImpPrebid.deepCopy();
+        final ObjectNode modifiedExtImpPrebid = mapper.mapper().createObjectNode();
 
-        while (fieldsIterator.hasNext()) {
-            final String fieldName = fieldsIterator.next();
-            if (!BIDDER_FIELDS_EXCEPTION_LIST.contains(fieldName)) {
-                modifiedExtImpPrebid.remove(fieldName);
+        for (Map.Entry<String, JsonNode> field : extImpPrebid.properties()) {
+            if (BIDDER_FIELDS_EXCEPTION_LIST.contains(field.getKey())) {
+                modifiedExtImpPrebid.set(field.getKey(), field.getValue().deepCopy());
             }
         }
 
@@ -1175,6 +1201,13 @@ public class ExchangeService {
                     List.of(BidderError.generic("No match between the configured currencies and bidRequest.cur")),
                     bidderName);
         }
+        if (isTooSlow(aliases.resolveBidder(bidderName), timeout)) {
+            return processReject(
+                    auctionContext,
+                    BidRejectionReason.REQUEST_BLOCKED_OPTIMIZED,
+                    List.of(BidderError.generic("Bidder median response time exceeds the remaining timeout")),
+                    bidderName);
+        }
 
         return Future.succeededFuture(mediaTypeProcessingResult.getBidRequest())
                 .map(bidderRequest::with)
@@ -1198,6 +1231,10 @@ public class ExchangeService {
         return !CollectionUtils.containsAny(requestCurrencies, bidAcceptableCurrencies);
     }
 
+    private boolean isTooSlow(String resolvedBidderName, Timeout timeout) {
+        return bidderLatencyTracker != null && bidderLatencyTracker.isTooSlow(resolvedBidderName, timeout.remaining());
+    }
+
     private static Future<BidderResponse> processReject(AuctionContext auctionContext,
                                                         BidRejectionReason bidRejectionReason,
                                                         List<BidderError> warnings,
@@ -1278,7 +1315,12 @@ public class ExchangeService {
 
         return Future.succeededFuture(bidderRequest.getBidRequest())
                 .map(bidRequest -> adjustTmax(
-                        bidRequest, auctionStartTime, adjustmentFactor, bidderRequestStartTime, bidderTmaxDeductionMs))
+                        bidRequest,
+                        resolvedBidderName,
+                        auctionStartTime,
+                        adjustmentFactor,
+                        bidderRequestStartTime,
+                        bidderTmaxDeductionMs))
                 .map(bidRequest -> ortbVersionConversionManager.convertFromAuctionSupportedVersion(
                         bidRequest, bidderRequest.getOrtbVersion()))
                 .map(bidderRequest::with)
@@ -1286,12 +1328,20 @@ public class ExchangeService {
                         bidder,
                         convertedBidderRequest,
                         bidRejectionTracker,
-                        adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime),
+                        adjustTimeout(timeout, resolvedBidderName, auctionStartTime, bidderRequestStartTime),
                         requestHeaders,
                         aliases,
                         debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName)))
                 .map(seatBid -> populateBidderCode(seatBid, bidderName, resolvedBidderName))
-                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)));
+                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)))
+                .onSuccess(bidderResponse -> recordResponseTime(resolvedBidderName, bidderResponse));
+    }
+
+    private void recordResponseTime(String resolvedBidderName, BidderResponse bidderResponse) {
+        // responses without HTTP calls made or with timed out ones tell nothing about the bidder latency
+        if (bidderLatencyTracker != null && bidderResponse.getSeatBid().isRespondedInTime()) {
+            bidderLatencyTracker.recordResponseTime(resolvedBidderName, bidderResponse.getResponseTime());
+        }
     }
 
     private BidderSeatBid populateBidderCode(BidderSeatBid seatBid, String bidderName, String resolvedBidderName) {
@@ -1328,26 +1378,33 @@ public class ExchangeService {
     }
 
     private BidRequest adjustTmax(BidRequest bidRequest,
+                                  String resolvedBidderName,
                                   long startTime,
                                   int adjustmentFactor,
                                   long currentTime,
                                   long bidderTmaxDeductionMs) {
 
         final long tmax = timeoutResolver.limitToMax(bidRequest.getTmax());
-        final long adjustedTmax = timeoutResolver.adjustForBidder(
-                tmax, adjustmentFactor, currentTime - startTime, bidderTmaxDeductionMs);
+        final long adjustedTmax = limitToBidderLatency(resolvedBidderName, timeoutResolver.adjustForBidder(
+                tmax, adjustmentFactor, currentTime - startTime, bidderTmaxDeductionMs));
 
         return tmax != adjustedTmax
                 ? bidRequest.toBuilder().tmax(adjustedTmax).build()
                 : bidRequest;
     }
 
-    private Timeout adjustTimeout(Timeout timeout, long startTime, long currentTime) {
-        final long adjustedTmax = timeoutResolver.adjustForRequest(
-                timeout.getDeadline() - startTime, currentTime - startTime);
+    private Timeout adjustTimeout(Timeout timeout, String resolvedBidderName, long startTime, long currentTime) {
+        final long adjustedTmax = limitToBidderLatency(resolvedBidderName, timeoutResolver.adjustForRequest(
+                timeout.getDeadline() - startTime, currentTime - startTime));
         return timeoutFactory.create(currentTime, adjustedTmax);
     }
 
+    private long limitToBidderLatency(String resolvedBidderName, long timeout) {
+        return bidderLatencyTracker != null
+                ? bidderLatencyTracker.limitTimeout(resolvedBidderName, timeout)
+                : timeout;
+    }
+
     private BidderResponse rejectBidderResponseOrProceed(HookStageExecutionResult<BidderResponsePayload> stageResult,
                                                          BidderResponse bidderResponse) {
 
@@ -1,6 +1,7 @@
 package org.prebid.server.auction.externalortb;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
@@ -24,6 +25,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtStoredRequest;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.VideoStoredDataResult;
 import org.prebid.server.util.ObjectUtil;
@@ -47,7 +49,7 @@ public class StoredRequestProcessor {
     private static final String OVERRIDE_BID_REQUEST_ID_TEMPLATE = "{{UUID}}";
 
     private final long defaultTimeout;
-    private final BidRequest defaultBidRequest;
+    private final JsonNode defaultBidRequest;
     private final boolean generateBidRequestId;
     private final ApplicationSettings applicationSettings;
     private final IdGenerator idGenerator;
@@ -55,6 +57,7 @@ public class StoredRequestProcessor {
     private final TimeoutFactory timeoutFactory;
     private final JacksonMapper mapper;
     private final JsonMerger jsonMerger;
+    private final ParsedStoredDataCache parsedStoredDataCache;
 
     public StoredRequestProcessor(long defaultTimeout,
                                   String defaultBidRequestPath,
@@ -65,7 +68,8 @@ public class StoredRequestProcessor {
                                   Metrics metrics,
                                   TimeoutFactory timeoutFactory,
                                   JacksonMapper mapper,
-                                  JsonMerger jsonMerger) {
+                                  JsonMerger jsonMerger,
+                                  ParsedStoredDataCache parsedStoredDataCache) {
 
         this.defaultTimeout = defaultTimeout;
         this.defaultBidRequest = readBidRequest(
@@ -77,6 +81,7 @@ public class StoredRequestProcessor {
         this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
         this.mapper = Objects.requireNonNull(mapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+        this.parsedStoredDataCache = Objects.requireNonNull(parsedStoredDataCache);
     }
 
     public Future<AuctionStoredResult> processAuctionRequest(String accountId, BidRequest bidRequest) {
@@ -183,13 +188,20 @@ public class StoredRequestProcessor {
                 id -> metrics.updateStoredImpsMetric(storedDataResult.getStoredIdToImp().containsKey(id)));
     }
 
-    private static BidRequest readBidRequest(String defaultBidRequestPath,
-                                             FileSystem fileSystem,
-                                             JacksonMapper mapper) {
+    /**
+     * Reads default request once and keeps it as a tree, so it is not converted again for each merge.
+     */
+    private static JsonNode readBidRequest(String defaultBidRequestPath,
+                                           FileSystem fileSystem,
+                                           JacksonMapper mapper) {
 
-        return StringUtils.isNotBlank(defaultBidRequestPath)
-                ? mapper.decodeValue(fileSystem.readFileBlocking(defaultBidRequestPath), BidRequest.class)
-                : null;
+        if (StringUtils.isBlank(defaultBidRequestPath)) {
+            return null;
+        }
+
+        final BidRequest defaultBidRequest =
+                mapper.decodeValue(fileSystem.readFileBlocking(defaultBidRequestPath), BidRequest.class);
+        return mapper.mapper().valueToTree(defaultBidRequest);
     }
 
     private VideoStoredDataResult makeVideoStoredDataResult(StoredDataResult<String> storedDataResult,
@@ -263,7 +275,9 @@ public class StoredRequestProcessor {
     }
 
     private BidRequest mergeDefaultRequest(BidRequest bidRequest) {
-        return jsonMerger.merge(bidRequest, defaultBidRequest, BidRequest.class);
+        return defaultBidRequest != null
+                ? jsonMerger.merge(bidRequest, defaultBidRequest, "default", BidRequest.class)
+                : bidRequest;
     }
 
     /**
@@ -274,10 +288,13 @@ public class StoredRequestProcessor {
                                        String storedRequestId,
                                        StoredDataResult<String> storedDataResult) {
 
+        if (StringUtils.isBlank(storedRequestId)) {
+            return originalRequest;
+        }
+
         final String storedRequest = storedDataResult.getStoredIdToRequest().get(storedRequestId);
-        return StringUtils.isNotBlank(storedRequestId)
-                ? jsonMerger.merge(originalRequest, storedRequest, storedRequestId, BidRequest.class)
-                : originalRequest;
+        final JsonNode parsedStoredRequest = parseStoredData(storedRequest, storedRequestId);
+        return jsonMerger.merge(originalRequest, parsedStoredRequest, storedRequestId, BidRequest.class);
     }
 
     /**
@@ -297,13 +314,22 @@ public class StoredRequestProcessor {
             final String storedRequestId = impToStoredId.get(imp);
             if (storedRequestId != null) {
                 final String storedImp = storedDataResult.getStoredIdToImp().get(storedRequestId);
-                final Imp mergedImp = jsonMerger.merge(imp, storedImp, storedRequestId, Imp.class);
+                final Imp mergedImp = jsonMerger.merge(
+                        imp, parseStoredData(storedImp, storedRequestId), storedRequestId, Imp.class);
                 mergedImps.set(i, mergedImp);
             }
         }
         return bidRequest.toBuilder().imp(mergedImps).build();
     }
 
+    private JsonNode parseStoredData(String storedData, String id) {
+        try {
+            return parsedStoredDataCache.parse(storedData);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
+        }
+    }
+
     private BidRequest generateBidRequestIdForApp(BidRequest bidRequest) {
         return bidRequest.getApp() != null
                 ? generateBidRequestId(bidRequest)
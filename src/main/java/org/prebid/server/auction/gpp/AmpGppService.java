@@ -11,6 +11,7 @@ import org.prebid.server.auction.gpp.model.privacy.TcfEuV2Privacy;
 import org.prebid.server.auction.gpp.model.privacy.UspV1Privacy;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.model.UpdateResult;
+import org.prebid.server.privacy.DecodedConsentCache;
 import org.prebid.server.util.ObjectUtil;
 
 import java.util.List;
@@ -20,9 +21,11 @@ import java.util.Optional;
 public class AmpGppService {
 
     private final GppService gppService;
+    private final DecodedConsentCache consentCache;
 
-    public AmpGppService(GppService gppService) {
+    public AmpGppService(GppService gppService, DecodedConsentCache consentCache) {
         this.gppService = Objects.requireNonNull(gppService);
+        this.consentCache = Objects.requireNonNull(consentCache);
     }
 
     public Future<GppContext> contextFrom(AuctionContext auctionContext) {
@@ -34,7 +37,7 @@ public class AmpGppService {
         return Future.succeededFuture(gppContextWrapper.getGppContext());
     }
 
-    private static GppContextWrapper contextFrom(BidRequest bidRequest) {
+    private GppContextWrapper contextFrom(BidRequest bidRequest) {
         final Regs regs = bidRequest.getRegs();
 
         final String gpp = regs != null ? regs.getGpp() : null;
@@ -45,7 +48,7 @@ public class AmpGppService {
 
         final String usPrivacy = regs != null ? regs.getUsPrivacy() : null;
 
-        return GppContextCreator.from(gpp, gppSid)
+        return GppContextCreator.from(gpp, gppSid, consentCache)
                 .with(TcfEuV2Privacy.of(gdpr, consent))
                 .with(UspV1Privacy.of(usPrivacy))
                 .build();
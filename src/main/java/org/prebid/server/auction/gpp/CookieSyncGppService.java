@@ -7,6 +7,7 @@ import org.prebid.server.auction.gpp.model.privacy.TcfEuV2Privacy;
 import org.prebid.server.auction.gpp.model.privacy.UspV1Privacy;
 import org.prebid.server.cookie.model.CookieSyncContext;
 import org.prebid.server.model.UpdateResult;
+import org.prebid.server.privacy.DecodedConsentCache;
 import org.prebid.server.proto.request.CookieSyncRequest;
 
 import java.util.List;
@@ -15,9 +16,11 @@ import java.util.Objects;
 public class CookieSyncGppService {
 
     private final GppService gppService;
+    private final DecodedConsentCache consentCache;
 
-    public CookieSyncGppService(GppService gppService) {
+    public CookieSyncGppService(GppService gppService, DecodedConsentCache consentCache) {
         this.gppService = Objects.requireNonNull(gppService);
+        this.consentCache = Objects.requireNonNull(consentCache);
     }
 
     public GppContext contextFrom(CookieSyncContext cookieSyncContext) {
@@ -29,7 +32,7 @@ public class CookieSyncGppService {
         return gppContextWrapper.getGppContext();
     }
 
-    private static GppContextWrapper contextFrom(CookieSyncRequest cookieSyncRequest) {
+    private GppContextWrapper contextFrom(CookieSyncRequest cookieSyncRequest) {
         final String gpp = cookieSyncRequest.getGpp();
         final List<Integer> gppSid = cookieSyncRequest.getGppSid();
 
@@ -38,7 +41,7 @@ public class CookieSyncGppService {
 
         final String usPrivacy = cookieSyncRequest.getUsPrivacy();
 
-        return GppContextCreator.from(gpp, gppSid)
+        return GppContextCreator.from(gpp, gppSid, consentCache)
                 .with(TcfEuV2Privacy.of(gdpr, consent))
                 .with(UspV1Privacy.of(usPrivacy))
                 .build();
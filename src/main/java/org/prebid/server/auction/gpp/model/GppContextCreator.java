@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Value;
 import org.prebid.server.auction.gpp.model.privacy.Privacy;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.privacy.DecodedConsentCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,11 +18,15 @@ public class GppContextCreator {
     }
 
     public static GppContextBuilder from(String gpp, List<Integer> gppSid) {
+        return from(gpp, gppSid, null);
+    }
+
+    public static GppContextBuilder from(String gpp, List<Integer> gppSid, DecodedConsentCache consentCache) {
         final List<String> errors = new ArrayList<>();
 
         GppModel gppModel;
         try {
-            gppModel = GppContextUtils.gppModel(gpp);
+            gppModel = GppContextUtils.gppModel(gpp, consentCache);
         } catch (PreBidException e) {
             gppModel = null;
             errors.add(e.getMessage());
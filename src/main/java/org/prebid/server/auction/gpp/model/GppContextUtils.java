@@ -6,19 +6,20 @@ import org.prebid.server.auction.gpp.model.privacy.Privacy;
 import org.prebid.server.auction.gpp.model.privacy.TcfEuV2Privacy;
 import org.prebid.server.auction.gpp.model.privacy.UspV1Privacy;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.privacy.DecodedConsentCache;
 
 class GppContextUtils {
 
     private GppContextUtils() {
     }
 
-    static GppModel gppModel(String gpp) {
+    static GppModel gppModel(String gpp, DecodedConsentCache consentCache) {
         if (StringUtils.isEmpty(gpp)) {
             return null;
         }
 
         try {
-            return new GppModelWrapper(gpp);
+            return consentCache != null ? consentCache.decodeGpp(gpp) : new GppModelWrapper(gpp);
         } catch (Exception e) {
             throw new PreBidException("GPP string invalid: " + e.getMessage());
         }
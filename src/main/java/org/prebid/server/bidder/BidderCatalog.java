@@ -1,7 +1,9 @@
 package org.prebid.server.bidder;
 
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -27,6 +29,15 @@ public class BidderCatalog {
     private final Map<String, String> deprecatedNameToError = new CaseInsensitiveMap<>();
     private final Map<Integer, String> vendorIdToBidderName = new HashMap<>();
 
+    // dense ordinals of registered bidders and their properties as bitsets of ordinals, so that properties
+    // of a number of bidders can be checked at once
+    private final Map<String, Integer> bidderNameToOrdinal = new CaseInsensitiveMap<>();
+    private final BitSet activeBidders = new BitSet();
+    private final BitSet usersyncConfiguredBidders = new BitSet();
+    private final BitSet usersyncEnabledBidders = new BitSet();
+    private final BitSet skipSyncInGdprScopeBidders = new BitSet();
+    private final Map<Integer, BitSet> gppSidToSkipSyncBidders = new HashMap<>();
+
     public BidderCatalog(List<BidderDeps> bidderDeps) {
         Objects.requireNonNull(bidderDeps).stream()
                 .map(BidderDeps::getInstances)
@@ -43,6 +54,7 @@ public class BidderCatalog {
         bidderDepsMap.put(bidderName, deps);
         deprecatedNameToError.putAll(createErrorsForDeprecatedNames(deps));
         processVendorId(deps, bidderName);
+        processOrdinal(deps, bidderName);
     }
 
     private void validateBidderName(String bidderName) {
@@ -66,6 +78,26 @@ public class BidderCatalog {
                 .ifPresent(vendorId -> vendorIdToBidderName.put(vendorId, bidderName));
     }
 
+    private void processOrdinal(BidderInstanceDeps deps, String bidderName) {
+        final int ordinal = bidderNameToOrdinal.size();
+        bidderNameToOrdinal.put(bidderName, ordinal);
+
+        final BidderInfo bidderInfo = deps.getBidderInfo();
+        activeBidders.set(ordinal, bidderInfo != null && bidderInfo.isEnabled());
+
+        final Usersyncer usersyncer = deps.getUsersyncer();
+        if (usersyncer == null) {
+            return;
+        }
+
+        usersyncConfiguredBidders.set(ordinal);
+        usersyncEnabledBidders.set(ordinal, usersyncer.isEnabled());
+        skipSyncInGdprScopeBidders.set(ordinal, usersyncer.isSkipWhenInGdprScope());
+        for (Integer gppSid : CollectionUtils.emptyIfNull(usersyncer.getGppSidToSkip())) {
+            gppSidToSkipSyncBidders.computeIfAbsent(gppSid, key -> new BitSet()).set(ordinal);
+        }
+    }
+
     /**
      * Returns a list of registered bidder names.
      */
@@ -207,6 +239,58 @@ public class BidderCatalog {
                 .map(Usersyncer::getCookieFamilyName);
     }
 
+    /**
+     * Returns ordinal of the registered bidder or -1 if there is none. Ordinals are dense and stay the same
+     * for the catalog lifetime, so they are used to work with sets of bidders as {@link BitSet}s returned by
+     * this catalog. Each of these bitsets is a copy the caller is free to modify.
+     */
+    public int ordinal(String name) {
+        final Integer ordinal = name != null ? bidderNameToOrdinal.get(name) : null;
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * Returns ordinals of bidders enabled and ready for auction.
+     */
+    public BitSet activeBidders() {
+        return (BitSet) activeBidders.clone();
+    }
+
+    /**
+     * Returns ordinals of bidders having {@link Usersyncer}.
+     */
+    public BitSet usersyncConfiguredBidders() {
+        return (BitSet) usersyncConfiguredBidders.clone();
+    }
+
+    /**
+     * Returns ordinals of bidders having enabled {@link Usersyncer}.
+     */
+    public BitSet usersyncEnabledBidders() {
+        return (BitSet) usersyncEnabledBidders.clone();
+    }
+
+    /**
+     * Returns ordinals of bidders which {@link Usersyncer} skips sync when request is in GDPR scope.
+     */
+    public BitSet skipSyncInGdprScopeBidders() {
+        return (BitSet) skipSyncInGdprScopeBidders.clone();
+    }
+
+    /**
+     * Returns ordinals of bidders which {@link Usersyncer} skips sync for any of the given GPP section IDs.
+     */
+    public BitSet skipSyncForGppSidBidders(Collection<Integer> gppSids) {
+        final BitSet bidders = new BitSet();
+        for (Integer gppSid : CollectionUtils.emptyIfNull(gppSids)) {
+            final BitSet gppSidBidders = gppSidToSkipSyncBidders.get(gppSid);
+            if (gppSidBidders != null) {
+                bidders.or(gppSidBidders);
+            }
+        }
+        return bidders;
+    }
+
     public Set<String> usersyncReadyBidders() {
         return names().stream()
                 .filter(this::isActive)
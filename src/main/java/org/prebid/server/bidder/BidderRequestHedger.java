@@ -0,0 +1,209 @@
+package org.prebid.server.bidder;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.SlidingWindowReservoir;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Sends a duplicate (hedged) request to a bidder when the original one is not responded within the latency
+ * percentile learned for the bidder endpoint, and takes the first successful response. The call fails only when all
+ * the sent requests have failed. Since {@link org.prebid.server.vertx.httpclient.HttpClient} cannot cancel sent
+ * requests, response of the losing one is ignored.
+ * <p>
+ * The number of hedged requests is bounded by the hedge rate budget: each original request adds
+ * a fraction of a token to the endpoint budget, and each hedged request takes the whole one.
+ */
+public class BidderRequestHedger {
+
+    private static final int MAX_ENDPOINTS_NUMBER = 10_000;
+    private static final int LATENCY_SAMPLES_NUMBER = 1024;
+    private static final int DELAY_REFRESH_SAMPLES_NUMBER = 64;
+    private static final long TOKEN = 1000L;
+    private static final long MAX_TOKENS = 10 * TOKEN;
+
+    private final Set<String> bidders;
+    private final double percentile;
+    private final long minSamples;
+    private final long minDelayMs;
+    private final long tokensPerRequest;
+    private final Vertx vertx;
+    private final Clock clock;
+    private final Metrics metrics;
+
+    private final Map<String, EndpointStats> endpointStats;
+
+    public BidderRequestHedger(Collection<String> bidders,
+                               double percentile,
+                               long minSamples,
+                               long minDelayMs,
+                               double maxHedgeRate,
+                               Vertx vertx,
+                               Clock clock,
+                               Metrics metrics) {
+
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("Hedging percentile should be between 0 and 1");
+        }
+        if (maxHedgeRate < 0 || maxHedgeRate > 1) {
+            throw new IllegalArgumentException("Max hedge rate should be between 0 and 1");
+        }
+
+        this.bidders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        this.bidders.addAll(CollectionUtils.emptyIfNull(bidders));
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.minDelayMs = minDelayMs;
+        this.tokensPerRequest = Math.round(maxHedgeRate * TOKEN);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.clock = Objects.requireNonNull(clock);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        endpointStats = Caffeine.newBuilder()
+                .maximumSize(MAX_ENDPOINTS_NUMBER)
+                .<String, EndpointStats>build()
+                .asMap();
+    }
+
+    public boolean isEnabledFor(String bidder) {
+        return bidders.contains(bidder);
+    }
+
+    /**
+     * Performs request given by supplier and hedges it if the bidder endpoint is slower than usual.
+     * <p>
+     * The supplier is called once for the original request and once more for the hedged one, if it is sent.
+     */
+    public Future<HttpClientResponse> request(String bidder,
+                                              String url,
+                                              Timeout timeout,
+                                              Supplier<Future<HttpClientResponse>> requestSupplier) {
+
+        final EndpointStats stats = endpointStats.computeIfAbsent(
+                bidder + "@" + Objects.toString(HttpUtil.origin(url), url),
+                ignored -> new EndpointStats());
+        stats.addTokens(tokensPerRequest);
+
+        final Future<HttpClientResponse> originalResponse = timedRequest(stats, requestSupplier);
+
+        final long hedgeDelay = stats.hedgeDelayMs;
+        if (hedgeDelay < 0 || hedgeDelay >= timeout.remaining()) {
+            return originalResponse;
+        }
+
+        final Promise<HttpClientResponse> responsePromise = Promise.promise();
+        final AtomicInteger pendingRequests = new AtomicInteger(1);
+        final long timerId = vertx.setTimer(hedgeDelay, ignored ->
+                hedge(bidder, stats, requestSupplier, responsePromise, pendingRequests));
+
+        originalResponse.onComplete(result -> {
+            vertx.cancelTimer(timerId);
+            handleResponse(result, responsePromise, pendingRequests);
+        });
+
+        return responsePromise.future();
+    }
+
+    private void hedge(String bidder,
+                       EndpointStats stats,
+                       Supplier<Future<HttpClientResponse>> requestSupplier,
+                       Promise<HttpClientResponse> responsePromise,
+                       AtomicInteger pendingRequests) {
+
+        if (responsePromise.future().isComplete() || !stats.tryTakeToken()) {
+            return;
+        }
+
+        // no pending requests means the call has already failed, so there is nothing to hedge
+        if (pendingRequests.getAndUpdate(pending -> pending > 0 ? pending + 1 : pending) == 0) {
+            stats.addTokens(TOKEN);
+            return;
+        }
+
+        metrics.updateAdapterHedgedRequestMetric(bidder);
+
+        timedRequest(stats, requestSupplier).onComplete(result -> {
+            if (handleResponse(result, responsePromise, pendingRequests)) {
+                metrics.updateAdapterHedgedRequestWonMetric(bidder);
+            }
+        });
+    }
+
+    /**
+     * Completes the call with the first successful response, or fails it when the last pending request fails.
+     * Returns true if the call was completed with given response.
+     */
+    private static boolean handleResponse(AsyncResult<HttpClientResponse> result,
+                                          Promise<HttpClientResponse> responsePromise,
+                                          AtomicInteger pendingRequests) {
+
+        if (result.succeeded()) {
+            return responsePromise.tryComplete(result.result());
+        }
+
+        if (pendingRequests.decrementAndGet() == 0) {
+            responsePromise.tryFail(result.cause());
+        }
+        return false;
+    }
+
+    private Future<HttpClientResponse> timedRequest(EndpointStats stats,
+                                                    Supplier<Future<HttpClientResponse>> requestSupplier) {
+
+        final long startTime = clock.millis();
+        return requestSupplier.get()
+                .onSuccess(ignored -> stats.recordLatency(clock.millis() - startTime));
+    }
+
+    private class EndpointStats {
+
+        private final Histogram latencies = new Histogram(new SlidingWindowReservoir(LATENCY_SAMPLES_NUMBER));
+
+        private final AtomicLong tokens = new AtomicLong();
+
+        private volatile long hedgeDelayMs = -1;
+
+        private void recordLatency(long latencyMs) {
+            latencies.update(latencyMs);
+
+            final long samplesNumber = latencies.getCount();
+            if (samplesNumber >= minSamples && samplesNumber % DELAY_REFRESH_SAMPLES_NUMBER == 0) {
+                hedgeDelayMs = Math.max(minDelayMs, Math.round(latencies.getSnapshot().getValue(percentile)));
+            }
+        }
+
+        private void addTokens(long value) {
+            tokens.accumulateAndGet(value, (current, added) -> Math.min(current + added, MAX_TOKENS));
+        }
+
+        private boolean tryTakeToken() {
+            long current;
+            do {
+                current = tokens.get();
+                if (current < TOKEN) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - TOKEN));
+
+            return true;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
@@ -69,6 +70,8 @@ public class HttpBidderRequester {
     private final BidderRequestCompletionTrackerFactory completionTrackerFactory;
     private final BidderErrorNotifier bidderErrorNotifier;
     private final HttpBidderRequestEnricher requestEnricher;
+    private final BidderRequestHedger requestHedger;
+    private final Metrics metrics;
     private final JacksonMapper mapper;
     private final double logSamplingRate;
 
@@ -76,6 +79,8 @@ public class HttpBidderRequester {
                                BidderRequestCompletionTrackerFactory completionTrackerFactory,
                                BidderErrorNotifier bidderErrorNotifier,
                                HttpBidderRequestEnricher requestEnricher,
+                               BidderRequestHedger requestHedger,
+                               Metrics metrics,
                                JacksonMapper mapper,
                                double logSamplingRate) {
 
@@ -83,6 +88,8 @@ public class HttpBidderRequester {
         this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
+        this.requestHedger = requestHedger;
+        this.metrics = Objects.requireNonNull(metrics);
         this.mapper = Objects.requireNonNull(mapper);
         this.logSamplingRate = logSamplingRate;
     }
@@ -101,7 +108,9 @@ public class HttpBidderRequester {
         final String bidderName = bidderRequest.getBidder();
         final BidRequest bidRequest = bidderRequest.getBidRequest();
 
+        final long makeHttpRequestsStartTime = System.nanoTime();
         final Result<List<HttpRequest<T>>> httpRequestsWithErrors = bidder.makeHttpRequests(bidRequest);
+        metrics.updateAdapterMakeHttpRequestsTime(bidderName, System.nanoTime() - makeHttpRequestsStartTime);
         final List<BidderError> errors = httpRequestsWithErrors.getErrors();
         final List<HttpRequest<T>> httpRequests = enrichRequests(
                 bidderName, httpRequestsWithErrors.getValue(), requestHeaders, aliases, bidRequest);
@@ -117,7 +126,7 @@ public class HttpBidderRequester {
         // stored response available only for single request interaction for the moment.
         final Stream<Future<BidderCall<T>>> httpCalls = isStoredResponse(httpRequests, storedResponse, bidderName)
                 ? Stream.of(makeStoredHttpCall(httpRequests.getFirst(), storedResponse))
-                : httpRequests.stream().map(httpRequest -> doRequest(httpRequest, timeout));
+                : httpRequests.stream().map(httpRequest -> doRequest(bidderName, httpRequest, timeout));
 
         // httpCalls contains recovered and mapped to succeeded Future<BidderHttpCall> with error inside
         final BidderRequestCompletionTracker completionTracker = completionTrackerFactory.create(bidRequest);
@@ -199,20 +208,33 @@ public class HttpBidderRequester {
     /**
      * Makes an HTTP request and returns {@link Future} that will be eventually completed with success or error result.
      */
-    private <T> Future<BidderCall<T>> doRequest(HttpRequest<T> httpRequest, Timeout timeout) {
+    private <T> Future<BidderCall<T>> doRequest(String bidderName, HttpRequest<T> httpRequest, Timeout timeout) {
         final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
             return failResponse(new TimeoutException("Timeout has been exceeded"), httpRequest);
         }
 
-        return createRequest(httpRequest, remainingTimeout)
+        final MultiMap requestHeaders = httpRequest.getHeaders();
+        final byte[] preparedBody = compressIfRequired(httpRequest.getBody(), requestHeaders);
+
+        final Future<HttpClientResponse> responseFuture = isHedgingEnabled(bidderName)
+                ? requestHedger.request(bidderName, httpRequest.getUri(), timeout,
+                        () -> createRequest(httpRequest, requestHeaders, preparedBody, timeout.remaining()))
+                : createRequest(httpRequest, requestHeaders, preparedBody, remainingTimeout);
+
+        return responseFuture
                 .compose(response -> processResponse(response, httpRequest))
                 .recover(exception -> failResponse(exception, httpRequest));
     }
 
-    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest, long remainingTimeout) {
-        final MultiMap requestHeaders = httpRequest.getHeaders();
-        final byte[] preparedBody = compressIfRequired(httpRequest.getBody(), requestHeaders);
+    private boolean isHedgingEnabled(String bidderName) {
+        return requestHedger != null && requestHedger.isEnabledFor(bidderName);
+    }
+
+    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest,
+                                                         MultiMap requestHeaders,
+                                                         byte[] preparedBody,
+                                                         long remainingTimeout) {
 
         return httpClient.request(
                 httpRequest.getMethod(),
@@ -269,7 +291,8 @@ public class HttpBidderRequester {
                                                              HttpRequest<T> httpRequest) {
 
         final int statusCode = response.getStatusCode();
-        final HttpResponse httpResponse = HttpResponse.of(statusCode, response.getHeaders(), response.getBody());
+        final HttpResponse httpResponse =
+                HttpResponse.ofBuffer(statusCode, response.getHeaders(), response.getBodyAsBuffer());
         return Future.succeededFuture(BidderCall.succeededHttp(httpRequest, httpResponse, errorOrNull(statusCode)));
     }
 
@@ -456,9 +479,24 @@ public class HttpBidderRequester {
                     .errors(errors)
                     .igi(igiRecorded)
                     .fledgeAuctionConfigs(fledgeRecorded)
+                    .respondedInTime(isRespondedInTime(httpCalls))
                     .build();
         }
 
+        private static <R> boolean isRespondedInTime(List<BidderCall<R>> calls) {
+            return calls.stream().anyMatch(ResultBuilder::isRespondedHttpCall)
+                    && calls.stream().noneMatch(ResultBuilder::isTimedOutCall);
+        }
+
+        private static boolean isRespondedHttpCall(BidderCall<?> call) {
+            return call.getCallType() == BidderCallType.HTTP && call.getResponse() != null;
+        }
+
+        private static boolean isTimedOutCall(BidderCall<?> call) {
+            final BidderError error = call.getError();
+            return error != null && error.getType() == BidderError.Type.timeout;
+        }
+
         /**
          * Constructs {@link ExtHttpCall} filled with HTTP call information.
          */
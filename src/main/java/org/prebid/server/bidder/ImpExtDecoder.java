@@ -0,0 +1,151 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.server.json.JacksonMapper;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Converts imp extensions to the types bidders work with and keeps the results, since equal extensions are converted
+ * over and over: by bidder splitting request into several ones, by aliases sharing the same params
+ * and by subsequent requests with the params of the same stored imps.
+ * <p>
+ * Results are looked up by the extension fields the target type reads only, since the rest of them
+ * (like imp.ext.tid) are unique per request and would make every lookup miss.
+ * <p>
+ * Converted values are shared between requests, so bidder opting in must not modify them.
+ */
+public class ImpExtDecoder {
+
+    private final ObjectMapper mapper;
+    private final Cache<DecodingKey, Object> decodedValues;
+    private final Map<JavaType, UnaryOperator<ObjectNode>> keyExtractors;
+
+    public ImpExtDecoder(int cacheSize, JacksonMapper mapper) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("Imp ext decoding cache size must be positive");
+        }
+
+        this.mapper = mapper.mapper();
+
+        decodedValues = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+        keyExtractors = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Converts imp extension the same way {@link ObjectMapper#convertValue} does,
+     * throwing {@link IllegalArgumentException} if it cannot be converted.
+     */
+    public <T> T decode(ObjectNode impExt, TypeReference<T> type) {
+        return decode(impExt, mapper.getTypeFactory().constructType(type));
+    }
+
+    /**
+     * Converts imp extension the same way {@link ObjectMapper#convertValue} does,
+     * throwing {@link IllegalArgumentException} if it cannot be converted.
+     */
+    public <T> T decode(ObjectNode impExt, Class<T> type) {
+        return decode(impExt, mapper.getTypeFactory().constructType(type));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T decode(ObjectNode impExt, JavaType type) {
+        if (impExt == null) {
+            return mapper.convertValue(null, type);
+        }
+
+        // json nodes have structural equals and hash code
+        final ObjectNode decodedFields = keyExtractors.computeIfAbsent(type, this::keyExtractor).apply(impExt);
+        final T cachedValue = (T) decodedValues.getIfPresent(new DecodingKey(type, decodedFields));
+        if (cachedValue != null) {
+            return cachedValue;
+        }
+
+        final T value = mapper.convertValue(impExt, type);
+        if (value != null) {
+            // imp extension can be modified after conversion, so key has its own copy
+            decodedValues.put(new DecodingKey(type, decodedFields.deepCopy()), value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns function leaving only the fields given type is decoded from, since unknown properties are ignored,
+     * or keeping all of them if type can read any field.
+     */
+    private UnaryOperator<ObjectNode> keyExtractor(JavaType type) {
+        final Set<String> fieldNames = decodedFieldNames(type);
+        return fieldNames != null
+                ? impExt -> retainFields(impExt, fieldNames)
+                : UnaryOperator.identity();
+    }
+
+    private Set<String> decodedFieldNames(JavaType type) {
+        if (type.isContainerType() || type.isJavaLangObject() || type.isTypeOrSubTypeOf(JsonNode.class)) {
+            return null;
+        }
+
+        final DeserializationConfig config = mapper.getDeserializationConfig();
+        final AnnotationIntrospector introspector = config.getAnnotationIntrospector();
+        final BeanDescription description = config.introspect(type);
+        if (description.findAnySetterAccessor() != null
+                || introspector.findTypeResolver(config, description.getClassInfo(), type) != null) {
+
+            return null;
+        }
+
+        final Set<String> fieldNames = new HashSet<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            fieldNames.add(property.getName());
+
+            final AnnotatedMember member = property.getPrimaryMember();
+            if (member == null) {
+                continue;
+            }
+            if (member.hasAnnotation(JsonUnwrapped.class)) {
+                return null;
+            }
+
+            final List<PropertyName> aliases = introspector.findPropertyAliases(member);
+            if (aliases != null) {
+                aliases.forEach(alias -> fieldNames.add(alias.getSimpleName()));
+            }
+        }
+        return fieldNames;
+    }
+
+    private static ObjectNode retainFields(ObjectNode impExt, Set<String> fieldNames) {
+        final ObjectNode result = impExt.objectNode();
+        for (String fieldName : fieldNames) {
+            final JsonNode value = impExt.get(fieldName);
+            if (value != null) {
+                result.set(fieldName, value);
+            }
+        }
+        return result;
+    }
+
+    private record DecodingKey(JavaType type, ObjectNode impExt) {
+    }
+}
@@ -190,7 +190,7 @@ public class AdgenerationBidder implements Bidder<Void> {
 
     private AdgenerationResponse decodeBodyToBidResponse(HttpResponse httpResponse) {
         try {
-            return mapper.decodeValue(httpResponse.getBody(), AdgenerationResponse.class);
+            return mapper.decodeValue(httpResponse.getBodyAsBuffer(), AdgenerationResponse.class);
         } catch (DecodeException e) {
             throw new PreBidException(e.getMessage(), e);
         }
@@ -22,6 +22,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.http.client.utils.URIBuilder;
 import org.prebid.server.auction.model.Endpoint;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.bidder.appnexus.proto.AppnexusBidExt;
 import org.prebid.server.bidder.appnexus.proto.AppnexusBidExtAppnexus;
 import org.prebid.server.bidder.appnexus.proto.AppnexusBidExtCreative;
@@ -86,16 +87,19 @@ public class AppnexusBidder implements Bidder<BidRequest> {
     private final String endpointUrl;
     private final Integer headerBiddingSource;
     private final Map<Integer, String> iabCategories;
+    private final ImpExtDecoder impExtDecoder;
     private final JacksonMapper mapper;
 
     public AppnexusBidder(String endpointUrl,
                           Integer platformId,
                           Map<Integer, String> iabCategories,
+                          ImpExtDecoder impExtDecoder,
                           JacksonMapper mapper) {
 
         this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
         this.headerBiddingSource = ObjectUtils.defaultIfNull(platformId, DEFAULT_PLATFORM_ID);
         this.iabCategories = ObjectUtils.defaultIfNull(iabCategories, Collections.emptyMap());
+        this.impExtDecoder = Objects.requireNonNull(impExtDecoder);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -163,7 +167,7 @@ public class AppnexusBidder implements Bidder<BidRequest> {
 
     private AppnexusExtImp parseImpExt(Imp imp) {
         try {
-            return mapper.mapper().convertValue(imp.getExt(), AppnexusExtImp.class);
+            return impExtDecoder.decode(imp.getExt(), AppnexusExtImp.class);
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage(), e);
         }
@@ -469,7 +473,8 @@ public class AppnexusBidder implements Bidder<BidRequest> {
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         final List<BidderError> errors = new ArrayList<>();
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse =
+                    mapper.decodeValue(httpCall.getResponse().getBodyAsBuffer(), BidResponse.class);
             return Result.of(extractBids(bidResponse, errors), errors);
         } catch (DecodeException | PreBidException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
@@ -346,7 +346,8 @@ public class EplanningBidder implements Bidder<Void> {
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<Void> httpCall, BidRequest bidRequest) {
         try {
-            final HbResponse hbResponse = mapper.decodeValue(httpCall.getResponse().getBody(), HbResponse.class);
+            final HbResponse hbResponse =
+                    mapper.decodeValue(httpCall.getResponse().getBodyAsBuffer(), HbResponse.class);
             return extractBids(hbResponse, bidRequest);
         } catch (DecodeException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
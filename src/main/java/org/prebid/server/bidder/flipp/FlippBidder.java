@@ -267,7 +267,7 @@ public class FlippBidder implements Bidder<CampaignRequestBody> {
     public final Result<List<BidderBid>> makeBids(BidderCall<CampaignRequestBody> httpCall, BidRequest bidRequest) {
         try {
             final CampaignResponseBody campaignResponseBody =
-                    mapper.decodeValue(httpCall.getResponse().getBody(), CampaignResponseBody.class);
+                    mapper.decodeValue(httpCall.getResponse().getBodyAsBuffer(), CampaignResponseBody.class);
             return Result.withValues(extractBids(campaignResponseBody, bidRequest));
         } catch (DecodeException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
@@ -230,7 +230,7 @@ public class HuaweiAdsBidder implements Bidder<HuaweiAdsRequest> {
     public Result<List<BidderBid>> makeBids(BidderCall<HuaweiAdsRequest> httpCall, BidRequest bidRequest) {
         try {
             final HuaweiAdsResponse response = mapper.decodeValue(
-                    httpCall.getResponse().getBody(),
+                    httpCall.getResponse().getBodyAsBuffer(),
                     HuaweiAdsResponse.class);
             validateRetcode(response.getRetcode(), response.getReason());
             return Result.withValues(extractBids(response, bidRequest));
@@ -280,7 +280,7 @@ public class InvibesBidder implements Bidder<InvibesBidRequest> {
     public final Result<List<BidderBid>> makeBids(BidderCall<InvibesBidRequest> httpCall, BidRequest bidRequest) {
         try {
             final InvibesBidderResponse bidResponse =
-                    mapper.decodeValue(httpCall.getResponse().getBody(), InvibesBidderResponse.class);
+                    mapper.decodeValue(httpCall.getResponse().getBodyAsBuffer(), InvibesBidderResponse.class);
             if (bidResponse != null && StringUtils.isNotBlank(bidResponse.getError())) {
                 return Result.withError(
                         BidderError.badServerResponse("Server error: %s.".formatted(bidResponse.getError())));
@@ -21,6 +21,7 @@ import com.iab.openrtb.response.SeatBid;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.bidder.ix.model.response.IxBidResponse;
 import org.prebid.server.bidder.ix.model.response.IxExtBidResponse;
 import org.prebid.server.bidder.ix.model.response.NativeV11Wrapper;
@@ -69,11 +70,17 @@ public class IxBidder implements Bidder<BidRequest> {
 
     private final String endpointUrl;
     private final PrebidVersionProvider prebidVersionProvider;
+    private final ImpExtDecoder impExtDecoder;
     private final JacksonMapper mapper;
 
-    public IxBidder(String endpointUrl, PrebidVersionProvider prebidVersionProvider, JacksonMapper mapper) {
+    public IxBidder(String endpointUrl,
+                    PrebidVersionProvider prebidVersionProvider,
+                    ImpExtDecoder impExtDecoder,
+                    JacksonMapper mapper) {
+
         this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
         this.prebidVersionProvider = Objects.requireNonNull(prebidVersionProvider);
+        this.impExtDecoder = Objects.requireNonNull(impExtDecoder);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -110,7 +117,7 @@ public class IxBidder implements Bidder<BidRequest> {
 
     private ExtImpIx parseImpExt(Imp imp) {
         try {
-            return mapper.mapper().convertValue(imp.getExt(), IX_EXT_TYPE_REFERENCE).getBidder();
+            return impExtDecoder.decode(imp.getExt(), IX_EXT_TYPE_REFERENCE).getBidder();
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage());
         }
@@ -250,7 +257,8 @@ public class IxBidder implements Bidder<BidRequest> {
     @Override
     public CompositeBidderResponse makeBidderResponse(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final IxBidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), IxBidResponse.class);
+            final IxBidResponse bidResponse =
+                    mapper.decodeValue(httpCall.getResponse().getBodyAsBuffer(), IxBidResponse.class);
             final List<BidderError> errors = new ArrayList<>();
 
             return CompositeBidderResponse.builder()
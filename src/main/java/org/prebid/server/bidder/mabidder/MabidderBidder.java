@@ -41,7 +41,7 @@ public class MabidderBidder implements Bidder<BidRequest> {
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
             final List<MabidderBidResponse> bidResponses = mapper.decodeValue(
-                            httpCall.getResponse().getBody(),
+                            httpCall.getResponse().getBodyAsBuffer(),
                             MabidderResponse.class)
                     .getBidResponses();
             return Result.withValues(extractBids(bidResponses));
@@ -227,7 +227,7 @@ public class MediasquareBidder implements Bidder<MediasquareRequest> {
     public Result<List<BidderBid>> makeBids(BidderCall<MediasquareRequest> httpCall, BidRequest bidRequest) {
         try {
             final MediasquareResponse response = mapper.decodeValue(
-                    httpCall.getResponse().getBody(),
+                    httpCall.getResponse().getBodyAsBuffer(),
                     MediasquareResponse.class);
             return Result.withValues(extractBids(response));
         } catch (DecodeException e) {
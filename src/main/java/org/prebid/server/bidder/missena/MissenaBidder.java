@@ -187,7 +187,7 @@ public class MissenaBidder implements Bidder<MissenaAdRequest> {
     public Result<List<BidderBid>> makeBids(BidderCall<MissenaAdRequest> httpCall, BidRequest bidRequest) {
         try {
             final MissenaAdResponse bidResponse = mapper.decodeValue(
-                    httpCall.getResponse().getBody(),
+                    httpCall.getResponse().getBodyAsBuffer(),
                     MissenaAdResponse.class);
             return Result.withValues(Collections.singletonList(extractBid(bidRequest, bidResponse)));
         } catch (DecodeException e) {
@@ -101,7 +101,8 @@ public class MobfoxpbBidder implements Bidder<BidRequest> {
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse =
+                    mapper.decodeValue(httpCall.getResponse().getBodyAsBuffer(), BidResponse.class);
             final BidRequest payload = httpCall.getRequest().getPayload();
             return extractBids(bidResponse, payload.getImp());
         } catch (DecodeException e) {
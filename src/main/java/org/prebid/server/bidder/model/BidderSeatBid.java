@@ -61,6 +61,12 @@ public class BidderSeatBid {
     @Builder.Default
     List<ExtIgi> igi = Collections.emptyList();
 
+    /**
+     * Tells if bidder answered at least one HTTP request and none of the requests timed out,
+     * so the response time shows the real bidder latency.
+     */
+    boolean respondedInTime;
+
     public BidderSeatBid with(List<BidderBid> bids) {
         return toBuilder().bids(bids).build();
     }
@@ -1,17 +1,61 @@
 package org.prebid.server.bidder.model;
 
 import io.vertx.core.MultiMap;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * Packages together information from the server's http response.
+ * <p>
+ * Bidders should prefer {@link #getBodyAsBuffer()} for parsing, so the response bytes are read by JSON parser
+ * directly and {@link String} body is decoded only when it is really needed (for example, for debug output).
  */
-@Value(staticConstructor = "of")
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class HttpResponse {
 
-    int statusCode;
+    @Getter
+    @EqualsAndHashCode.Include
+    private final int statusCode;
+
+    @Getter
+    @EqualsAndHashCode.Include
+    private final MultiMap headers;
+
+    @ToString.Exclude
+    private Buffer bodyBuffer;
+
+    @ToString.Exclude
+    private String body;
+
+    public static HttpResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpResponse(statusCode, headers, null, body);
+    }
+
+    public static HttpResponse ofBuffer(int statusCode, MultiMap headers, Buffer body) {
+        return new HttpResponse(statusCode, headers, body, null);
+    }
 
-    MultiMap headers;
+    @ToString.Include(name = "body")
+    @EqualsAndHashCode.Include
+    public String getBody() {
+        if (body == null && bodyBuffer != null) {
+            body = bodyBuffer.toString(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
 
-    String body;
+    public Buffer getBodyAsBuffer() {
+        if (bodyBuffer == null && body != null) {
+            bodyBuffer = Buffer.buffer(body, StandardCharsets.UTF_8.name());
+        }
+        return bodyBuffer;
+    }
 }
@@ -10,6 +10,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -64,10 +65,12 @@ public class OpenxBidder implements Bidder<BidRequest> {
             };
 
     private final String endpointUrl;
+    private final ImpExtDecoder impExtDecoder;
     private final JacksonMapper mapper;
 
-    public OpenxBidder(String endpointUrl, JacksonMapper mapper) {
+    public OpenxBidder(String endpointUrl, ImpExtDecoder impExtDecoder, JacksonMapper mapper) {
         this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
+        this.impExtDecoder = Objects.requireNonNull(impExtDecoder);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -93,7 +96,7 @@ public class OpenxBidder implements Bidder<BidRequest> {
     public CompositeBidderResponse makeBidderResponse(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
             final OpenxBidResponse bidResponse = mapper.decodeValue(
-                    httpCall.getResponse().getBody(), OpenxBidResponse.class);
+                    httpCall.getResponse().getBodyAsBuffer(), OpenxBidResponse.class);
 
             return CompositeBidderResponse.builder()
                     .bids(extractBids(bidRequest, bidResponse))
@@ -252,7 +255,7 @@ public class OpenxBidder implements Bidder<BidRequest> {
         }
 
         try {
-            impExt = mapper.mapper().convertValue(impExtRaw, OPENX_EXT_TYPE_REFERENCE);
+            impExt = impExtDecoder.decode(impExtRaw, OPENX_EXT_TYPE_REFERENCE);
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage());
         }
@@ -549,7 +549,7 @@ public class PubmaticBidder implements Bidder<BidRequest> {
     public CompositeBidderResponse makeBidderResponse(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
             final PubmaticBidResponse bidResponse = mapper.decodeValue(
-                    httpCall.getResponse().getBody(), PubmaticBidResponse.class);
+                    httpCall.getResponse().getBodyAsBuffer(), PubmaticBidResponse.class);
             final List<BidderError> errors = new ArrayList<>();
 
             return CompositeBidderResponse.builder()
@@ -315,7 +315,7 @@ public class RubiconBidder implements Bidder<BidRequest> {
         try {
             final List<BidderError> errors = new ArrayList<>();
             final RubiconBidResponse bidResponse =
-                    mapper.decodeValue(httpCall.getResponse().getBody(), RubiconBidResponse.class);
+                    mapper.decodeValue(httpCall.getResponse().getBodyAsBuffer(), RubiconBidResponse.class);
             return Result.of(extractBids(bidRequest, httpCall.getRequest().getPayload(), bidResponse, errors), errors);
         } catch (DecodeException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
@@ -92,7 +92,7 @@ public class StartioBidder implements Bidder<BidRequest> {
         final BidResponse response;
 
         try {
-            response = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            response = mapper.decodeValue(httpCall.getResponse().getBodyAsBuffer(), BidResponse.class);
         } catch (DecodeException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
         }
@@ -47,7 +47,9 @@ import org.prebid.server.util.StreamUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -107,12 +109,7 @@ public class CookieSyncService {
                 .map(this::validateCookieSyncContext)
                 .map(this::resolveLimit)
                 .map(this::resolveBiddersToSync)
-                .map(this::filterInvalidBidders)
-                .map(this::filterDisabledBidders)
-                .map(this::filterBiddersWithoutUsersync)
-                .map(this::filterBiddersWithDisabledUsersync)
-                .map(this::filterBiddersByGdpr)
-                .map(this::filterBiddersByGppSid)
+                .map(this::filterBiddersByCatalog)
                 .map(this::applyRequestFilterSettings)
                 .compose(this::applyPrivacyFilteringRules)
                 .map(this::filterInSyncBidders);
@@ -176,52 +173,64 @@ public class CookieSyncService {
         return cookieSyncContext.with(updatedContext);
     }
 
-    private CookieSyncContext filterInvalidBidders(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.isValidName(bidder),
-                RejectionReason.INVALID_BIDDER);
-    }
-
-    private CookieSyncContext filterDisabledBidders(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.isActive(bidder),
-                RejectionReason.DISABLED_BIDDER);
-    }
+    /**
+     * Rejects bidders that are invalid, disabled, cannot sync or should not sync because of regulation scope,
+     * checking all of them at once as bitsets of bidder ordinals.
+     */
+    private CookieSyncContext filterBiddersByCatalog(CookieSyncContext cookieSyncContext) {
+        final BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
 
-    private CookieSyncContext filterBiddersWithoutUsersync(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> bidderCatalog.usersyncerByName(bidder).isEmpty(),
-                RejectionReason.UNCONFIGURED_USERSYNC);
-    }
+        final Map<String, RejectionReason> rejectedBidders = new HashMap<>();
+        final Map<String, Integer> bidderToOrdinal = new HashMap<>();
+        final BitSet allowedBidders = new BitSet();
+        for (String bidder : biddersContext.allowedBidders()) {
+            final int ordinal = bidderCatalog.ordinal(bidder);
+            if (ordinal < 0) {
+                rejectedBidders.put(bidder, RejectionReason.INVALID_BIDDER);
+            } else {
+                bidderToOrdinal.put(bidder, ordinal);
+                allowedBidders.set(ordinal);
+            }
+        }
 
-    private CookieSyncContext filterBiddersWithDisabledUsersync(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.usersyncerByName(bidder).orElseThrow().isEnabled(),
-                RejectionReason.DISABLED_USERSYNC);
-    }
+        // the order matters: each bidder is rejected for the first of the reasons
+        final BitSet disabledBidders = retainAndGetRest(allowedBidders, bidderCatalog.activeBidders());
+        final BitSet biddersWithoutUsersync =
+                retainAndGetRest(allowedBidders, bidderCatalog.usersyncConfiguredBidders());
+        final BitSet biddersWithDisabledUsersync =
+                retainAndGetRest(allowedBidders, bidderCatalog.usersyncEnabledBidders());
+
+        final BitSet biddersOutOfRegulationScope =
+                bidderCatalog.skipSyncForGppSidBidders(cookieSyncContext.getCookieSyncRequest().getGppSid());
+        if (cookieSyncContext.getPrivacyContext().getTcfContext().isInGdprScope()) {
+            biddersOutOfRegulationScope.or(bidderCatalog.skipSyncInGdprScopeBidders());
+        }
+        biddersOutOfRegulationScope.and(allowedBidders);
+
+        for (Map.Entry<String, Integer> entry : bidderToOrdinal.entrySet()) {
+            final int ordinal = entry.getValue();
+            final RejectionReason reason = disabledBidders.get(ordinal) ? RejectionReason.DISABLED_BIDDER
+                    : biddersWithoutUsersync.get(ordinal) ? RejectionReason.UNCONFIGURED_USERSYNC
+                    : biddersWithDisabledUsersync.get(ordinal) ? RejectionReason.DISABLED_USERSYNC
+                    : biddersOutOfRegulationScope.get(ordinal) ? RejectionReason.REJECTED_BY_REGULATION_SCOPE
+                    : null;
+
+            if (reason != null) {
+                rejectedBidders.put(entry.getKey(), reason);
+            }
+        }
 
-    private CookieSyncContext filterBiddersByGdpr(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> cookieSyncContext.getPrivacyContext().getTcfContext().isInGdprScope()
-                        && bidderCatalog.usersyncerByName(bidder).map(Usersyncer::isSkipWhenInGdprScope).orElse(false),
-                RejectionReason.REJECTED_BY_REGULATION_SCOPE);
+        return cookieSyncContext.with(biddersContext.withRejectedBidders(rejectedBidders));
     }
 
-    private CookieSyncContext filterBiddersByGppSid(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> bidderCatalog.usersyncerByName(bidder)
-                        .map(Usersyncer::getGppSidToSkip)
-                        .map(gppSid -> !Collections.disjoint(
-                                gppSid,
-                                cookieSyncContext.getCookieSyncRequest().getGppSid()))
-                        .orElse(false),
-                RejectionReason.REJECTED_BY_REGULATION_SCOPE);
+    /**
+     * Retains in bidders only the given ones and returns the rest of them.
+     */
+    private static BitSet retainAndGetRest(BitSet bidders, BitSet retainedBidders) {
+        final BitSet rest = (BitSet) bidders.clone();
+        rest.andNot(retainedBidders);
+        bidders.and(retainedBidders);
+        return rest;
     }
 
     /**
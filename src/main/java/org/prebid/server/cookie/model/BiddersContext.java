@@ -67,6 +67,23 @@ public class BiddersContext {
         return withRejectedBidders(Collections.singleton(bidder), reason);
     }
 
+    public BiddersContext withRejectedBidders(Map<String, RejectionReason> bidderToReason) {
+        if (bidderToReason.isEmpty()) {
+            return this;
+        }
+
+        final Map<String, RejectionReason> updatedRejectedBidders = new HashMap<>(rejectedBidders);
+        updatedRejectedBidders.putAll(bidderToReason);
+
+        final Map<String, UsersyncMethod> updatedMethods = new HashMap<>(bidderUsersyncMethod);
+        updatedMethods.keySet().removeAll(bidderToReason.keySet());
+
+        return toBuilder()
+                .rejectedBidders(updatedRejectedBidders)
+                .bidderUsersyncMethod(updatedMethods)
+                .build();
+    }
+
     public BiddersContext withRejectedBidders(Collection<String> bidders, RejectionReason reason) {
         if (bidders.isEmpty()) {
             return this;
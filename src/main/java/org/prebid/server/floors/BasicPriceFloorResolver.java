@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.BidRequest;
@@ -46,20 +47,15 @@ import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
 import org.prebid.server.util.BidderUtil;
 import org.prebid.server.util.IterableUtil;
 import org.prebid.server.util.ObjectUtil;
-import org.prebid.server.util.dsl.config.PrebidConfigMatchingStrategy;
 import org.prebid.server.util.dsl.config.PrebidConfigParameter;
-import org.prebid.server.util.dsl.config.PrebidConfigParameters;
-import org.prebid.server.util.dsl.config.PrebidConfigSource;
-import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
+import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationIndex;
 import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
-import org.prebid.server.util.dsl.config.impl.SimpleParameters;
 import org.prebid.server.util.dsl.config.impl.SimpleSource;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -74,6 +70,7 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private static final String DEFAULT_RULES_CURRENCY = "USD";
     private static final String SCHEMA_DEFAULT_DELIMITER = "|";
     private static final String WILDCARD_CATCH_ALL = "*";
+    private static final int MAXIMUM_RULES_INDEX_CACHE_SIZE = 1000;
 
     private static final String VIDEO_ALIAS = "video-instream";
 
@@ -94,7 +91,7 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private final Metrics metrics;
     private final JacksonMapper mapper;
 
-    private final PrebidConfigMatchingStrategy matchingStrategy;
+    private final Map<PriceFloorModelGroup, MostAccurateCombinationIndex<BigDecimal>> rulesIndexByModelGroup;
 
     public BasicPriceFloorResolver(CurrencyConversionService currencyConversionService,
                                    CountryCodeMapper countryCodeMapper,
@@ -106,7 +103,11 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         this.metrics = Objects.requireNonNull(metrics);
         this.mapper = Objects.requireNonNull(mapper);
 
-        matchingStrategy = new MostAccurateCombinationStrategy();
+        rulesIndexByModelGroup = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(MAXIMUM_RULES_INDEX_CACHE_SIZE)
+                .<PriceFloorModelGroup, MostAccurateCombinationIndex<BigDecimal>>build()
+                .asMap();
     }
 
     @Override
@@ -137,15 +138,14 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
             return null;
         }
 
-        final Map<String, BigDecimal> values = keysToLowerCase(modelGroup.getValues());
-        final PrebidConfigSource source = SimpleSource.of(
-                WILDCARD_CATCH_ALL,
-                ObjectUtils.defaultIfNull(schema.getDelimiter(), SCHEMA_DEFAULT_DELIMITER),
-                values.keySet());
-        final PrebidConfigParameters parameters = createParameters(schema, bidRequest, imp, mediaType, format, bidder);
+        final MostAccurateCombinationIndex<BigDecimal> rulesIndex =
+                rulesIndexByModelGroup.computeIfAbsent(modelGroup, BasicPriceFloorResolver::compileRulesIndex);
+        final List<PrebidConfigParameter> parameters =
+                createParameters(schema, bidRequest, imp, mediaType, format, bidder);
 
-        final String rule = matchingStrategy.match(source, parameters);
-        final BigDecimal floorForRule = rule != null ? values.get(rule) : null;
+        final MostAccurateCombinationIndex.Match<BigDecimal> match = rulesIndex.match(parameters);
+        final String rule = match != null ? match.rule() : null;
+        final BigDecimal floorForRule = match != null ? match.value() : null;
         final BigDecimal floor = floorForRule != null ? floorForRule : modelGroup.getDefaultFloor();
         final String modelGroupCurrency = modelGroup.getCurrency();
         final String floorCurrency = StringUtils.isNotEmpty(modelGroupCurrency)
@@ -188,15 +188,22 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         return CollectionUtils.isNotEmpty(modelGroups) ? modelGroups.getFirst() : null;
     }
 
-    private static <V> Map<String, V> keysToLowerCase(Map<String, V> map) {
-        return map.entrySet().stream()
-                .collect(
-                        HashMap::new,
-                        (hashMap, entry) -> hashMap.put(entry.getKey().toLowerCase(), entry.getValue()),
-                        HashMap::putAll);
+    /**
+     * Model groups are immutable and fetched floors data is reused across requests,
+     * so rules are compiled once per model group instance instead of being matched on every resolving.
+     */
+    private static MostAccurateCombinationIndex<BigDecimal> compileRulesIndex(PriceFloorModelGroup modelGroup) {
+        final PriceFloorSchema schema = modelGroup.getSchema();
+        return MostAccurateCombinationIndex.of(
+                SimpleSource.of(
+                        WILDCARD_CATCH_ALL,
+                        ObjectUtils.defaultIfNull(schema.getDelimiter(), SCHEMA_DEFAULT_DELIMITER),
+                        null),
+                schema.getFields().size(),
+                modelGroup.getValues());
     }
 
-    private PrebidConfigParameters createParameters(PriceFloorSchema schema,
+    private List<PrebidConfigParameter> createParameters(PriceFloorSchema schema,
                                                     BidRequest bidRequest,
                                                     Imp imp,
                                                     ImpMediaType mediaType,
@@ -207,11 +214,9 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
                 ? Collections.singletonList(mediaType)
                 : mediaTypesFromImp(imp);
 
-        final List<PrebidConfigParameter> conditionsMatchers = schema.getFields().stream()
+        return schema.getFields().stream()
                 .map(field -> createParameter(field, bidRequest, imp, resolvedMediaTypes, format, bidder))
                 .toList();
-
-        return SimpleParameters.of(conditionsMatchers);
     }
 
     private static List<ImpMediaType> mediaTypesFromImp(Imp imp) {
@@ -0,0 +1,55 @@
+package org.prebid.server.handler.admin;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.auction.BidderLatencyTracker;
+import org.prebid.server.json.EncodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Objects;
+
+/**
+ * Handles HTTP request for bidders response time statistics used to schedule their timeouts.
+ */
+public class BidderLatencyHandler implements Handler<RoutingContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidderLatencyHandler.class);
+
+    private final BidderLatencyTracker bidderLatencyTracker;
+    private final String endpoint;
+    private final JacksonMapper mapper;
+
+    public BidderLatencyHandler(BidderLatencyTracker bidderLatencyTracker, String endpoint, JacksonMapper mapper) {
+        this.bidderLatencyTracker = Objects.requireNonNull(bidderLatencyTracker);
+        this.endpoint = Objects.requireNonNull(endpoint);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final String body;
+        try {
+            body = mapper.encodeToString(bidderLatencyTracker.stats());
+        } catch (EncodeException e) {
+            final String message = "Critical error when marshaling bidder latency response";
+            logger.error(message, e);
+            respondWith(routingContext, HttpResponseStatus.INTERNAL_SERVER_ERROR, message);
+            return;
+        }
+
+        respondWith(routingContext, HttpResponseStatus.OK, body);
+    }
+
+    private void respondWith(RoutingContext routingContext, HttpResponseStatus status, String body) {
+        HttpUtil.executeSafely(routingContext, endpoint,
+                response -> response
+                        .setStatusCode(status.code())
+                        .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON)
+                        .end(body));
+    }
+}
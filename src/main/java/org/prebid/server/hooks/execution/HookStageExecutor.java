@@ -1,6 +1,7 @@
 package org.prebid.server.hooks.execution;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
@@ -65,6 +66,7 @@ import org.prebid.server.settings.model.HooksAdminConfig;
 import java.time.Clock;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -82,6 +84,7 @@ public class HookStageExecutor {
     private static final String ENTITY_AUCTION_RESPONSE = "auction-response";
     private static final String ENTITY_ALL_PROCESSED_BID_RESPONSES = "all-processed-bid-responses";
     private static final Account EMPTY_ACCOUNT = Account.empty(StringUtils.EMPTY);
+    private static final int MAX_COMPILED_EXECUTION_PLANS_NUMBER = 10_000;
 
     private final ExecutionPlan hostExecutionPlan;
     private final ExecutionPlan defaultAccountExecutionPlan;
@@ -94,6 +97,12 @@ public class HookStageExecutor {
     private final boolean isConfigToInvokeRequired;
     private final double logSamplingRate;
 
+    private final Map<String, Boolean> entrypointModulesExecution;
+    private final Map<Endpoint, StageExecutionPlan> entrypointStagePlans;
+    private final CompiledExecutionPlan defaultCompiledExecutionPlan;
+    // account is usually built anew for each request, so plans are looked up by the configuration values
+    private final Map<CompiledExecutionPlanKey, CompiledExecutionPlan> compiledExecutionPlans;
+
     private HookStageExecutor(ExecutionPlan hostExecutionPlan,
                               ExecutionPlan defaultAccountExecutionPlan,
                               Map<String, Boolean> hostModuleExecution,
@@ -115,6 +124,18 @@ public class HookStageExecutor {
         this.isConfigToInvokeRequired = isConfigToInvokeRequired;
         this.hostModuleExecution = hostModuleExecution;
         this.logSamplingRate = logSamplingRate;
+
+        entrypointModulesExecution = DefaultedMap.defaultedMap(hostModuleExecution, true);
+        entrypointStagePlans = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            entrypointStagePlans.put(
+                    endpoint, effectiveStagePlanFrom(ExecutionPlan.empty(), endpoint, Stage.entrypoint));
+        }
+        defaultCompiledExecutionPlan = new CompiledExecutionPlan(null);
+        compiledExecutionPlans = Caffeine.newBuilder()
+                .maximumSize(MAX_COMPILED_EXECUTION_PLANS_NUMBER)
+                .<CompiledExecutionPlanKey, CompiledExecutionPlan>build()
+                .asMap();
     }
 
     public static HookStageExecutor create(String hostExecutionPlan,
@@ -200,7 +221,7 @@ public class HookStageExecutor {
                 .withHookProvider(hookProviderForEntrypointStage(context))
                 .withInitialPayload(EntrypointPayloadImpl.of(queryParams, headers, body))
                 .withInvocationContextProvider(invocationContextProvider(endpoint))
-                .withModulesExecution(DefaultedMap.defaultedMap(hostModuleExecution, true))
+                .withModulesExecution(entrypointModulesExecution)
                 .withRejectAllowed(true)
                 .execute()
                 .map(result -> rejectAll(auctionContext, result));
@@ -373,14 +394,39 @@ public class HookStageExecutor {
             Account account,
             Endpoint endpoint) {
 
+        final CompiledExecutionPlan compiledExecutionPlan = compiledExecutionPlanFor(account);
+
         return stageExecutor(stage, entity, context)
-                .withModulesExecution(modulesExecutionForAccount(account))
-                .withExecutionPlan(planForStage(account, endpoint, stage.stage()))
+                .withModulesExecution(compiledExecutionPlan.modulesExecution)
+                .withExecutionPlan(compiledExecutionPlan.stagePlan(endpoint, stage.stage()))
                 .withHookProvider(hookProvider(stage, account, context));
     }
 
-    private Map<String, Boolean> modulesExecutionForAccount(Account account) {
-        final Map<String, Boolean> accountModulesExecution = Optional.ofNullable(account.getHooks())
+    private CompiledExecutionPlan compiledExecutionPlanFor(Account account) {
+        final AccountHooksConfiguration hooksAccountConfig = account.getHooks();
+        return hooksAccountConfig != null
+                ? compiledExecutionPlans.computeIfAbsent(
+                        compiledExecutionPlanKey(hooksAccountConfig),
+                        ignored -> new CompiledExecutionPlan(hooksAccountConfig))
+                : defaultCompiledExecutionPlan;
+    }
+
+    /**
+     * Returns key made of the account hooks configuration parts the compiled plan depends on,
+     * leaving out modules configuration.
+     */
+    private CompiledExecutionPlanKey compiledExecutionPlanKey(AccountHooksConfiguration hooksAccountConfig) {
+        final HooksAdminConfig admin = hooksAccountConfig.getAdmin();
+        final Map<String, ObjectNode> modules = hooksAccountConfig.getModules();
+
+        return new CompiledExecutionPlanKey(
+                hooksAccountConfig.getExecutionPlan(),
+                admin != null ? admin.getModuleExecution() : null,
+                isConfigToInvokeRequired && modules != null ? modules.keySet() : null);
+    }
+
+    private Map<String, Boolean> modulesExecutionFor(AccountHooksConfiguration hooksAccountConfig) {
+        final Map<String, Boolean> accountModulesExecution = Optional.ofNullable(hooksAccountConfig)
                 .map(AccountHooksConfiguration::getAdmin)
                 .map(HooksAdminConfig::getModuleExecution)
                 .orElse(Collections.emptyMap());
@@ -388,7 +434,7 @@ public class HookStageExecutor {
         final Map<String, Boolean> resultModulesExecution = new HashMap<>(accountModulesExecution);
 
         if (isConfigToInvokeRequired) {
-            Optional.ofNullable(account.getHooks())
+            Optional.ofNullable(hooksAccountConfig)
                     .map(AccountHooksConfiguration::getModules)
                     .map(Map::keySet)
                     .stream()
@@ -401,11 +447,10 @@ public class HookStageExecutor {
     }
 
     private StageExecutionPlan planForEntrypointStage(Endpoint endpoint) {
-        return effectiveStagePlanFrom(ExecutionPlan.empty(), endpoint, Stage.entrypoint);
-    }
-
-    private StageExecutionPlan planForStage(Account account, Endpoint endpoint, Stage stage) {
-        return effectiveStagePlanFrom(effectiveExecutionPlanFor(account), endpoint, stage);
+        final StageExecutionPlan stagePlan = endpoint != null ? entrypointStagePlans.get(endpoint) : null;
+        return stagePlan != null
+                ? stagePlan
+                : effectiveStagePlanFrom(ExecutionPlan.empty(), endpoint, Stage.entrypoint);
     }
 
     private StageExecutionPlan effectiveStagePlanFrom(
@@ -435,8 +480,7 @@ public class HookStageExecutor {
                 .getOrDefault(stage, StageExecutionPlan.empty());
     }
 
-    private ExecutionPlan effectiveExecutionPlanFor(Account account) {
-        final AccountHooksConfiguration hooksAccountConfig = account.getHooks();
+    private ExecutionPlan effectiveExecutionPlanFor(AccountHooksConfiguration hooksAccountConfig) {
         final ExecutionPlan accountExecutionPlan =
                 hooksAccountConfig != null ? hooksAccountConfig.getExecutionPlan() : null;
 
@@ -540,11 +584,7 @@ public class HookStageExecutor {
     }
 
     private Optional<List<ABTest>> abTestsFromAccount(Account account) {
-        return Optional.of(effectiveExecutionPlanFor(account))
-                .map(ExecutionPlan::getAbTests)
-                .map(abTests -> abTests.stream()
-                        .filter(HookStageExecutor::isABTestEnabled)
-                        .toList());
+        return Optional.ofNullable(compiledExecutionPlanFor(account).abTests);
     }
 
     private Optional<List<ABTest>> abTestsFromHostConfig(String accountId) {
@@ -590,4 +630,46 @@ public class HookStageExecutor {
 
         return result;
     }
+
+    private record CompiledExecutionPlanKey(ExecutionPlan executionPlan,
+                                            Map<String, Boolean> moduleExecution,
+                                            Set<String> modules) {
+    }
+
+    /**
+     * Execution plan of account merged with host one and resolved for each endpoint and stage.
+     */
+    private class CompiledExecutionPlan {
+
+        private final Map<String, Boolean> modulesExecution;
+
+        private final ExecutionPlan executionPlan;
+
+        private final List<ABTest> abTests;
+
+        private final Map<Endpoint, Map<Stage, StageExecutionPlan>> stagePlans;
+
+        private CompiledExecutionPlan(AccountHooksConfiguration hooksAccountConfig) {
+            modulesExecution = modulesExecutionFor(hooksAccountConfig);
+            executionPlan = effectiveExecutionPlanFor(hooksAccountConfig);
+            abTests = executionPlan.getAbTests() != null
+                    ? executionPlan.getAbTests().stream().filter(HookStageExecutor::isABTestEnabled).toList()
+                    : null;
+
+            stagePlans = new EnumMap<>(Endpoint.class);
+            for (Endpoint endpoint : Endpoint.values()) {
+                final Map<Stage, StageExecutionPlan> endpointStagePlans = new EnumMap<>(Stage.class);
+                for (Stage stage : Stage.values()) {
+                    endpointStagePlans.put(stage, effectiveStagePlanFrom(executionPlan, endpoint, stage));
+                }
+                stagePlans.put(endpoint, endpointStagePlans);
+            }
+        }
+
+        private StageExecutionPlan stagePlan(Endpoint endpoint, Stage stage) {
+            return endpoint != null
+                    ? stagePlans.get(endpoint).get(stage)
+                    : effectiveStagePlanFrom(executionPlan, null, stage);
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package org.prebid.server.json;
+
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JsonLogic expression compiled by {@link JsonLogic#compile}. Stateless, so can be shared between requests.
+ */
+public class CompiledJsonLogic {
+
+    private final JsonLogicCompiler.CompiledNode root;
+
+    CompiledJsonLogic(JsonLogicCompiler.CompiledNode root) {
+        this.root = Objects.requireNonNull(root);
+    }
+
+    public boolean evaluate(Map<String, Object> data) throws JsonLogicEvaluationException {
+        final Object result = root.evaluate(data);
+
+        if (result instanceof Boolean booleanResult) {
+            return booleanResult;
+        }
+        throw new JsonLogicEvaluationException("Wrong type was returned.");
+    }
+}
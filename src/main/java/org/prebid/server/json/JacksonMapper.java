@@ -9,6 +9,7 @@ import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 public class JacksonMapper {
@@ -67,6 +68,9 @@ public class JacksonMapper {
     public <T> T decodeValue(Buffer buf, Class<T> clazz) throws DecodeException {
         try {
             return mapper.readValue((InputStream) new ByteBufInputStream(buf.getByteBuf()), clazz);
+        } catch (JsonProcessingException e) {
+            // decode as string to keep error message referring to the content rather than to the stream
+            return decodeValue(buf.toString(StandardCharsets.UTF_8), clazz);
         } catch (IOException e) {
             throw new DecodeException(FAILED_TO_DECODE.formatted(e.getMessage()), e);
         }
@@ -75,6 +79,8 @@ public class JacksonMapper {
     public <T> T decodeValue(Buffer buf, TypeReference<T> type) throws DecodeException {
         try {
             return mapper.readValue(new ByteBufInputStream(buf.getByteBuf()), type);
+        } catch (JsonProcessingException e) {
+            return decodeValue(buf.toString(StandardCharsets.UTF_8), type);
         } catch (IOException e) {
             throw new DecodeException(FAILED_TO_DECODE.formatted(e.getMessage()), e);
         }
@@ -5,16 +5,20 @@ import io.github.jamsesso.jsonlogic.ast.JsonLogicParseException;
 import io.github.jamsesso.jsonlogic.ast.JsonLogicParser;
 import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
 import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluator;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicExpression;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 public class JsonLogic {
 
     private final JsonLogicEvaluator evaluator;
+    private final JsonLogicCompiler compiler;
 
-    public JsonLogic(JsonLogicEvaluator jsonLogicEvaluator) {
-        evaluator = Objects.requireNonNull(jsonLogicEvaluator);
+    public JsonLogic(List<JsonLogicExpression> expressions) {
+        evaluator = new JsonLogicEvaluator(Objects.requireNonNull(expressions));
+        compiler = new JsonLogicCompiler(evaluator, expressions);
     }
 
     public JsonLogicNode parse(String jsonNode) {
@@ -25,6 +29,14 @@ public class JsonLogic {
         }
     }
 
+    /**
+     * Compiles parsed expression once into closures, so it can be evaluated for each request
+     * without walking the syntax tree and looking up its operations again.
+     */
+    public CompiledJsonLogic compile(JsonLogicNode jsonLogicNode) {
+        return new CompiledJsonLogic(compiler.compile(jsonLogicNode));
+    }
+
     public boolean evaluate(JsonLogicNode jsonLogicNode, Map<String, Object> data) throws JsonLogicEvaluationException {
         final Object result = evaluator.evaluate(jsonLogicNode, data);
 
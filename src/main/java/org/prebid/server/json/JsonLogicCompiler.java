@@ -0,0 +1,185 @@
+package org.prebid.server.json;
+
+import io.github.jamsesso.jsonlogic.ast.JsonLogicArray;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicOperation;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicPrimitive;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicString;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicVariable;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluator;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.EqualityExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.IfExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.InequalityExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.LogicExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.PreEvaluatedArgumentsExpression;
+import io.github.jamsesso.jsonlogic.utils.ArrayLike;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Turns JsonLogic syntax tree into a tree of closures with the same semantics as {@link JsonLogicEvaluator} has:
+ * operations are resolved once, constants are evaluated once and plain variables are read from data directly.
+ * <p>
+ * Operations that are not known to the compiler are evaluated by their expressions as evaluator does,
+ * as well as variables that cannot be resolved by plain map lookups.
+ */
+class JsonLogicCompiler {
+
+    private final JsonLogicEvaluator evaluator;
+    private final Map<String, JsonLogicExpression> expressions;
+
+    JsonLogicCompiler(JsonLogicEvaluator evaluator, List<JsonLogicExpression> expressions) {
+        this.evaluator = Objects.requireNonNull(evaluator);
+
+        this.expressions = new HashMap<>();
+        for (JsonLogicExpression expression : expressions) {
+            this.expressions.put(expression.key(), expression);
+        }
+    }
+
+    CompiledNode compile(JsonLogicNode node) {
+        return switch (node.getType()) {
+            case PRIMITIVE -> constant(evaluator.evaluate((JsonLogicPrimitive<?>) node));
+            case VARIABLE -> compileVariable((JsonLogicVariable) node);
+            case ARRAY -> compileArray((JsonLogicArray) node);
+            case OPERATION -> compileOperation((JsonLogicOperation) node);
+        };
+    }
+
+    private static CompiledNode constant(Object value) {
+        return data -> value;
+    }
+
+    private CompiledNode compileVariable(JsonLogicVariable variable) {
+        if (!(variable.getKey() instanceof JsonLogicString key) || key.getValue().isEmpty()) {
+            return data -> evaluator.evaluate(variable, data);
+        }
+
+        final CompiledNode defaultValue = compile(variable.getDefaultValue());
+        final String[] path = key.getValue().split("\\.");
+
+        return data -> {
+            final Object defaultResult = defaultValue.evaluate(null);
+            if (data == null) {
+                return defaultResult;
+            }
+
+            Object result = data;
+            for (String part : path) {
+                if (!(result instanceof Map<?, ?> map) || ArrayLike.isEligible(result)) {
+                    // array indexes and other containers are left to evaluator
+                    return evaluator.evaluate(variable, data);
+                }
+
+                result = JsonLogicEvaluator.transform(map.get(part));
+                if (result == null) {
+                    return defaultResult;
+                }
+            }
+
+            return result;
+        };
+    }
+
+    private CompiledNode compileArray(JsonLogicArray array) {
+        final CompiledNode[] elements = compileAll(array);
+
+        return data -> evaluateAll(elements, data);
+    }
+
+    private CompiledNode[] compileAll(JsonLogicArray array) {
+        final CompiledNode[] nodes = new CompiledNode[array.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = compile(array.get(i));
+        }
+        return nodes;
+    }
+
+    private static List<Object> evaluateAll(CompiledNode[] nodes, Object data) throws JsonLogicEvaluationException {
+        final List<Object> values = new ArrayList<>(nodes.length);
+        for (CompiledNode node : nodes) {
+            values.add(node.evaluate(data));
+        }
+        return values;
+    }
+
+    private CompiledNode compileOperation(JsonLogicOperation operation) {
+        final JsonLogicExpression expression = expressions.get(operation.getOperator());
+        if (expression == null) {
+            // fails the same way evaluator does
+            return data -> evaluator.evaluate(operation, data);
+        }
+
+        final JsonLogicArray arguments = operation.getArguments();
+
+        if (expression instanceof PreEvaluatedArgumentsExpression preEvaluatedExpression) {
+            return compilePreEvaluated(preEvaluatedExpression, arguments);
+        }
+        if (expression == InequalityExpression.INSTANCE) {
+            final CompiledNode equality = compilePreEvaluated(EqualityExpression.INSTANCE, arguments);
+            return data -> !(Boolean) equality.evaluate(data);
+        }
+        if ((expression == LogicExpression.AND || expression == LogicExpression.OR) && !arguments.isEmpty()) {
+            return compileLogic(expression == LogicExpression.AND, compileAll(arguments));
+        }
+        if (expression == IfExpression.IF || expression == IfExpression.TERNARY) {
+            return compileIf(compileAll(arguments));
+        }
+
+        return data -> expression.evaluate(evaluator, arguments, data);
+    }
+
+    private CompiledNode compilePreEvaluated(PreEvaluatedArgumentsExpression expression, JsonLogicArray arguments) {
+        final CompiledNode[] compiledArguments = compileAll(arguments);
+
+        return data -> {
+            final List<Object> values = evaluateAll(compiledArguments, data);
+
+            // single array argument is unwrapped, e.g. {"merge": [[1, 2]]}
+            return values.size() == 1 && ArrayLike.isEligible(values.getFirst())
+                    ? expression.evaluate(new ArrayLike(values.getFirst()), data)
+                    : expression.evaluate(values, data);
+        };
+    }
+
+    private static CompiledNode compileLogic(boolean isAnd, CompiledNode[] arguments) {
+        return data -> {
+            Object result = null;
+            for (CompiledNode argument : arguments) {
+                result = argument.evaluate(data);
+
+                final boolean truthy = io.github.jamsesso.jsonlogic.JsonLogic.truthy(result);
+                if (isAnd != truthy) {
+                    return result;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static CompiledNode compileIf(CompiledNode[] arguments) {
+        return data -> {
+            for (int i = 0; i < arguments.length - 1; i += 2) {
+                if (io.github.jamsesso.jsonlogic.JsonLogic.truthy(arguments[i].evaluate(data))) {
+                    return arguments[i + 1].evaluate(data);
+                }
+            }
+
+            return arguments.length % 2 == 1
+                    ? arguments[arguments.length - 1].evaluate(data)
+                    : null;
+        };
+    }
+
+    @FunctionalInterface
+    interface CompiledNode {
+
+        Object evaluate(Object data) throws JsonLogicEvaluationException;
+    }
+}
@@ -2,9 +2,9 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 public class AlertsConfigMetrics extends UpdatableMetrics {
@@ -17,7 +17,7 @@ public class AlertsConfigMetrics extends UpdatableMetrics {
 
         alertsAccountConfigMetricsCreator = account -> new AlertsAccountConfigMetric(
                 metricRegistry, counterType, prefix(), account);
-        alertsAccountConfigMetrics = new HashMap<>();
+        alertsAccountConfigMetrics = new ConcurrentHashMap<>();
     }
 
     private static Function<MetricName, String> nameCreator() {
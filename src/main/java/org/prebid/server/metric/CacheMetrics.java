@@ -3,9 +3,9 @@ package org.prebid.server.metric;
 import com.codahale.metrics.MetricRegistry;
 import org.prebid.server.metric.model.CacheCreativeType;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -32,7 +32,7 @@ class CacheMetrics extends UpdatableMetrics {
         cacheCreativeTtlMetrics = new CacheCreativeTtlMetrics(
                 metricRegistry, counterType, createPrefix(), CacheCreativeType.CREATIVE);
         cacheVtrackMetrics = new CacheVtrackMetrics(metricRegistry, counterType, createPrefix());
-        cacheModuleStorageMetrics = new HashMap<>();
+        cacheModuleStorageMetrics = new ConcurrentHashMap<>();
         cacheModuleStorageMetricsCreator = moduleCode ->
                 new CacheModuleStorageMetrics(metricRegistry, counterType, createPrefix(), moduleCode);
     }
@@ -49,7 +49,7 @@ class CacheMetrics extends UpdatableMetrics {
         cacheCreativeTtlMetrics = new CacheCreativeTtlMetrics(
                 metricRegistry, counterType, createPrefix(prefix), CacheCreativeType.CREATIVE);
         cacheVtrackMetrics = new CacheVtrackMetrics(metricRegistry, counterType, createPrefix(prefix));
-        cacheModuleStorageMetrics = new HashMap<>();
+        cacheModuleStorageMetrics = new ConcurrentHashMap<>();
         cacheModuleStorageMetricsCreator = moduleCode ->
                 new CacheModuleStorageMetrics(metricRegistry, counterType, createPrefix(), moduleCode);
     }
@@ -2,9 +2,9 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -25,7 +25,7 @@ class CircuitBreakerMetrics extends UpdatableMetrics {
 
         namedCircuitBreakerMetricsCreator =
                 name -> new NamedCircuitBreakerMetrics(metricRegistry, counterType, createPrefix(type), name);
-        namedCircuitBreakerMetrics = new HashMap<>();
+        namedCircuitBreakerMetrics = new ConcurrentHashMap<>();
     }
 
     NamedCircuitBreakerMetrics forName(String name) {
@@ -29,6 +29,8 @@ public enum MetricName {
     app_requests,
     no_cookie_requests,
     request_time,
+    bidder_params_validation_time,
+    make_http_requests_time,
     prices,
     imps_requested,
     imps_dropped,
@@ -39,6 +41,8 @@ public enum MetricName {
     bids_received,
     adm_bids_received,
     nurl_bids_received,
+    hedged_requests,
+    hedged_requests_won,
 
     // request types,
     openrtb2web("openrtb2-web"),
@@ -101,6 +105,9 @@ public enum MetricName {
     // privacy
     coppa,
     lmt,
+    tcf,
+    gpp,
+    decode_time,
     specified,
     opt_out("opt-out"),
     invalid,
@@ -136,10 +143,14 @@ public enum MetricName {
     stored_request("stored-request"),
     amp_stored_request("amp-stored-request"),
     account,
+    parsed_stored_data("parsed-stored-data"),
     initialize,
     update,
     hit,
     miss,
+    parse_time,
+    coalesced,
+    refresh_ahead("refresh-ahead"),
 
     // hooks
     call,
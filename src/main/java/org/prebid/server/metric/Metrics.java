@@ -14,10 +14,11 @@ import org.prebid.server.settings.model.Account;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -39,9 +40,6 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
     private final RequestsMetrics requestsMetrics;
     private final Map<MetricName, RequestStatusMetrics> requestMetrics;
     private final Map<String, AccountMetrics> accountMetrics;
@@ -82,21 +80,21 @@ public class Metrics extends UpdatableMetrics {
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
-        requestMetrics = new EnumMap<>(MetricName.class);
-        accountMetrics = new HashMap<>();
-        adapterMetrics = new HashMap<>();
-        analyticMetrics = new HashMap<>();
-        priceFloorsMetrics = new HashMap<>();
+        requestMetrics = new ConcurrentHashMap<>();
+        accountMetrics = new ConcurrentHashMap<>();
+        adapterMetrics = new ConcurrentHashMap<>();
+        analyticMetrics = new ConcurrentHashMap<>();
+        priceFloorsMetrics = new ConcurrentHashMap<>();
         alertsMetrics = new AlertsConfigMetrics(metricRegistry, counterType);
-        bidderCardinailtyMetrics = new HashMap<>();
+        bidderCardinailtyMetrics = new ConcurrentHashMap<>();
         userSyncMetrics = new UserSyncMetrics(metricRegistry, counterType);
         cookieSyncMetrics = new CookieSyncMetrics(metricRegistry, counterType);
         privacyMetrics = new PrivacyMetrics(metricRegistry, counterType);
-        circuitBreakerMetrics = new HashMap<>();
+        circuitBreakerMetrics = new ConcurrentHashMap<>();
         cacheMetrics = new CacheMetrics(metricRegistry, counterType);
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
-        settingsCacheMetrics = new HashMap<>();
+        settingsCacheMetrics = new ConcurrentHashMap<>();
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
         profileMetrics = new ProfileMetrics(metricRegistry, counterType);
     }
@@ -233,6 +231,10 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(requestType, millis);
     }
 
+    public void updateBidderParamsValidationTime(long nanos) {
+        updateTimer(MetricName.bidder_params_validation_time, nanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateRequestTypeMetric(MetricName requestType, MetricName requestStatus) {
         forRequestType(requestType).incCounter(requestStatus);
     }
@@ -281,6 +283,10 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).requests().incCounter(metricName);
     }
 
+    public void updateAdapterMakeHttpRequestsTime(String bidder, long nanos) {
+        forAdapter(bidder).updateTimer(MetricName.make_http_requests_time, nanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateAdapterRequestTypeAndNoCookieMetrics(String bidder, MetricName requestType, boolean noCookie) {
         final AdapterTypeMetrics adapterTypeMetrics = forAdapter(bidder);
 
@@ -291,6 +297,14 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateAdapterHedgedRequestMetric(String bidder) {
+        forAdapter(bidder).incCounter(MetricName.hedged_requests);
+    }
+
+    public void updateAdapterHedgedRequestWonMetric(String bidder) {
+        forAdapter(bidder).incCounter(MetricName.hedged_requests_won);
+    }
+
     public void updateAdapterRequestBuyerUidScrubbedMetrics(String bidder, Account account) {
         forAdapter(bidder).request().incCounter(MetricName.buyeruid_scrubbed);
         if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
@@ -511,6 +525,14 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updatePrivacyConsentCacheMetric(MetricName consentType, MetricName event) {
+        privacy().consentCache(consentType).incCounter(event);
+    }
+
+    public void updatePrivacyConsentDecodeTime(MetricName consentType, long decodeTimeMicros) {
+        privacy().consentCache(consentType).updateHistogram(MetricName.decode_time, decodeTimeMicros);
+    }
+
     public void updatePrivacyTcfMissingMetric() {
         privacy().tcf().incCounter(MetricName.missing);
     }
@@ -686,6 +708,10 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void updateSettingsCacheParseTime(MetricName cacheType, long timeElapsed) {
+        forSettingsCacheType(cacheType).updateTimer(MetricName.parse_time, timeElapsed);
+    }
+
     public void updateHooksMetrics(
             String moduleCode,
             Stage stage,
@@ -3,16 +3,13 @@ package org.prebid.server.metric;
 import com.codahale.metrics.MetricRegistry;
 import org.prebid.server.hooks.execution.model.Stage;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 class ModuleMetrics extends UpdatableMetrics {
 
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
     private final Function<Stage, StageMetrics> stageMetricsCreator;
     private final Map<Stage, StageMetrics> stageMetrics;
 
@@ -26,7 +23,7 @@ class ModuleMetrics extends UpdatableMetrics {
 
         stageMetricsCreator = stage ->
                 new StageMetrics(metricRegistry, counterType, createPrefix(prefix, moduleCode), stage);
-        stageMetrics = new HashMap<>();
+        stageMetrics = new ConcurrentHashMap<>();
 
         successMetrics = new HookSuccessMetrics(metricRegistry, counterType, createPrefix(prefix, moduleCode));
     }
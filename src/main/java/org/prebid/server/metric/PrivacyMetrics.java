@@ -2,6 +2,8 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -12,12 +14,19 @@ class PrivacyMetrics extends UpdatableMetrics {
 
     private final USPrivacyMetrics usPrivacyMetrics;
     private final TcfMetrics tcfMetrics;
+    private final Map<MetricName, ConsentCacheMetrics> consentCacheMetrics;
 
     PrivacyMetrics(MetricRegistry metricRegistry, CounterType counterType) {
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
                 metricName -> "privacy." + metricName);
         usPrivacyMetrics = new USPrivacyMetrics(metricRegistry, counterType, "privacy");
         tcfMetrics = new TcfMetrics(metricRegistry, counterType, "privacy");
+
+        consentCacheMetrics = new EnumMap<>(MetricName.class);
+        consentCacheMetrics.put(
+                MetricName.tcf, new ConsentCacheMetrics(metricRegistry, counterType, "privacy", MetricName.tcf));
+        consentCacheMetrics.put(
+                MetricName.gpp, new ConsentCacheMetrics(metricRegistry, counterType, "privacy", MetricName.gpp));
     }
 
     USPrivacyMetrics usp() {
@@ -28,6 +37,10 @@ class PrivacyMetrics extends UpdatableMetrics {
         return tcfMetrics;
     }
 
+    ConsentCacheMetrics consentCache(MetricName consentType) {
+        return consentCacheMetrics.get(consentType);
+    }
+
     static class USPrivacyMetrics extends UpdatableMetrics {
 
         USPrivacyMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
@@ -39,4 +52,16 @@ class PrivacyMetrics extends UpdatableMetrics {
             return metricName -> "%s.usp.%s".formatted(prefix, metricName);
         }
     }
+
+    static class ConsentCacheMetrics extends UpdatableMetrics {
+
+        ConsentCacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix, MetricName type) {
+            super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                    nameCreator(Objects.requireNonNull(prefix), Objects.requireNonNull(type)));
+        }
+
+        private static Function<MetricName, String> nameCreator(String prefix, MetricName type) {
+            return metricName -> "%s.consent-cache.%s.%s".formatted(prefix, type, metricName);
+        }
+    }
 }
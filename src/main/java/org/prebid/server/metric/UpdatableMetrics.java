@@ -1,35 +1,36 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
-import java.util.EnumMap;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
 class UpdatableMetrics {
 
+    private static final int METRIC_NAMES_NUMBER = MetricName.values().length;
+
     private final MetricRegistry metricRegistry;
     private final Function<MetricName, String> nameCreator;
-    private final MetricIncrementer incrementer;
+    private final Function<String, LongConsumer> incrementerCreator;
     private final CounterType counterType;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
-    private final Map<MetricName, String> metricNames;
+    // handles are indexed by metric name ordinal and resolved lazily without synchronization: racing threads end up
+    // with the same underlying metrics since their lookup by metric registry is guaranteed to be thread-safe
+    private final MetricHandle[] metricHandles;
 
     UpdatableMetrics(MetricRegistry metricRegistry, CounterType counterType, Function<MetricName, String> nameCreator) {
         this.metricRegistry = metricRegistry;
         this.counterType = counterType;
         this.nameCreator = nameCreator;
-        metricNames = new EnumMap<>(MetricName.class);
+        metricHandles = new MetricHandle[METRIC_NAMES_NUMBER];
 
-        incrementer = switch (counterType) {
-            case flushingCounter -> (registry, metricName, value) ->
-                    registry.counter(metricName, ResettingCounter::new).inc(value);
-            case counter -> (registry, metricName, value) -> registry.counter(metricName).inc(value);
-            case meter -> (registry, metricName, value) -> registry.meter(metricName).mark(value);
+        incrementerCreator = switch (counterType) {
+            case flushingCounter -> metricName -> metricRegistry.counter(metricName, ResettingCounter::new)::inc;
+            case counter -> metricName -> metricRegistry.counter(metricName)::inc;
+            case meter -> metricName -> metricRegistry.meter(metricName)::mark;
         };
     }
 
@@ -44,42 +45,93 @@ class UpdatableMetrics {
      * Increments metric's counter on a given value.
      */
     void incCounter(MetricName metricName, long value) {
-        incrementer.accept(metricRegistry, name(metricName), value);
+        final MetricHandle handle = handle(metricName);
+
+        LongConsumer incrementer = handle.incrementer;
+        if (incrementer == null) {
+            incrementer = incrementerCreator.apply(handle.name);
+            handle.incrementer = incrementer;
+        }
+
+        incrementer.accept(value);
     }
 
     /**
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        updateTimer(metricName, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates metric's timer with a given value in given time unit.
+     */
+    void updateTimer(MetricName metricName, long duration, TimeUnit unit) {
+        final MetricHandle handle = handle(metricName);
+
+        Timer timer = handle.timer;
+        if (timer == null) {
+            timer = metricRegistry.timer(handle.name);
+            handle.timer = timer;
+        }
+
+        timer.update(duration, unit);
     }
 
     /**
      * Updates metric's histogram with a given value.
      */
     void updateHistogram(MetricName metricName, long value) {
-        // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
-        metricRegistry.histogram(name(metricName)).update(value);
+        final MetricHandle handle = handle(metricName);
+
+        Histogram histogram = handle.histogram;
+        if (histogram == null) {
+            // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
+            histogram = metricRegistry.histogram(handle.name);
+            handle.histogram = histogram;
+        }
+
+        histogram.update(value);
     }
 
     void createGauge(MetricName metricName, LongSupplier supplier) {
-        metricRegistry.gauge(name(metricName), () -> supplier::getAsLong);
+        metricRegistry.gauge(handle(metricName).name, () -> supplier::getAsLong);
     }
 
     void removeMetric(MetricName metricName) {
-        metricRegistry.remove(name(metricName));
+        final String name = handle(metricName).name;
+        metricHandles[metricName.ordinal()] = null;
+        metricRegistry.remove(name);
     }
 
-    private String name(MetricName metricName) {
-        return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
+    private MetricHandle handle(MetricName metricName) {
+        final int index = metricName.ordinal();
+
+        MetricHandle handle = metricHandles[index];
+        if (handle == null) {
+            handle = new MetricHandle(nameCreator.apply(metricName));
+            metricHandles[index] = handle;
+        }
+
+        return handle;
     }
 
     public CounterType getCounterType() {
         return counterType;
     }
 
-    @FunctionalInterface
-    private interface MetricIncrementer {
-        void accept(MetricRegistry metricRegistry, String metricName, long value);
+    private static class MetricHandle {
+
+        private final String name;
+
+        private LongConsumer incrementer;
+
+        private Timer timer;
+
+        private Histogram histogram;
+
+        private MetricHandle(String name) {
+            this.name = name;
+        }
     }
 }
@@ -0,0 +1,191 @@
+package org.prebid.server.privacy;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.gpp.encoder.GppModel;
+import com.iab.gpp.encoder.section.EncodableSection;
+import com.iabtcf.decoder.TCString;
+import org.prebid.server.auction.gpp.model.GppModelWrapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Keeps recently decoded TCF and GPP consent strings, since the same strings are sent by most of the traffic.
+ * <p>
+ * Cache is bounded by the total length of cached strings. Both TCF and GPP decoders are lazy and fill their models
+ * on first access, so models are fully decoded before caching to be safely shared between threads.
+ * Cached models must not be modified.
+ */
+public class DecodedConsentCache {
+
+    private static final String GPP_FIELD_NAMES_PACKAGE = "com.iab.gpp.encoder.field.";
+
+    private static final ClassValue<List<String>> GPP_SECTION_FIELD_NAMES = new ClassValue<>() {
+        @Override
+        protected List<String> computeValue(Class<?> sectionClass) {
+            return gppSectionFieldNames(sectionClass);
+        }
+    };
+
+    private final Metrics metrics;
+
+    private final Cache<String, TCString> tcStrings;
+    private final Cache<String, GppModel> gppModels;
+
+    public DecodedConsentCache(long maxSizeKb, Metrics metrics) {
+        if (maxSizeKb <= 0) {
+            throw new IllegalArgumentException("Consent cache size must be positive");
+        }
+
+        this.metrics = Objects.requireNonNull(metrics);
+
+        tcStrings = createCache(maxSizeKb);
+        gppModels = createCache(maxSizeKb);
+    }
+
+    private static <T> Cache<String, T> createCache(long maxSizeKb) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maxSizeKb * 1024)
+                .<String, T>weigher((consent, ignored) -> consent.length())
+                .build();
+    }
+
+    /**
+     * Returns decoded TCF consent string or throws exception thrown by decoder if string is invalid.
+     */
+    public TCString decodeTcf(String consent) {
+        return decode(consent, tcStrings, TCString::decode, DecodedConsentCache::fillTcString, MetricName.tcf);
+    }
+
+    /**
+     * Returns decoded GPP string or throws exception thrown by decoder if string is invalid.
+     */
+    public GppModel decodeGpp(String gpp) {
+        return decode(gpp, gppModels, GppModelWrapper::new, DecodedConsentCache::fillGppModel, MetricName.gpp);
+    }
+
+    private <T> T decode(String consent,
+                         Cache<String, T> cache,
+                         Function<String, T> decoder,
+                         Predicate<T> filler,
+                         MetricName consentType) {
+
+        final T cachedValue = cache.getIfPresent(consent);
+        if (cachedValue != null) {
+            metrics.updatePrivacyConsentCacheMetric(consentType, MetricName.hit);
+            return cachedValue;
+        }
+
+        metrics.updatePrivacyConsentCacheMetric(consentType, MetricName.miss);
+
+        final long startTime = System.nanoTime();
+        final T value = decoder.apply(consent);
+        final boolean isFilled = filler.test(value);
+        metrics.updatePrivacyConsentDecodeTime(
+                consentType, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+
+        // model that could not be fully decoded is not shared, so it fails for each request as before
+        if (isFilled) {
+            cache.put(consent, value);
+        }
+
+        return value;
+    }
+
+    private static boolean fillTcString(TCString tcString) {
+        try {
+            tcString.getVersion();
+            tcString.getCreated();
+            tcString.getLastUpdated();
+            tcString.getCmpId();
+            tcString.getCmpVersion();
+            tcString.getConsentScreen();
+            tcString.getConsentLanguage();
+            tcString.getVendorListVersion();
+            tcString.getPurposesConsent();
+            tcString.getVendorConsent();
+            tcString.getDefaultVendorConsent();
+            tcString.getTcfPolicyVersion();
+            tcString.isServiceSpecific();
+            tcString.getUseNonStandardStacks();
+            tcString.getSpecialFeatureOptIns();
+            tcString.getPurposesLITransparency();
+            tcString.getPurposeOneTreatment();
+            tcString.getPublisherCC();
+            tcString.getVendorLegitimateInterest();
+            tcString.getPublisherRestrictions();
+            tcString.getAllowedVendors();
+            tcString.getDisclosedVendors();
+            tcString.getPubPurposesConsent();
+            tcString.getPubPurposesLITransparency();
+            tcString.getCustomPurposesConsent();
+            tcString.getCustomPurposesLITransparency();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static boolean fillGppModel(GppModel gppModel) {
+        try {
+            for (Integer sectionId : gppModel.getSectionIds()) {
+                if (!fillGppSection(gppModel.getSection(sectionId))) {
+                    return false;
+                }
+            }
+            return fillGppSection(gppModel.getHeader());
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static boolean fillGppSection(EncodableSection section) {
+        if (section == null) {
+            return true;
+        }
+
+        final List<String> fieldNames = GPP_SECTION_FIELD_NAMES.get(section.getClass());
+        if (fieldNames == null) {
+            return false;
+        }
+
+        // reading field of each segment makes section decode all of them
+        fieldNames.forEach(section::getFieldValue);
+        return true;
+    }
+
+    /**
+     * Resolves names of section fields declared as constants of the corresponding class,
+     * e.g. {@code UsNatField} for {@code UsNat} section, or null for a section unknown to the library version in use.
+     */
+    private static List<String> gppSectionFieldNames(Class<?> sectionClass) {
+        try {
+            final Class<?> fieldNamesClass =
+                    Class.forName(GPP_FIELD_NAMES_PACKAGE + sectionClass.getSimpleName() + "Field");
+            return Arrays.stream(fieldNamesClass.getFields())
+                    .filter(field -> Modifier.isStatic(field.getModifiers()) && field.getType() == String.class)
+                    .map(DecodedConsentCache::staticFieldValue)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static String staticFieldValue(Field field) {
+        try {
+            return (String) field.get(null);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.settings.model.EnforcePurpose;
 import org.prebid.server.settings.model.Purpose;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -61,10 +62,24 @@ public abstract class PurposeStrategy {
                                            Collection<VendorPermissionWithGvl> vendorPermissions,
                                            boolean wasDowngraded) {
 
-        final Collection<VendorPermissionWithGvl> excludedVendors = excludedVendors(vendorPermissions, purpose);
-        final Collection<VendorPermissionWithGvl> vendorForPurpose = vendorPermissions.stream()
-                .filter(vendorPermission -> !excludedVendors.contains(vendorPermission))
-                .toList();
+        final List<String> bidderNameExceptions = purpose.getVendorExceptions();
+
+        final Collection<VendorPermissionWithGvl> excludedVendors;
+        final Collection<VendorPermissionWithGvl> vendorForPurpose;
+        if (CollectionUtils.isEmpty(bidderNameExceptions)) {
+            excludedVendors = Collections.emptyList();
+            vendorForPurpose = vendorPermissions;
+        } else {
+            excludedVendors = new ArrayList<>();
+            vendorForPurpose = new ArrayList<>();
+            for (VendorPermissionWithGvl vendorPermission : vendorPermissions) {
+                if (bidderNameExceptions.contains(vendorPermission.getVendorPermission().getBidderName())) {
+                    excludedVendors.add(vendorPermission);
+                } else {
+                    vendorForPurpose.add(vendorPermission);
+                }
+            }
+        }
 
         allowedByTypeStrategy(vendorConsent, purpose, vendorForPurpose, excludedVendors)
                 .forEach(this::allow);
@@ -76,17 +91,6 @@ public abstract class PurposeStrategy {
         naturalVendorPermission.forEach(this::allowNaturally);
     }
 
-    private Collection<VendorPermissionWithGvl> excludedVendors(Collection<VendorPermissionWithGvl> vendorPermissions,
-                                                                Purpose purpose) {
-
-        final List<String> bidderNameExceptions = purpose.getVendorExceptions();
-
-        return CollectionUtils.isEmpty(bidderNameExceptions)
-                ? Collections.emptyList()
-                : CollectionUtils.select(vendorPermissions, vendorPermission ->
-                bidderNameExceptions.contains(vendorPermission.getVendorPermission().getBidderName()));
-    }
-
     private Stream<VendorPermission> allowedByTypeStrategy(TCString vendorConsent,
                                                            Purpose purpose,
                                                            Collection<VendorPermissionWithGvl> vendorForPurpose,
@@ -0,0 +1,103 @@
+package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.utils.IntIterator;
+import com.iabtcf.v2.PublisherRestriction;
+import com.iabtcf.v2.RestrictionType;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
+
+import java.util.BitSet;
+
+/**
+ * Publisher restrictions of consent string laid out as purpose/vendor bitsets, so the restriction of any vendor
+ * is resolved by a few bit lookups instead of scanning all the restrictions for each purpose.
+ * <p>
+ * When vendor has several restrictions for the same purpose, NOT_ALLOWED wins, otherwise the first one is used.
+ */
+class PublisherRestrictions {
+
+    // purpose id has 6 bits in consent string
+    private static final int MAX_PURPOSE_ID = 63;
+
+    private final PurposeRestrictions[] purposeRestrictions;
+
+    private PublisherRestrictions(PurposeRestrictions[] purposeRestrictions) {
+        this.purposeRestrictions = purposeRestrictions;
+    }
+
+    static PublisherRestrictions of(TCString tcString) {
+        final PurposeRestrictions[] purposeRestrictions = new PurposeRestrictions[MAX_PURPOSE_ID + 1];
+
+        for (PublisherRestriction publisherRestriction : tcString.getPublisherRestrictions()) {
+            final int purposeId = publisherRestriction.getPurposeId();
+            if (purposeId < 0 || purposeId > MAX_PURPOSE_ID) {
+                continue;
+            }
+
+            if (purposeRestrictions[purposeId] == null) {
+                purposeRestrictions[purposeId] = new PurposeRestrictions();
+            }
+            purposeRestrictions[purposeId].add(publisherRestriction);
+        }
+
+        return new PublisherRestrictions(purposeRestrictions);
+    }
+
+    RestrictionType restrictionFor(PurposeCode purpose, Integer vendorId) {
+        final int purposeId = purpose.code();
+        final PurposeRestrictions restrictions = purposeId >= 0 && purposeId <= MAX_PURPOSE_ID
+                ? purposeRestrictions[purposeId]
+                : null;
+
+        return restrictions != null && vendorId != null && vendorId >= 0
+                ? restrictions.restrictionFor(vendorId)
+                : RestrictionType.UNDEFINED;
+    }
+
+    private static class PurposeRestrictions {
+
+        private final BitSet notAllowed = new BitSet();
+
+        private final BitSet requireConsent = new BitSet();
+
+        private final BitSet requireLegitimateInterest = new BitSet();
+
+        // vendors which already got their first restriction other than NOT_ALLOWED
+        private final BitSet restricted = new BitSet();
+
+        private void add(PublisherRestriction publisherRestriction) {
+            final RestrictionType restrictionType = publisherRestriction.getRestrictionType();
+            final IntIterator vendorIds = publisherRestriction.getVendorIds().intIterator();
+
+            while (vendorIds.hasNext()) {
+                final int vendorId = vendorIds.nextInt();
+                if (vendorId < 0) {
+                    continue;
+                }
+
+                if (restrictionType == RestrictionType.NOT_ALLOWED) {
+                    notAllowed.set(vendorId);
+                } else if (!restricted.get(vendorId)) {
+                    restricted.set(vendorId);
+                    if (restrictionType == RestrictionType.REQUIRE_CONSENT) {
+                        requireConsent.set(vendorId);
+                    } else if (restrictionType == RestrictionType.REQUIRE_LEGITIMATE_INTEREST) {
+                        requireLegitimateInterest.set(vendorId);
+                    }
+                }
+            }
+        }
+
+        private RestrictionType restrictionFor(int vendorId) {
+            if (notAllowed.get(vendorId)) {
+                return RestrictionType.NOT_ALLOWED;
+            }
+            if (requireConsent.get(vendorId)) {
+                return RestrictionType.REQUIRE_CONSENT;
+            }
+            return requireLegitimateInterest.get(vendorId)
+                    ? RestrictionType.REQUIRE_LEGITIMATE_INTEREST
+                    : RestrictionType.UNDEFINED;
+        }
+    }
+}
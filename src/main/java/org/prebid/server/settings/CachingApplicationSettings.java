@@ -1,6 +1,7 @@
 package org.prebid.server.settings;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
@@ -16,30 +17,57 @@ import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredItem;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 
+import java.time.Clock;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
-
+import java.util.function.Supplier;
+
+/**
+ * Caches accounts, categories and stored data fetched from the delegate.
+ * <p>
+ * Concurrent misses of the same key are coalesced into a single delegate call. Accounts and categories are also
+ * refreshed in background shortly before expiry, while the cached (stale) value is still served, so hot entries
+ * never expire under load. Background refreshes are skipped when too many loads are in flight.
+ * <p>
+ * Loads started before an account invalidation neither put their results into the cache nor are joined by later
+ * callers, so the invalidated value is not brought back.
+ */
 public class CachingApplicationSettings implements ApplicationSettings {
 
     private static final Logger logger = LoggerFactory.getLogger(CachingApplicationSettings.class);
 
     private final ApplicationSettings delegate;
 
-    private final Map<String, Account> accountCache;
+    private final Map<String, CachedValue<Account>> accountCache;
     private final Map<String, String> accountToErrorCache;
     private final Map<String, String> adServerPublisherToErrorCache;
-    private final Map<String, Map<String, String>> categoryConfigCache;
+    private final Map<String, CachedValue<Map<String, String>>> categoryConfigCache;
     private final SettingsCache<String> cache;
     private final SettingsCache<String> ampCache;
     private final SettingsCache<String> videoCache;
     private final SettingsCache<Profile> profileCache;
     private final Metrics metrics;
+    private final long refreshAfterMillis;
+    private final int refreshAheadMaxInFlightLoads;
+    private final Clock clock;
+
+    private final AtomicInteger inFlightLoadsNumber;
+    private final InFlightLoads<Account> accountLoads;
+    private final InFlightLoads<Map<String, String>> categoryConfigLoads;
+    private final InFlightLoads<StoredDataResult<String>> storedDataLoads;
+    private final InFlightLoads<StoredDataResult<String>> ampStoredDataLoads;
+    private final InFlightLoads<StoredDataResult<String>> videoStoredDataLoads;
+    private final InFlightLoads<StoredDataResult<Profile>> profileLoads;
 
     public CachingApplicationSettings(ApplicationSettings delegate,
                                       SettingsCache<String> cache,
@@ -49,7 +77,10 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                       Metrics metrics,
                                       int ttl,
                                       int size,
-                                      int jitter) {
+                                      int jitter,
+                                      int refreshAhead,
+                                      int refreshAheadMaxInFlightLoads,
+                                      Clock clock) {
 
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
@@ -57,6 +88,13 @@ public class CachingApplicationSettings implements ApplicationSettings {
         if (jitter < 0 || jitter >= ttl) {
             throw new IllegalArgumentException("jitter must match the inequality: 0 <= jitter < ttl");
         }
+        if (refreshAhead < 0 || refreshAhead >= ttl - jitter) {
+            throw new IllegalArgumentException(
+                    "refresh ahead must match the inequality: 0 <= refresh ahead < ttl - jitter");
+        }
+        if (refreshAheadMaxInFlightLoads <= 0) {
+            throw new IllegalArgumentException("refresh ahead max in-flight loads must be positive");
+        }
 
         this.delegate = Objects.requireNonNull(delegate);
         this.accountCache = SettingsCache.createCache(ttl, size, jitter);
@@ -68,12 +106,25 @@ public class CachingApplicationSettings implements ApplicationSettings {
         this.videoCache = Objects.requireNonNull(videoCache);
         this.profileCache = Objects.requireNonNull(profileCache);
         this.metrics = Objects.requireNonNull(metrics);
+        // entries are refreshed before the earliest possible expiry, so jitter is taken into account
+        this.refreshAfterMillis = refreshAhead > 0 ? (ttl - jitter - refreshAhead) * 1000L : Long.MAX_VALUE;
+        this.refreshAheadMaxInFlightLoads = refreshAheadMaxInFlightLoads;
+        this.clock = Objects.requireNonNull(clock);
+
+        inFlightLoadsNumber = new AtomicInteger();
+        accountLoads = new InFlightLoads<>();
+        categoryConfigLoads = new InFlightLoads<>();
+        storedDataLoads = new InFlightLoads<>();
+        ampStoredDataLoads = new InFlightLoads<>();
+        videoStoredDataLoads = new InFlightLoads<>();
+        profileLoads = new InFlightLoads<>();
     }
 
     @Override
     public Future<Account> getAccountById(String accountId, Timeout timeout) {
         return getFromCacheOrDelegate(
                 accountCache,
+                accountLoads,
                 accountToErrorCache,
                 StringUtils.isBlank(accountId) ? StringUtils.EMPTY : accountId,
                 timeout,
@@ -81,18 +132,35 @@ public class CachingApplicationSettings implements ApplicationSettings {
                 event -> metrics.updateSettingsCacheEventMetric(MetricName.account, event));
     }
 
-    private static <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
-                                                        Map<String, String> accountToErrorCache,
-                                                        String key,
-                                                        Timeout timeout,
-                                                        BiFunction<String, Timeout, Future<T>> retriever,
-                                                        Consumer<MetricName> metricUpdater) {
-
-        final T cachedValue = cache.get(key);
+    private <T> Future<T> getFromCacheOrDelegate(Map<String, CachedValue<T>> cache,
+                                                 InFlightLoads<T> loads,
+                                                 Map<String, String> accountToErrorCache,
+                                                 String key,
+                                                 Timeout timeout,
+                                                 BiFunction<String, Timeout, Future<T>> retriever,
+                                                 Consumer<MetricName> metricUpdater) {
+
+        final Supplier<Future<T>> loader = () -> {
+            final long generation = loads.generation();
+            return retriever.apply(key, timeout)
+                    .map(value -> {
+                        putIfNotInvalidated(cache, key, new CachedValue<>(value, refreshAt()), loads, generation);
+                        return value;
+                    })
+                    .recover(throwable -> cacheAndReturnFailedFuture(
+                            throwable, key, cache, accountToErrorCache, loads, generation));
+        };
+
+        final CachedValue<T> cachedValue = cache.get(key);
         if (cachedValue != null) {
             metricUpdater.accept(MetricName.hit);
 
-            return Future.succeededFuture(cachedValue);
+            if (cachedValue.refreshAt() <= clock.millis()) {
+                metricUpdater.accept(MetricName.stale);
+                refreshAhead(loads, key, loader, metricUpdater);
+            }
+
+            return Future.succeededFuture(cachedValue.value());
         }
 
         metricUpdater.accept(MetricName.miss);
@@ -102,32 +170,83 @@ public class CachingApplicationSettings implements ApplicationSettings {
             return Future.failedFuture(new PreBidException(preBidExceptionMessage));
         }
 
-        return retriever.apply(key, timeout)
-                .map(value -> {
-                    cache.put(key, value);
-                    return value;
-                })
-                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache));
+        return loads.load(key, loader, metricUpdater);
+    }
+
+    private long refreshAt() {
+        final long now = clock.millis();
+        // refresh after interval is Long.MAX_VALUE when refresh-ahead is disabled, so the sum must not overflow
+        return now > Long.MAX_VALUE - refreshAfterMillis ? Long.MAX_VALUE : now + refreshAfterMillis;
+    }
+
+    private <T> void refreshAhead(InFlightLoads<T> loads,
+                                  String key,
+                                  Supplier<Future<T>> loader,
+                                  Consumer<MetricName> metricUpdater) {
+
+        // stale value is served until expiry anyway, so refresh is skipped rather than piled up on a slow delegate
+        if (loads.isLoading(key) || inFlightLoadsNumber.get() >= refreshAheadMaxInFlightLoads) {
+            return;
+        }
+
+        metricUpdater.accept(MetricName.refresh_ahead);
+        loads.load(key, loader, metricUpdater);
     }
 
     private static <T> Future<T> cacheAndReturnFailedFuture(Throwable throwable,
                                                             String key,
-                                                            Map<String, String> cache) {
+                                                            Map<String, CachedValue<T>> cache,
+                                                            Map<String, String> errorCache,
+                                                            InFlightLoads<T> loads,
+                                                            long generation) {
 
         if (throwable instanceof PreBidException) {
-            cache.put(key, throwable.getMessage());
+            // value may still be cached if failed load was a refresh
+            if (loads.generation() == generation) {
+                cache.remove(key);
+            }
+            putIfNotInvalidated(errorCache, key, throwable.getMessage(), loads, generation);
         }
 
         return Future.failedFuture(throwable);
     }
 
+    /**
+     * Puts loaded value unless there was an invalidation since the load started, so that neither newer value
+     * is replaced nor invalidated one is brought back.
+     */
+    private static <V> void putIfNotInvalidated(Map<String, V> cache,
+                                                String key,
+                                                V value,
+                                                InFlightLoads<?> loads,
+                                                long generation) {
+
+        if (loads.generation() != generation) {
+            return;
+        }
+
+        cache.put(key, value);
+        // invalidation could have happened right before the put
+        if (loads.generation() != generation) {
+            cache.remove(key, value);
+        }
+    }
+
     @Override
     public Future<StoredDataResult<String>> getStoredData(String accountId,
                                                           Set<String> requestIds,
                                                           Set<String> impIds,
                                                           Timeout timeout) {
 
-        return getStoredDataFromCacheOrDelegate(cache, accountId, requestIds, impIds, timeout, delegate::getStoredData);
+        return getStoredDataFromCacheOrDelegate(
+                cache,
+                storedDataLoads,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getStoredData,
+                event -> metrics.updateSettingsCacheEventMetric(MetricName.stored_request, event));
     }
 
     @Override
@@ -137,7 +256,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                              Timeout timeout) {
 
         return getStoredDataFromCacheOrDelegate(
-                ampCache, accountId, requestIds, impIds, timeout, delegate::getAmpStoredData);
+                ampCache,
+                ampStoredDataLoads,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getAmpStoredData,
+                event -> metrics.updateSettingsCacheEventMetric(MetricName.amp_stored_request, event));
     }
 
     @Override
@@ -147,7 +273,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                                Timeout timeout) {
 
         return getStoredDataFromCacheOrDelegate(
-                videoCache, accountId, requestIds, impIds, timeout, delegate::getVideoStoredData);
+                videoCache,
+                videoStoredDataLoads,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getVideoStoredData,
+                CachingApplicationSettings::noOp);
     }
 
     @Override
@@ -157,15 +290,24 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                          Timeout timeout) {
 
         return getStoredDataFromCacheOrDelegate(
-                profileCache, accountId, requestIds, impIds, timeout, delegate::getProfiles);
+                profileCache,
+                profileLoads,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getProfiles,
+                CachingApplicationSettings::noOp);
     }
 
-    private static <T> Future<StoredDataResult<T>> getStoredDataFromCacheOrDelegate(SettingsCache<T> cache,
-                                                                                    String accountId,
-                                                                                    Set<String> requestIds,
-                                                                                    Set<String> impIds,
-                                                                                    Timeout timeout,
-                                                                                    StoredDataFetcher<T> retriever) {
+    private <T> Future<StoredDataResult<T>> getStoredDataFromCacheOrDelegate(SettingsCache<T> cache,
+                                                                             InFlightLoads<StoredDataResult<T>> loads,
+                                                                             String accountId,
+                                                                             Set<String> requestIds,
+                                                                             Set<String> impIds,
+                                                                             Timeout timeout,
+                                                                             StoredDataFetcher<T> retriever,
+                                                                             Consumer<MetricName> metricUpdater) {
 
         // empty string account ID doesn't make sense
         final String normalizedAccountId = StringUtils.stripToNull(accountId);
@@ -189,24 +331,31 @@ public class CachingApplicationSettings implements ApplicationSettings {
                             Collections.emptyList()));
         }
 
-        return retriever.apply(normalizedAccountId, missedRequestIds, missedImpIds, timeout).map(result -> {
-            final Map<String, T> storedIdToRequestFromDelegate = result.getStoredIdToRequest();
-            storedIdToRequest.putAll(storedIdToRequestFromDelegate);
-            for (Map.Entry<String, T> entry : storedIdToRequestFromDelegate.entrySet()) {
-                cache.saveRequestCache(normalizedAccountId, entry.getKey(), entry.getValue());
-            }
-
-            final Map<String, T> storedIdToImpFromDelegate = result.getStoredIdToImp();
-            storedIdToImp.putAll(storedIdToImpFromDelegate);
-            for (Map.Entry<String, T> entry : storedIdToImpFromDelegate.entrySet()) {
-                cache.saveImpCache(normalizedAccountId, entry.getKey(), entry.getValue());
-            }
+        final Supplier<Future<StoredDataResult<T>>> loader = () ->
+                retriever.apply(normalizedAccountId, missedRequestIds, missedImpIds, timeout).map(result -> {
+                    for (Map.Entry<String, T> entry : result.getStoredIdToRequest().entrySet()) {
+                        cache.saveRequestCache(normalizedAccountId, entry.getKey(), entry.getValue());
+                    }
+                    for (Map.Entry<String, T> entry : result.getStoredIdToImp().entrySet()) {
+                        cache.saveImpCache(normalizedAccountId, entry.getKey(), entry.getValue());
+                    }
+                    return result;
+                });
+
+        return loads.load(storedDataLoadKey(normalizedAccountId, missedRequestIds, missedImpIds), loader, metricUpdater)
+                .map(result -> {
+                    storedIdToRequest.putAll(result.getStoredIdToRequest());
+                    storedIdToImp.putAll(result.getStoredIdToImp());
+
+                    return StoredDataResult.of(
+                            Collections.unmodifiableMap(storedIdToRequest),
+                            Collections.unmodifiableMap(storedIdToImp),
+                            result.getErrors());
+                });
+    }
 
-            return StoredDataResult.of(
-                    Collections.unmodifiableMap(storedIdToRequest),
-                    Collections.unmodifiableMap(storedIdToImp),
-                    result.getErrors());
-        });
+    private static String storedDataLoadKey(String accountId, Set<String> requestIds, Set<String> impIds) {
+        return "%s|%s|%s".formatted(accountId, new TreeSet<>(requestIds), new TreeSet<>(impIds));
     }
 
     private static <T> Map<String, T> getFromCacheOrAddMissedIds(String accountId,
@@ -241,6 +390,7 @@ public class CachingApplicationSettings implements ApplicationSettings {
 
         return getFromCacheOrDelegate(
                 categoryConfigCache,
+                categoryConfigLoads,
                 adServerPublisherToErrorCache,
                 compoundKey,
                 timeout,
@@ -249,6 +399,7 @@ public class CachingApplicationSettings implements ApplicationSettings {
     }
 
     public void invalidateAccountCache(String accountId) {
+        accountLoads.invalidate(accountId);
         accountCache.remove(accountId);
         accountToErrorCache.remove(accountId);
         logger.debug("Account with id {} was invalidated", accountId);
@@ -256,4 +407,60 @@ public class CachingApplicationSettings implements ApplicationSettings {
 
     private static <ANY> void noOp(ANY any) {
     }
+
+    private record CachedValue<T>(T value, long refreshAt) {
+    }
+
+    /**
+     * Coalesces concurrent loads of the same key into a single one.
+     * <p>
+     * Generation is changed on every invalidation, so loads can tell whether their results are still actual.
+     */
+    private class InFlightLoads<T> {
+
+        private final Map<String, Future<T>> loads = new ConcurrentHashMap<>();
+        private final AtomicLong generation = new AtomicLong();
+
+        private boolean isLoading(String key) {
+            return loads.containsKey(key);
+        }
+
+        private long generation() {
+            return generation.get();
+        }
+
+        private void invalidate(String key) {
+            generation.incrementAndGet();
+            loads.remove(key);
+        }
+
+        private Future<T> load(String key, Supplier<Future<T>> loader, Consumer<MetricName> metricUpdater) {
+            final Promise<T> promise = Promise.promise();
+            final Future<T> future = promise.future();
+            final Future<T> inFlightLoad = loads.putIfAbsent(key, future);
+            if (inFlightLoad != null) {
+                metricUpdater.accept(MetricName.coalesced);
+                return inFlightLoad;
+            }
+
+            inFlightLoadsNumber.incrementAndGet();
+
+            Future<T> result;
+            try {
+                result = loader.get();
+            } catch (RuntimeException e) {
+                result = Future.failedFuture(e);
+            }
+
+            // loader caches the value before completion, so next callers get it from cache instead of a new load;
+            // the load is removed only if it was not replaced by a new one after invalidation
+            result.onComplete(asyncResult -> {
+                loads.remove(key, future);
+                inFlightLoadsNumber.decrementAndGet();
+                promise.handle(asyncResult);
+            });
+
+            return future;
+        }
+    }
 }
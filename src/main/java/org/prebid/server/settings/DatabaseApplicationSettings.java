@@ -13,6 +13,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.settings.helper.DatabaseProfilesResultMapper;
 import org.prebid.server.settings.helper.DatabaseStoredDataResultMapper;
 import org.prebid.server.settings.helper.DatabaseStoredResponseResultMapper;
+import org.prebid.server.settings.helper.IdsBatcher;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.Profile;
@@ -24,6 +25,7 @@ import org.prebid.server.vertx.database.DatabaseClient;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -86,6 +88,14 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
      */
     private final String selectStoredResponsesQuery;
 
+    /**
+     * Batchers of stored requests and imps queries, if batching is configured.
+     * <p>
+     * Account query is not batched, since it selects single account config without its id.
+     */
+    private final IdsBatcher<RowSet<Row>> storedRequestsBatcher;
+    private final IdsBatcher<RowSet<Row>> ampStoredRequestsBatcher;
+
     public DatabaseApplicationSettings(DatabaseClient databaseClient,
                                        JacksonMapper mapper,
                                        ParametrizedQueryHelper parametrizedQueryHelper,
@@ -93,7 +103,8 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
                                        String selectStoredRequestsQuery,
                                        String selectAmpStoredRequestsQuery,
                                        String selectProfilesQuery,
-                                       String selectStoredResponsesQuery) {
+                                       String selectStoredResponsesQuery,
+                                       IdsBatcher.Factory batcherFactory) {
 
         this.databaseClient = Objects.requireNonNull(databaseClient);
         this.mapper = Objects.requireNonNull(mapper);
@@ -104,6 +115,15 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
         this.selectAmpStoredRequestsQuery = Objects.requireNonNull(selectAmpStoredRequestsQuery);
         this.selectProfilesQuery = selectProfilesQuery;
         this.selectStoredResponsesQuery = Objects.requireNonNull(selectStoredResponsesQuery);
+
+        storedRequestsBatcher = batcherFactory != null
+                ? batcherFactory.create((requestIds, impIds, timeout) -> executeStoredDataQuery(
+                        this.selectStoredRequestsQuery, requestIds, impIds, Function.identity(), timeout))
+                : null;
+        ampStoredRequestsBatcher = batcherFactory != null
+                ? batcherFactory.create((requestIds, impIds, timeout) -> executeStoredDataQuery(
+                        this.selectAmpStoredRequestsQuery, requestIds, impIds, Function.identity(), timeout))
+                : null;
     }
 
     @Override
@@ -146,6 +166,7 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
 
         return fetchStoredData(
                 selectStoredRequestsQuery,
+                storedRequestsBatcher,
                 requestIds,
                 impIds,
                 result -> DatabaseStoredDataResultMapper.map(result, accountId, requestIds, impIds),
@@ -160,6 +181,7 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
 
         return fetchStoredData(
                 selectAmpStoredRequestsQuery,
+                ampStoredRequestsBatcher,
                 requestIds,
                 Collections.emptySet(),
                 result -> DatabaseStoredDataResultMapper.map(result, accountId, requestIds, impIds),
@@ -174,6 +196,7 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
 
         return fetchStoredData(
                 selectStoredRequestsQuery,
+                storedRequestsBatcher,
                 requestIds,
                 impIds,
                 result -> DatabaseStoredDataResultMapper.map(result, accountId, requestIds, impIds),
@@ -193,6 +216,7 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
 
         return fetchStoredData(
                 selectProfilesQuery,
+                null,
                 requestIds,
                 impIds,
                 result -> DatabaseProfilesResultMapper.map(result, accountId, requestIds, impIds),
@@ -200,6 +224,7 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
     }
 
     private <T> Future<StoredDataResult<T>> fetchStoredData(String query,
+                                                            IdsBatcher<RowSet<Row>> batcher,
                                                             Set<String> requestIds,
                                                             Set<String> impIds,
                                                             Function<RowSet<Row>, StoredDataResult<T>> mapper,
@@ -212,6 +237,20 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
                     Collections.emptyList()));
         }
 
+        if (batcher == null) {
+            return executeStoredDataQuery(query, requestIds, impIds, mapper, timeout);
+        }
+
+        return batcher.fetch(requestIds, impIds, timeout)
+                .map(rowSet -> restrictToIds(mapper.apply(rowSet), requestIds, impIds));
+    }
+
+    private <T> Future<T> executeStoredDataQuery(String query,
+                                                 Set<String> requestIds,
+                                                 Set<String> impIds,
+                                                 Function<RowSet<Row>, T> mapper,
+                                                 Timeout timeout) {
+
         final List<Object> idsQueryParameters = new ArrayList<>();
         IntStream.rangeClosed(1, StringUtils.countMatches(query, ParametrizedQueryHelper.REQUEST_ID_PLACEHOLDER))
                 .forEach(i -> idsQueryParameters.addAll(requestIds));
@@ -224,6 +263,25 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
         return databaseClient.executeQuery(parametrizedQuery, idsQueryParameters, mapper, timeout);
     }
 
+    /**
+     * Drops stored data selected by batched query for ids requested by others.
+     */
+    private static <T> StoredDataResult<T> restrictToIds(StoredDataResult<T> result,
+                                                         Set<String> requestIds,
+                                                         Set<String> impIds) {
+
+        return StoredDataResult.of(
+                restrictToIds(result.getStoredIdToRequest(), requestIds),
+                restrictToIds(result.getStoredIdToImp(), impIds),
+                result.getErrors());
+    }
+
+    private static <T> Map<String, T> restrictToIds(Map<String, T> idToData, Set<String> ids) {
+        final Map<String, T> result = new HashMap<>(idToData);
+        result.keySet().retainAll(ids);
+        return Collections.unmodifiableMap(result);
+    }
+
     @Override
     public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
         final String queryResolvedWithParameters = parametrizedQueryHelper
@@ -15,6 +15,7 @@ import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.settings.helper.IdsBatcher;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.Category;
 import org.prebid.server.settings.model.Profile;
@@ -70,6 +71,8 @@ import java.util.stream.Stream;
  *   }
  * }
  * </pre>
+ * <p>
+ * If batching is configured, ids requested concurrently are fetched by a single call.
  */
 public class HttpApplicationSettings implements ApplicationSettings {
 
@@ -86,13 +89,19 @@ public class HttpApplicationSettings implements ApplicationSettings {
     private final HttpClient httpClient;
     private final JacksonMapper mapper;
 
+    private final IdsBatcher<HttpClientResponse> accountsBatcher;
+    private final IdsBatcher<HttpClientResponse> storedDataBatcher;
+    private final IdsBatcher<HttpClientResponse> ampStoredDataBatcher;
+    private final IdsBatcher<HttpClientResponse> videoStoredDataBatcher;
+
     public HttpApplicationSettings(boolean isRfc3986Compatible,
                                    String endpoint,
                                    String ampEndpoint,
                                    String videoEndpoint,
                                    String categoryEndpoint,
                                    HttpClient httpClient,
-                                   JacksonMapper mapper) {
+                                   JacksonMapper mapper,
+                                   IdsBatcher.Factory batcherFactory) {
 
         this.isRfc3986Compatible = isRfc3986Compatible;
         this.endpoint = HttpUtil.validateUrlSyntax(Objects.requireNonNull(endpoint));
@@ -101,29 +110,54 @@ public class HttpApplicationSettings implements ApplicationSettings {
         this.categoryEndpoint = HttpUtil.validateUrlSyntax(Objects.requireNonNull(categoryEndpoint));
         this.httpClient = Objects.requireNonNull(httpClient);
         this.mapper = Objects.requireNonNull(mapper);
+
+        accountsBatcher = createBatcher(batcherFactory, (accountIds, ignored, timeout) ->
+                requestAccounts(accountIds, timeout));
+        storedDataBatcher = createBatcher(batcherFactory, (requestIds, impIds, timeout) ->
+                requestStoredData(this.endpoint, requestIds, impIds, timeout));
+        ampStoredDataBatcher = createBatcher(batcherFactory, (requestIds, impIds, timeout) ->
+                requestStoredData(this.ampEndpoint, requestIds, impIds, timeout));
+        videoStoredDataBatcher = createBatcher(batcherFactory, (requestIds, impIds, timeout) ->
+                requestStoredData(this.videoEndpoint, requestIds, impIds, timeout));
+    }
+
+    private static IdsBatcher<HttpClientResponse> createBatcher(IdsBatcher.Factory batcherFactory,
+                                                                IdsBatcher.Fetcher<HttpClientResponse> fetcher) {
+
+        return batcherFactory != null ? batcherFactory.create(fetcher) : null;
     }
 
     @Override
     public Future<Account> getAccountById(String accountId, Timeout timeout) {
         return fetchAccountsByIds(Collections.singleton(accountId), timeout)
-                .map(accounts -> accounts.stream()
-                        .findFirst()
-                        .orElseThrow(() ->
-                                new PreBidException("Account with id : %s not found".formatted(accountId))));
+                .map(accounts -> {
+                    final Account account = accounts.get(accountId);
+                    if (account == null) {
+                        throw new PreBidException("Account with id : %s not found".formatted(accountId));
+                    }
+                    return account;
+                });
     }
 
-    private Future<Set<Account>> fetchAccountsByIds(Set<String> accountIds, Timeout timeout) {
+    private Future<Map<String, Account>> fetchAccountsByIds(Set<String> accountIds, Timeout timeout) {
         if (CollectionUtils.isEmpty(accountIds)) {
-            return Future.succeededFuture(Collections.emptySet());
+            return Future.succeededFuture(Collections.emptyMap());
         }
 
+        final Future<HttpClientResponse> response = accountsBatcher != null
+                ? accountsBatcher.fetch(accountIds, Collections.emptySet(), timeout)
+                : requestAccounts(accountIds, timeout);
+
+        return response.map(httpClientResponse -> processAccountsResponse(httpClientResponse, accountIds));
+    }
+
+    private Future<HttpClientResponse> requestAccounts(Set<String> accountIds, Timeout timeout) {
         final long remainingTimeout = timeout.remaining();
-        if (timeout.remaining() <= 0) {
+        if (remainingTimeout <= 0) {
             return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
         }
 
-        return httpClient.get(accountsRequestUrlFrom(endpoint, accountIds), HttpUtil.headers(), remainingTimeout)
-                .map(response -> processAccountsResponse(response, accountIds));
+        return httpClient.get(accountsRequestUrlFrom(endpoint, accountIds), HttpUtil.headers(), remainingTimeout);
     }
 
     private String accountsRequestUrlFrom(String endpoint, Set<String> accountIds) {
@@ -142,7 +176,9 @@ public class HttpApplicationSettings implements ApplicationSettings {
         }
     }
 
-    private Set<Account> processAccountsResponse(HttpClientResponse httpClientResponse, Set<String> accountIds) {
+    private Map<String, Account> processAccountsResponse(HttpClientResponse httpClientResponse,
+                                                         Set<String> accountIds) {
+
         final int statusCode = httpClientResponse.getStatusCode();
         if (statusCode != HttpResponseStatus.OK.code()) {
             throw new PreBidException("Error fetching accounts %s via http: unexpected response status %d"
@@ -158,7 +194,7 @@ public class HttpApplicationSettings implements ApplicationSettings {
         }
         final Map<String, Account> accounts = response.getAccounts();
 
-        return MapUtils.isNotEmpty(accounts) ? new HashSet<>(accounts.values()) : Collections.emptySet();
+        return MapUtils.isNotEmpty(accounts) ? accounts : Collections.emptyMap();
     }
 
     @Override
@@ -167,7 +203,7 @@ public class HttpApplicationSettings implements ApplicationSettings {
                                                           Set<String> impIds,
                                                           Timeout timeout) {
 
-        return fetchStoredData(endpoint, requestIds, impIds, timeout);
+        return fetchStoredData(endpoint, storedDataBatcher, requestIds, impIds, timeout);
     }
 
     @Override
@@ -176,7 +212,7 @@ public class HttpApplicationSettings implements ApplicationSettings {
                                                              Set<String> impIds,
                                                              Timeout timeout) {
 
-        return fetchStoredData(ampEndpoint, requestIds, Collections.emptySet(), timeout);
+        return fetchStoredData(ampEndpoint, ampStoredDataBatcher, requestIds, Collections.emptySet(), timeout);
     }
 
     @Override
@@ -185,10 +221,11 @@ public class HttpApplicationSettings implements ApplicationSettings {
                                                                Set<String> impIds,
                                                                Timeout timeout) {
 
-        return fetchStoredData(videoEndpoint, requestIds, impIds, timeout);
+        return fetchStoredData(videoEndpoint, videoStoredDataBatcher, requestIds, impIds, timeout);
     }
 
     private Future<StoredDataResult<String>> fetchStoredData(String endpoint,
+                                                             IdsBatcher<HttpClientResponse> batcher,
                                                              Set<String> requestIds,
                                                              Set<String> impIds,
                                                              Timeout timeout) {
@@ -198,14 +235,26 @@ public class HttpApplicationSettings implements ApplicationSettings {
                     StoredDataResult.of(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList()));
         }
 
+        final Future<HttpClientResponse> response = batcher != null
+                ? batcher.fetch(requestIds, impIds, timeout)
+                : requestStoredData(endpoint, requestIds, impIds, timeout);
+
+        return response
+                .map(httpClientResponse -> processStoredDataResponse(httpClientResponse, requestIds, impIds))
+                .recover(exception -> failStoredDataResponse(exception, requestIds, impIds));
+    }
+
+    private Future<HttpClientResponse> requestStoredData(String endpoint,
+                                                         Set<String> requestIds,
+                                                         Set<String> impIds,
+                                                         Timeout timeout) {
+
         final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
-            return failStoredDataResponse(new TimeoutException("Timeout has been exceeded"), requestIds, impIds);
+            return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
         }
 
-        return httpClient.get(storeRequestUrlFrom(endpoint, requestIds, impIds), HttpUtil.headers(), remainingTimeout)
-                .map(response -> processStoredDataResponse(response, requestIds, impIds))
-                .recover(exception -> failStoredDataResponse(exception, requestIds, impIds));
+        return httpClient.get(storeRequestUrlFrom(endpoint, requestIds, impIds), HttpUtil.headers(), remainingTimeout);
     }
 
     private static Future<StoredDataResult<String>> failStoredDataResponse(Throwable throwable,
@@ -300,6 +349,10 @@ public class HttpApplicationSettings implements ApplicationSettings {
         if (storedData != null) {
             for (Map.Entry<String, ObjectNode> entry : storedData.entrySet()) {
                 final String id = entry.getKey();
+                // response to batched request also contains data requested by others
+                if (!ids.contains(id)) {
+                    continue;
+                }
 
                 final String jsonAsString;
                 try {
@@ -0,0 +1,58 @@
+package org.prebid.server.settings;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-memory cache of parsed stored requests and imps.
+ * <p>
+ * Keyed by the raw stored JSON, so any change of stored data (new version, other account) results in a new entry
+ * and no explicit invalidation is needed.
+ * <p>
+ * Cached trees are shared between requests and must not be modified:
+ * {@link org.prebid.server.json.JsonMerger} makes a copy of the stored node while merging.
+ */
+public class ParsedStoredDataCache {
+
+    private final JacksonMapper mapper;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<String, JsonNode> cache;
+
+    public ParsedStoredDataCache(int ttlSeconds, int size, JacksonMapper mapper, Metrics metrics, Clock clock) {
+        if (ttlSeconds <= 0 || size <= 0) {
+            throw new IllegalArgumentException("ttl and size must be positive");
+        }
+
+        this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        cache = SettingsCache.createCache(ttlSeconds, size, 0);
+    }
+
+    public JsonNode parse(String storedData) throws JsonProcessingException {
+        final JsonNode cachedNode = cache.get(storedData);
+        if (cachedNode != null) {
+            metrics.updateSettingsCacheEventMetric(MetricName.parsed_stored_data, MetricName.hit);
+            return cachedNode;
+        }
+
+        metrics.updateSettingsCacheEventMetric(MetricName.parsed_stored_data, MetricName.miss);
+
+        final long startTime = clock.millis();
+        final JsonNode parsedNode = mapper.mapper().readTree(storedData);
+        metrics.updateSettingsCacheParseTime(MetricName.parsed_stored_data, clock.millis() - startTime);
+
+        cache.put(storedData, parsedNode);
+        return parsedNode;
+    }
+}
@@ -0,0 +1,139 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.execution.timeout.Timeout;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Collects ids requested concurrently within a short window and fetches them from the settings source
+ * by a single call, which result is shared between all the callers.
+ * <p>
+ * The batch is sent when the window is over or when it reaches the maximum number of ids, whichever comes first.
+ * Since the result contains data for ids of the whole batch, callers are expected to pick their own ids from it.
+ */
+public class IdsBatcher<T> {
+
+    private final Vertx vertx;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final Fetcher<T> fetcher;
+
+    private Batch<T> currentBatch;
+
+    public IdsBatcher(Vertx vertx, long windowMs, int maxBatchSize, Fetcher<T> fetcher) {
+        if (windowMs <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch window and max batch size must be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.fetcher = Objects.requireNonNull(fetcher);
+    }
+
+    public Future<T> fetch(Set<String> requestIds, Set<String> impIds, Timeout timeout) {
+        final Batch<T> batch;
+        final boolean isFull;
+
+        synchronized (this) {
+            if (currentBatch == null) {
+                final Batch<T> newBatch = new Batch<>();
+                newBatch.timerId = vertx.setTimer(windowMs, ignored -> flush(newBatch));
+                currentBatch = newBatch;
+            }
+
+            batch = currentBatch;
+            batch.add(requestIds, impIds, timeout);
+
+            isFull = batch.size() >= maxBatchSize;
+            if (isFull) {
+                currentBatch = null;
+            }
+        }
+
+        if (isFull) {
+            vertx.cancelTimer(batch.timerId);
+            send(batch);
+        }
+
+        return batch.promise.future();
+    }
+
+    private void flush(Batch<T> batch) {
+        synchronized (this) {
+            // batch could have been already sent because of its size
+            if (currentBatch != batch) {
+                return;
+            }
+            currentBatch = null;
+        }
+
+        send(batch);
+    }
+
+    private void send(Batch<T> batch) {
+        try {
+            fetcher.fetch(batch.requestIds, batch.impIds, batch.timeout).onComplete(batch.promise);
+        } catch (RuntimeException e) {
+            batch.promise.fail(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Fetcher<T> {
+
+        Future<T> fetch(Set<String> requestIds, Set<String> impIds, Timeout timeout);
+    }
+
+    private static class Batch<T> {
+
+        private final Set<String> requestIds = new HashSet<>();
+
+        private final Set<String> impIds = new HashSet<>();
+
+        private final Promise<T> promise = Promise.promise();
+
+        private Timeout timeout;
+
+        private long timerId;
+
+        private void add(Set<String> requestIds, Set<String> impIds, Timeout timeout) {
+            this.requestIds.addAll(requestIds);
+            this.impIds.addAll(impIds);
+
+            // batch is sent with the longest timeout, so none of the callers is cut short
+            if (this.timeout == null || timeout.remaining() > this.timeout.remaining()) {
+                this.timeout = timeout;
+            }
+        }
+
+        private int size() {
+            return requestIds.size() + impIds.size();
+        }
+    }
+
+    /**
+     * Creates batchers sharing the same batching configuration.
+     */
+    public static class Factory {
+
+        private final Vertx vertx;
+        private final long windowMs;
+        private final int maxBatchSize;
+
+        public Factory(Vertx vertx, long windowMs, int maxBatchSize) {
+            this.vertx = Objects.requireNonNull(vertx);
+            this.windowMs = windowMs;
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public <T> IdsBatcher<T> create(Fetcher<T> fetcher) {
+            return new IdsBatcher<>(vertx, windowMs, maxBatchSize, fetcher);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.prebid.server.auction.privacy.enforcement.mask.UserFpdTcfMask;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.DecodedConsentCache;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
 import org.prebid.server.privacy.gdpr.Tcf2Service;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
@@ -156,6 +157,13 @@ public class PrivacyServiceConfiguration {
                 bidderCatalog);
     }
 
+    @Bean
+    DecodedConsentCache decodedConsentCache(@Value("${privacy.consent-cache.max-size-kb}") long maxSizeKb,
+                                            Metrics metrics) {
+
+        return new DecodedConsentCache(maxSizeKb, metrics);
+    }
+
     @Bean
     TcfDefinerService tcfDefinerService(
             GdprConfig gdprConfig,
@@ -164,6 +172,7 @@ public class PrivacyServiceConfiguration {
             GeoLocationServiceWrapper geoLocationServiceWrapper,
             BidderCatalog bidderCatalog,
             IpAddressHelper ipAddressHelper,
+            DecodedConsentCache decodedConsentCache,
             Metrics metrics,
             @Value("${logging.sampling-rate:0.01}") double samplingRate) {
 
@@ -176,6 +185,7 @@ public class PrivacyServiceConfiguration {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                decodedConsentCache,
                 metrics,
                 samplingRate);
     }
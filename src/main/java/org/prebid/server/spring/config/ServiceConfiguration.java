@@ -5,8 +5,10 @@ import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.JksOptions;
 import lombok.Data;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.ActivitiesConfigResolver;
@@ -14,6 +16,7 @@ import org.prebid.server.activity.infrastructure.creator.ActivityInfrastructureC
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.BidResponseCreator;
 import org.prebid.server.auction.BidResponsePostProcessor;
+import org.prebid.server.auction.BidderLatencyTracker;
 import org.prebid.server.auction.BidsAdjuster;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.DsaEnforcer;
@@ -74,8 +77,10 @@ import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderDeps;
 import org.prebid.server.bidder.BidderErrorNotifier;
 import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
+import org.prebid.server.bidder.BidderRequestHedger;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.cache.BasicPbcStorageService;
 import org.prebid.server.cache.CoreCacheService;
 import org.prebid.server.cache.PbcStorageService;
@@ -106,10 +111,12 @@ import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.log.LoggerControlKnob;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.optout.GoogleRecaptchaVerifier;
+import org.prebid.server.privacy.DecodedConsentCache;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
 import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
 import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
@@ -409,23 +416,23 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    AuctionGppService auctionGppProcessor(GppService gppService) {
-        return new AuctionGppService(gppService);
+    AuctionGppService auctionGppProcessor(GppService gppService, DecodedConsentCache decodedConsentCache) {
+        return new AuctionGppService(gppService, decodedConsentCache);
     }
 
     @Bean
-    AmpGppService ampGppProcessor(GppService gppService) {
-        return new AmpGppService(gppService);
+    AmpGppService ampGppProcessor(GppService gppService, DecodedConsentCache decodedConsentCache) {
+        return new AmpGppService(gppService, decodedConsentCache);
     }
 
     @Bean
-    CookieSyncGppService cookieSyncGppProcessor(GppService gppService) {
-        return new CookieSyncGppService(gppService);
+    CookieSyncGppService cookieSyncGppProcessor(GppService gppService, DecodedConsentCache decodedConsentCache) {
+        return new CookieSyncGppService(gppService, decodedConsentCache);
     }
 
     @Bean
-    SetuidGppService setuidGppService(GppService gppService) {
-        return new SetuidGppService(gppService);
+    SetuidGppService setuidGppService(GppService gppService, DecodedConsentCache decodedConsentCache) {
+        return new SetuidGppService(gppService, decodedConsentCache);
     }
 
     @Bean
@@ -685,6 +692,17 @@ public class ServiceConfiguration {
                 // 3 for twice, and so on
                 .setMaxRedirects(httpClientProperties.getMaxRedirects() + 1);
 
+        if (BooleanUtils.isTrue(httpClientProperties.getHttp2Enabled())) {
+            // HTTP/2 is negotiated with ALPN for TLS connections and with h2c upgrade for clear text ones,
+            // falling back to HTTP/1.1 for hosts not supporting it
+            options
+                    .setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true)
+                    .setHttp2ClearTextUpgrade(true)
+                    .setHttp2MaxPoolSize(httpClientProperties.getHttp2MaxPoolSize())
+                    .setHttp2MultiplexingLimit(httpClientProperties.getHttp2MultiplexingLimit());
+        }
+
         if (httpClientProperties.getSsl()) {
             final JksOptions jksOptions = new JksOptions()
                     .setPath(httpClientProperties.getJksPath())
@@ -807,12 +825,21 @@ public class ServiceConfiguration {
         return new CompositeMediaTypeProcessor(mediaTypeProcessors);
     }
 
+    @Bean
+    ImpExtDecoder impExtDecoder(@Value("${auction.imp-ext-decoding-cache-size:10000}") int cacheSize,
+                                JacksonMapper mapper) {
+
+        return new ImpExtDecoder(cacheSize, mapper);
+    }
+
     @Bean
     HttpBidderRequester httpBidderRequester(
             HttpClient httpClient,
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
+            @Autowired(required = false) BidderRequestHedger bidderRequestHedger,
+            Metrics metrics,
             JacksonMapper mapper) {
 
         return new HttpBidderRequester(
@@ -820,10 +847,35 @@ public class ServiceConfiguration {
                 bidderRequestCompletionTrackerFactory,
                 bidderErrorNotifier,
                 requestEnricher,
+                bidderRequestHedger,
+                metrics,
                 mapper,
                 logSamplingRate);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.hedging", name = "enabled", havingValue = "true")
+    BidderRequestHedger bidderRequestHedger(
+            @Value("${auction.hedging.bidders:#{null}}") String bidders,
+            @Value("${auction.hedging.percentile}") double percentile,
+            @Value("${auction.hedging.min-samples}") long minSamples,
+            @Value("${auction.hedging.min-delay-ms}") long minDelayMs,
+            @Value("${auction.hedging.max-hedge-rate}") double maxHedgeRate,
+            Vertx vertx,
+            Clock clock,
+            Metrics metrics) {
+
+        return new BidderRequestHedger(
+                splitToSet(bidders),
+                percentile,
+                minSamples,
+                minDelayMs,
+                maxHedgeRate,
+                vertx,
+                clock,
+                metrics);
+    }
+
     @Bean
     PrebidVersionProvider prebidVersionProvider(VersionInfo versionInfo) {
         return new PrebidVersionProvider(versionInfo.getVersion());
@@ -906,6 +958,18 @@ public class ServiceConfiguration {
                 cacheDefaultTtlProperties);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.adaptive-timeout", name = "enabled", havingValue = "true")
+    BidderLatencyTracker bidderLatencyTracker(
+            @Value("${auction.adaptive-timeout.percentile}") double percentile,
+            @Value("${auction.adaptive-timeout.headroom-factor}") double headroomFactor,
+            @Value("${auction.adaptive-timeout.min-timeout-ms}") long minTimeoutMs,
+            @Value("${auction.adaptive-timeout.min-samples}") long minSamples,
+            @Value("${auction.adaptive-timeout.skip-slow-bidders}") boolean skipSlowBidders) {
+
+        return new BidderLatencyTracker(percentile, headroomFactor, minTimeoutMs, minSamples, skipSlowBidders);
+    }
+
     @Bean
     ExchangeService exchangeService(
             @Value("${logging.sampling-rate:0.01}") double logSamplingRate,
@@ -919,6 +983,7 @@ public class ServiceConfiguration {
             CompositeMediaTypeProcessor mediaTypeProcessor,
             UidUpdater uidUpdater,
             TimeoutResolver timeoutResolver,
+            @Autowired(required = false) BidderLatencyTracker bidderLatencyTracker,
             TimeoutFactory timeoutFactory,
             BidRequestOrtbVersionConversionManager bidRequestOrtbVersionConversionManager,
             HttpBidderRequester httpBidderRequester,
@@ -947,6 +1012,7 @@ public class ServiceConfiguration {
                 mediaTypeProcessor,
                 uidUpdater,
                 timeoutResolver,
+                bidderLatencyTracker,
                 timeoutFactory,
                 bidRequestOrtbVersionConversionManager,
                 httpBidderRequester,
@@ -973,6 +1039,17 @@ public class ServiceConfiguration {
         return new BidsAdjuster(responseBidValidator, priceFloorEnforcer, bidAdjustmentsProcessor, dsaEnforcer);
     }
 
+    @Bean
+    ParsedStoredDataCache parsedStoredDataCache(
+            @Value("${settings.parsed-stored-data-cache.ttl-seconds}") int ttlSeconds,
+            @Value("${settings.parsed-stored-data-cache.size}") int size,
+            JacksonMapper mapper,
+            Metrics metrics,
+            Clock clock) {
+
+        return new ParsedStoredDataCache(ttlSeconds, size, mapper, metrics, clock);
+    }
+
     @Bean
     StoredRequestProcessor storedRequestProcessor(
             @Value("${auction.stored-requests-timeout-ms}") long defaultTimeoutMs,
@@ -983,7 +1060,8 @@ public class ServiceConfiguration {
             Metrics metrics,
             TimeoutFactory timeoutFactory,
             JacksonMapper mapper,
-            JsonMerger jsonMerger) {
+            JsonMerger jsonMerger,
+            ParsedStoredDataCache parsedStoredDataCache) {
 
         return new StoredRequestProcessor(
                 defaultTimeoutMs,
@@ -995,7 +1073,8 @@ public class ServiceConfiguration {
                 metrics,
                 timeoutFactory,
                 mapper,
-                jsonMerger);
+                jsonMerger,
+                parsedStoredDataCache);
     }
 
     @Bean
@@ -1143,8 +1222,13 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(
+            BidderCatalog bidderCatalog,
+            @Value("${auction.validations.bidder-params-cache-size:10000}") int resultsCacheSize,
+            Metrics metrics,
+            JacksonMapper mapper) {
+
+        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", resultsCacheSize, metrics, mapper);
     }
 
     @Bean
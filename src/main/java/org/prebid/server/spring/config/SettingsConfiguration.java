@@ -25,6 +25,7 @@ import org.prebid.server.settings.FileApplicationSettings;
 import org.prebid.server.settings.HttpApplicationSettings;
 import org.prebid.server.settings.S3ApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
+import org.prebid.server.settings.helper.IdsBatcher;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
 import org.prebid.server.settings.model.Profile;
 import org.prebid.server.settings.service.DatabasePeriodicRefreshService;
@@ -106,9 +107,12 @@ public class SettingsConfiguration {
                 @Value("${settings.database.amp-stored-requests-query}") String ampStoredRequestsQuery,
                 @Value("${settings.database.profiles-query:#{null}}") String profilesQuery,
                 @Value("${settings.database.stored-responses-query}") String storedResponsesQuery,
+                @Value("${settings.database.batch-window-ms:0}") long batchWindowMs,
+                @Value("${settings.database.max-batch-size:100}") int maxBatchSize,
                 ParametrizedQueryHelper parametrizedQueryHelper,
                 DatabaseClient databaseClient,
-                JacksonMapper jacksonMapper) {
+                JacksonMapper jacksonMapper,
+                Vertx vertx) {
 
             return new DatabaseApplicationSettings(
                     databaseClient,
@@ -118,7 +122,8 @@ public class SettingsConfiguration {
                     storedRequestsQuery,
                     ampStoredRequestsQuery,
                     profilesQuery,
-                    storedResponsesQuery);
+                    storedResponsesQuery,
+                    batchWindowMs > 0 ? new IdsBatcher.Factory(vertx, batchWindowMs, maxBatchSize) : null);
         }
     }
 
@@ -134,7 +139,10 @@ public class SettingsConfiguration {
                 @Value("${settings.http.endpoint}") String endpoint,
                 @Value("${settings.http.amp-endpoint}") String ampEndpoint,
                 @Value("${settings.http.video-endpoint}") String videoEndpoint,
-                @Value("${settings.http.category-endpoint}") String categoryEndpoint) {
+                @Value("${settings.http.category-endpoint}") String categoryEndpoint,
+                @Value("${settings.http.batch-window-ms:0}") long batchWindowMs,
+                @Value("${settings.http.max-batch-size:100}") int maxBatchSize,
+                Vertx vertx) {
 
             return new HttpApplicationSettings(
                     isRfc3986Compatible,
@@ -143,7 +151,8 @@ public class SettingsConfiguration {
                     videoEndpoint,
                     categoryEndpoint,
                     httpClient,
-                    mapper);
+                    mapper,
+                    batchWindowMs > 0 ? new IdsBatcher.Factory(vertx, batchWindowMs, maxBatchSize) : null);
         }
     }
 
@@ -446,7 +455,8 @@ public class SettingsConfiguration {
                 @Qualifier("ampSettingsCache") SettingsCache<String> ampCache,
                 @Qualifier("videoSettingCache") SettingsCache<String> videoCache,
                 @Qualifier("profileSettingCache") SettingsCache<Profile> profilesCache,
-                Metrics metrics) {
+                Metrics metrics,
+                Clock clock) {
 
             return new CachingApplicationSettings(
                     enrichingApplicationSettings,
@@ -457,7 +467,10 @@ public class SettingsConfiguration {
                     metrics,
                     cacheProperties.getTtlSeconds(),
                     cacheProperties.getCacheSize(),
-                    cacheProperties.getJitterSeconds());
+                    cacheProperties.getJitterSeconds(),
+                    cacheProperties.getRefreshAheadSeconds(),
+                    cacheProperties.getRefreshAheadMaxInFlightLoads(),
+                    clock);
         }
     }
 
@@ -529,5 +542,9 @@ public class SettingsConfiguration {
         private Integer cacheSize;
         @Min(0)
         private int jitterSeconds;
+        @Min(0)
+        private int refreshAheadSeconds;
+        @Min(1)
+        private int refreshAheadMaxInFlightLoads = 1000;
     }
 }
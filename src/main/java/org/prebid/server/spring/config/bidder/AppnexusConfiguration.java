@@ -4,6 +4,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.bidder.appnexus.AppnexusBidder;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
@@ -34,6 +35,7 @@ public class AppnexusConfiguration {
     @Bean
     BidderDeps appnexusBidderDeps(AppnexusConfigurationProperties appnexusConfigurationProperties,
                                   @NotBlank @Value("${external-url}") String externalUrl,
+                                  ImpExtDecoder impExtDecoder,
                                   JacksonMapper mapper) {
 
         return BidderDepsAssembler.forBidder(BIDDER_NAME)
@@ -42,6 +44,7 @@ public class AppnexusConfiguration {
                 .bidderCreator(config -> new AppnexusBidder(config.getEndpoint(),
                         appnexusConfigurationProperties.getPlatformId(),
                         appnexusConfigurationProperties.getIabCategories(),
+                        impExtDecoder,
                         mapper))
                 .assemble();
     }
@@ -1,6 +1,7 @@
 package org.prebid.server.spring.config.bidder;
 
 import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.bidder.ix.IxBidder;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
@@ -32,12 +33,14 @@ public class IxConfiguration {
     BidderDeps ixBidderDeps(BidderConfigurationProperties ixConfigurationProperties,
                             @NotBlank @Value("${external-url}") String externalUrl,
                             PrebidVersionProvider prebidVersionProvider,
+                            ImpExtDecoder impExtDecoder,
                             JacksonMapper mapper) {
 
         return BidderDepsAssembler.forBidder(BIDDER_NAME)
                 .withConfig(ixConfigurationProperties)
                 .usersyncerCreator(UsersyncerCreator.create(externalUrl))
-                .bidderCreator(config -> new IxBidder(config.getEndpoint(), prebidVersionProvider, mapper))
+                .bidderCreator(config ->
+                        new IxBidder(config.getEndpoint(), prebidVersionProvider, impExtDecoder, mapper))
                 .assemble();
     }
 }
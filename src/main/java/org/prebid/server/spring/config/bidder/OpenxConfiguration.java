@@ -1,6 +1,7 @@
 package org.prebid.server.spring.config.bidder;
 
 import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.bidder.openx.OpenxBidder;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
@@ -30,12 +31,13 @@ public class OpenxConfiguration {
     @Bean
     BidderDeps openxBidderDeps(BidderConfigurationProperties openxConfigurationProperties,
                                @NotBlank @Value("${external-url}") String externalUrl,
+                               ImpExtDecoder impExtDecoder,
                                JacksonMapper mapper) {
 
         return BidderDepsAssembler.forBidder(BIDDER_NAME)
                 .withConfig(openxConfigurationProperties)
                 .usersyncerCreator(UsersyncerCreator.create(externalUrl))
-                .bidderCreator(config -> new OpenxBidder(config.getEndpoint(), mapper))
+                .bidderCreator(config -> new OpenxBidder(config.getEndpoint(), impExtDecoder, mapper))
                 .assemble();
     }
 }
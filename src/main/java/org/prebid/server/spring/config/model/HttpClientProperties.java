@@ -28,6 +28,13 @@ public class HttpClientProperties {
     @NotNull
     private Integer maxRedirects;
 
+    private Boolean http2Enabled;
+
+    @Min(1)
+    private Integer http2MaxPoolSize;
+
+    private Integer http2MultiplexingLimit;
+
     private Boolean ssl;
 
     private String jksPath;
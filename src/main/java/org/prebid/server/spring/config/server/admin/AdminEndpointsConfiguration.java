@@ -4,9 +4,11 @@ import com.codahale.metrics.MetricRegistry;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.auction.BidderLatencyTracker;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.handler.admin.AccountCacheInvalidationHandler;
 import org.prebid.server.handler.admin.AdminResourceWrapper;
+import org.prebid.server.handler.admin.BidderLatencyHandler;
 import org.prebid.server.handler.admin.CollectedMetricsHandler;
 import org.prebid.server.handler.admin.CurrencyRatesHandler;
 import org.prebid.server.handler.admin.HttpInteractionLogHandler;
@@ -72,6 +74,23 @@ public class AdminEndpointsConfiguration {
                 new CurrencyRatesHandler(currencyConversionRates, path, mapper));
     }
 
+    @Bean
+    @ConditionalOnExpression("${auction.adaptive-timeout.enabled:false} == true"
+            + " and ${admin-endpoints.bidder-latency.enabled} == true")
+    AdminResource bidderLatencyEndpoint(
+            BidderLatencyTracker bidderLatencyTracker,
+            JacksonMapper mapper,
+            @Value("${admin-endpoints.bidder-latency.path}") String path,
+            @Value("${admin-endpoints.bidder-latency.on-application-port}") boolean isOnApplicationPort,
+            @Value("${admin-endpoints.bidder-latency.protected}") boolean isProtected) {
+
+        return new AdminResourceWrapper(
+                path,
+                isOnApplicationPort,
+                isProtected,
+                new BidderLatencyHandler(bidderLatencyTracker, path, mapper));
+    }
+
     @Bean
     @ConditionalOnExpression("${settings.in-memory-cache.notification-endpoints-enabled:false}"
             + " and ${admin-endpoints.storedrequest.enabled} == true")
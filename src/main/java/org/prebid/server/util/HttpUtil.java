@@ -167,6 +167,28 @@ public final class HttpUtil {
         }
     }
 
+    /**
+     * Returns scheme and authority part of the given URL (e.g. "https://host:8080"), or null if it cannot be found.
+     * <p>
+     * Unlike {@link URL} parsing, this does not validate the URL and is cheap enough to be done per request.
+     */
+    public static String origin(String url) {
+        final int schemeEnd = url != null ? url.indexOf("://") : -1;
+        if (schemeEnd <= 0) {
+            return null;
+        }
+
+        final int authorityStart = schemeEnd + 3;
+        for (int i = authorityStart; i < url.length(); i++) {
+            final char ch = url.charAt(i);
+            if (ch == '/' || ch == '?' || ch == '#') {
+                return url.substring(0, i);
+            }
+        }
+
+        return url;
+    }
+
     public static Map<String, String> cookiesAsMap(HttpRequestContext httpRequest) {
         final String cookieHeader = httpRequest.getHeaders().get(HttpHeaders.COOKIE);
         if (cookieHeader == null) {
@@ -0,0 +1,163 @@
+package org.prebid.server.util.dsl.config.impl;
+
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.util.dsl.config.PrebidConfigParameter;
+import org.prebid.server.util.dsl.config.PrebidConfigSchema;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Precompiled counterpart of {@link MostAccurateCombinationStrategy}.
+ * <p>
+ * Rules are compiled once into a trie with one level per schema field, so matching walks only existing
+ * rule prefixes instead of generating and joining every wildcard combination. Rules are matched
+ * case-insensitively, and the winning rule is picked with exactly the same priority as
+ * {@link MostAccurateCombinationStrategy}: the lowest number of substituted wildcards first, then the
+ * rightmost wildcard positions, then the order of parameter values.
+ */
+public class MostAccurateCombinationIndex<T> {
+
+    private final int fieldsNumber;
+    private final Node<T> root;
+
+    private MostAccurateCombinationIndex(int fieldsNumber, Node<T> root) {
+        this.fieldsNumber = fieldsNumber;
+        this.root = root;
+    }
+
+    public static <T> MostAccurateCombinationIndex<T> of(PrebidConfigSchema schema,
+                                                         int fieldsNumber,
+                                                         Map<String, T> rules) {
+
+        Objects.requireNonNull(schema);
+        Objects.requireNonNull(rules);
+
+        final Node<T> root = new Node<>();
+        for (Map.Entry<String, T> entry : rules.entrySet()) {
+            final String rule = entry.getKey().toLowerCase();
+            final String[] conditions = StringUtils.splitByWholeSeparatorPreserveAllTokens(rule, schema.separator());
+            if (conditions == null || conditions.length != fieldsNumber) {
+                continue;
+            }
+
+            Node<T> node = root;
+            for (String condition : conditions) {
+                node = node.child(condition, schema.wildcard());
+            }
+            if (node.match == null) {
+                node.match = new Match<>(rule, entry.getValue());
+            }
+        }
+
+        return new MostAccurateCombinationIndex<>(fieldsNumber, root);
+    }
+
+    public Match<T> match(List<PrebidConfigParameter> parameters) {
+        if (fieldsNumber == 0 || parameters.size() != fieldsNumber || hasEmptyParameter(parameters)) {
+            return null;
+        }
+
+        final Search<T> search = new Search<>(parameters);
+        search.visit(root, 0, 0, 0L);
+        return search.best;
+    }
+
+    private static boolean hasEmptyParameter(List<PrebidConfigParameter> parameters) {
+        for (PrebidConfigParameter parameter : parameters) {
+            if (parameter instanceof PrebidConfigParameter.Direct direct && !direct.values().iterator().hasNext()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public record Match<T>(String rule, T value) {
+    }
+
+    private static class Node<T> {
+
+        private Map<String, Node<T>> children;
+        private Node<T> wildcard;
+        private Match<T> match;
+
+        private Node<T> child(String condition, String wildcardValue) {
+            if (condition.equals(wildcardValue)) {
+                if (wildcard == null) {
+                    wildcard = new Node<>();
+                }
+                return wildcard;
+            }
+
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(condition, ignored -> new Node<>());
+        }
+
+        private Node<T> child(String condition) {
+            return children != null ? children.get(condition) : null;
+        }
+    }
+
+    /**
+     * Depth-first walk over the trie. Value children are visited in parameter values order, so the first match
+     * found for a given wildcards mask is the one {@link MostAccurateCombinationStrategy} would generate first.
+     */
+    private static class Search<T> {
+
+        private final List<PrebidConfigParameter> parameters;
+        private final int lastIndex;
+
+        private Match<T> best;
+        private int bestWildcardsNumber = Integer.MAX_VALUE;
+        private long bestWildcardsMask = Long.MAX_VALUE;
+
+        private Search(List<PrebidConfigParameter> parameters) {
+            this.parameters = parameters;
+            this.lastIndex = parameters.size() - 1;
+        }
+
+        private void visit(Node<T> node, int depth, int wildcardsNumber, long wildcardsMask) {
+            if (wildcardsNumber > bestWildcardsNumber) {
+                return;
+            }
+
+            if (depth > lastIndex) {
+                if (node.match != null && isBetter(wildcardsNumber, wildcardsMask)) {
+                    best = node.match;
+                    bestWildcardsNumber = wildcardsNumber;
+                    bestWildcardsMask = wildcardsMask;
+                }
+                return;
+            }
+
+            final PrebidConfigParameter parameter = parameters.get(depth);
+            if (parameter instanceof PrebidConfigParameter.Direct direct) {
+                if (node.children != null) {
+                    final Iterator<String> values = direct.values().iterator();
+                    while (values.hasNext()) {
+                        final Node<T> child = node.child(StringUtils.lowerCase(values.next()));
+                        if (child != null) {
+                            visit(child, depth + 1, wildcardsNumber, wildcardsMask);
+                        }
+                    }
+                }
+
+                if (node.wildcard != null) {
+                    visit(node.wildcard, depth + 1, wildcardsNumber + 1, wildcardsMask | 1L << (lastIndex - depth));
+                }
+            } else if (node.wildcard != null) {
+                visit(node.wildcard, depth + 1, wildcardsNumber, wildcardsMask);
+            }
+        }
+
+        private boolean isBetter(int wildcardsNumber, long wildcardsMask) {
+            return wildcardsNumber < bestWildcardsNumber
+                    || wildcardsNumber == bestWildcardsNumber && wildcardsMask < bestWildcardsMask;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
@@ -11,9 +13,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -31,20 +35,65 @@ public class BidderParamValidator {
     private static final String FILE_SEP = "/";
 
     private final Map<String, JsonSchema> bidderSchemas;
+    private final Map<String, SimpleBidderParamSchema> simpleBidderSchemas;
     private final String schemas;
+    private final Cache<ValidationKey, Set<String>> validationResults;
+    private final Metrics metrics;
+
+    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas,
+                                 Map<String, SimpleBidderParamSchema> simpleBidderSchemas,
+                                 String schemas,
+                                 int resultsCacheSize,
+                                 Metrics metrics) {
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
         this.bidderSchemas = bidderSchemas;
+        this.simpleBidderSchemas = simpleBidderSchemas;
         this.schemas = schemas;
+        this.metrics = metrics;
+
+        validationResults = resultsCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(resultsCacheSize).build()
+                : null;
     }
 
     /**
      * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
+        final long startTime = System.nanoTime();
+        final Set<String> messages = validateParams(bidder, jsonNode);
+        metrics.updateBidderParamsValidationTime(System.nanoTime() - startTime);
+
+        return messages;
+    }
+
+    private Set<String> validateParams(String bidder, JsonNode jsonNode) {
+        final SimpleBidderParamSchema simpleSchema = simpleBidderSchemas.get(bidder);
+        if (simpleSchema != null && simpleSchema.isValid(jsonNode)) {
+            return Collections.emptySet();
+        }
+
+        if (validationResults == null) {
+            return validateBySchema(bidder, jsonNode);
+        }
+
+        // params of stored imps repeat from request to request, so result is looked up by params structure
+        final Set<String> cachedMessages = validationResults.getIfPresent(new ValidationKey(bidder, jsonNode));
+        if (cachedMessages != null) {
+            return cachedMessages;
+        }
+
+        final Set<String> messages = validateBySchema(bidder, jsonNode);
+        // params can be modified later during auction, so key has its own copy
+        validationResults.put(new ValidationKey(bidder, jsonNode.deepCopy()), messages);
+
+        return messages;
+    }
+
+    private Set<String> validateBySchema(String bidder, JsonNode jsonNode) {
         return bidderSchemas.get(bidder).validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     /**
@@ -78,10 +127,13 @@ public class BidderParamValidator {
      */
     public static BidderParamValidator create(BidderCatalog bidderCatalog,
                                               String schemaDirectory,
+                                              int resultsCacheSize,
+                                              Metrics metrics,
                                               JacksonMapper mapper) {
 
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(schemaDirectory);
+        Objects.requireNonNull(metrics);
         Objects.requireNonNull(mapper);
 
         final Map<String, JsonNode> bidderRawSchemas = new LinkedHashMap<>();
@@ -89,7 +141,12 @@ public class BidderParamValidator {
         bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
                 bidder, createSchemaNode(bidderCatalog, schemaDirectory, bidder, mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return new BidderParamValidator(
+                toBidderSchemas(bidderRawSchemas),
+                toSimpleBidderSchemas(bidderRawSchemas),
+                toSchemas(bidderRawSchemas, mapper),
+                resultsCacheSize,
+                metrics);
     }
 
     private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
@@ -101,6 +158,17 @@ public class BidderParamValidator {
                         CaseInsensitiveMap::new));
     }
 
+    private static Map<String, SimpleBidderParamSchema> toSimpleBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
+        final Map<String, SimpleBidderParamSchema> simpleBidderSchemas = new CaseInsensitiveMap<>();
+        bidderRawSchemas.forEach((bidder, schema) -> {
+            final SimpleBidderParamSchema simpleSchema = SimpleBidderParamSchema.from(schema);
+            if (simpleSchema != null) {
+                simpleBidderSchemas.put(bidder, simpleSchema);
+            }
+        });
+        return simpleBidderSchemas;
+    }
+
     private static String toSchemas(Map<String, JsonNode> bidderRawSchemas, JacksonMapper mapper) {
         try {
             return mapper.encodeToString(bidderRawSchemas);
@@ -163,4 +231,7 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    private record ValidationKey(String bidder, JsonNode params) {
+    }
 }
@@ -0,0 +1,310 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Checks bidder params against the simple subset of JSON schema most of the bidders use: object of typed scalar
+ * properties with length, range and enum constraints, and required properties, possibly as oneOf/anyOf alternatives.
+ * <p>
+ * It never reports errors by itself: params it cannot confirm as valid are left to the full JSON schema validator,
+ * so validation messages stay the same.
+ */
+class SimpleBidderParamSchema {
+
+    private static final Set<String> SKIPPED_KEYWORDS = Set.of("$schema", "title", "description");
+    private static final Set<String> PROPERTY_KEYWORDS =
+            Set.of("type", "enum", "minLength", "maxLength", "minimum", "maximum");
+
+    private final Map<String, PropertySchema> properties;
+    private final List<String> required;
+    private final List<List<String>> oneOfRequired;
+    private final List<List<String>> anyOfRequired;
+
+    private SimpleBidderParamSchema(Map<String, PropertySchema> properties,
+                                    List<String> required,
+                                    List<List<String>> oneOfRequired,
+                                    List<List<String>> anyOfRequired) {
+
+        this.properties = properties;
+        this.required = required;
+        this.oneOfRequired = oneOfRequired;
+        this.anyOfRequired = anyOfRequired;
+    }
+
+    /**
+     * Returns schema if it consists of supported keywords only, otherwise null.
+     */
+    static SimpleBidderParamSchema from(JsonNode schema) {
+        if (!schema.isObject() || !"object".equals(schema.path("type").textValue())) {
+            return null;
+        }
+
+        Map<String, PropertySchema> properties = Collections.emptyMap();
+        List<String> required = Collections.emptyList();
+        List<List<String>> oneOfRequired = null;
+        List<List<String>> anyOfRequired = null;
+
+        for (Map.Entry<String, JsonNode> field : schema.properties()) {
+            final JsonNode value = field.getValue();
+
+            switch (field.getKey()) {
+                case "type" -> {
+                }
+                case "properties" -> {
+                    properties = propertySchemas(value);
+                    if (properties == null) {
+                        return null;
+                    }
+                }
+                case "required" -> {
+                    required = stringList(value);
+                    if (required == null) {
+                        return null;
+                    }
+                }
+                case "oneOf" -> {
+                    oneOfRequired = requiredAlternatives(value);
+                    if (oneOfRequired == null) {
+                        return null;
+                    }
+                }
+                case "anyOf" -> {
+                    anyOfRequired = requiredAlternatives(value);
+                    if (anyOfRequired == null) {
+                        return null;
+                    }
+                }
+                default -> {
+                    if (!SKIPPED_KEYWORDS.contains(field.getKey())) {
+                        return null;
+                    }
+                }
+            }
+        }
+
+        return new SimpleBidderParamSchema(properties, required, oneOfRequired, anyOfRequired);
+    }
+
+    private static Map<String, PropertySchema> propertySchemas(JsonNode properties) {
+        if (!properties.isObject()) {
+            return null;
+        }
+
+        final Map<String, PropertySchema> result = new HashMap<>();
+        for (Map.Entry<String, JsonNode> field : properties.properties()) {
+            final PropertySchema propertySchema = PropertySchema.from(field.getValue());
+            if (propertySchema == null) {
+                return null;
+            }
+            result.put(field.getKey(), propertySchema);
+        }
+        return result;
+    }
+
+    private static List<List<String>> requiredAlternatives(JsonNode alternatives) {
+        if (!alternatives.isArray() || alternatives.isEmpty()) {
+            return null;
+        }
+
+        final List<List<String>> result = new ArrayList<>();
+        for (JsonNode alternative : alternatives) {
+            if (!alternative.isObject()) {
+                return null;
+            }
+
+            List<String> alternativeRequired = Collections.emptyList();
+            for (Map.Entry<String, JsonNode> field : alternative.properties()) {
+                if (field.getKey().equals("required")) {
+                    alternativeRequired = stringList(field.getValue());
+                } else if (!SKIPPED_KEYWORDS.contains(field.getKey())) {
+                    return null;
+                }
+                if (alternativeRequired == null) {
+                    return null;
+                }
+            }
+            result.add(alternativeRequired);
+        }
+        return result;
+    }
+
+    private static List<String> stringList(JsonNode node) {
+        if (!node.isArray()) {
+            return null;
+        }
+
+        final List<String> result = new ArrayList<>();
+        for (JsonNode element : node) {
+            if (!element.isTextual()) {
+                return null;
+            }
+            result.add(element.textValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if params are valid against schema, or false if it cannot be confirmed.
+     */
+    boolean isValid(JsonNode params) {
+        if (!params.isObject() || !hasAll(params, required)) {
+            return false;
+        }
+        if (oneOfRequired != null && oneOfRequired.stream().filter(fields -> hasAll(params, fields)).count() != 1) {
+            return false;
+        }
+        if (anyOfRequired != null && anyOfRequired.stream().noneMatch(fields -> hasAll(params, fields))) {
+            return false;
+        }
+
+        for (Map.Entry<String, PropertySchema> property : properties.entrySet()) {
+            final JsonNode value = params.get(property.getKey());
+            if (value != null && !property.getValue().isValid(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasAll(JsonNode params, List<String> fields) {
+        for (String field : fields) {
+            if (!params.has(field)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record PropertySchema(Set<Type> types,
+                                  List<JsonNode> enumValues,
+                                  Integer minLength,
+                                  Integer maxLength,
+                                  BigDecimal minimum,
+                                  BigDecimal maximum) {
+
+        static PropertySchema from(JsonNode schema) {
+            if (!schema.isObject()) {
+                return null;
+            }
+
+            final Iterator<String> keywords = schema.fieldNames();
+            while (keywords.hasNext()) {
+                final String keyword = keywords.next();
+                if (!PROPERTY_KEYWORDS.contains(keyword) && !SKIPPED_KEYWORDS.contains(keyword)) {
+                    return null;
+                }
+            }
+
+            final Set<Type> types = types(schema.get("type"));
+            final JsonNode enumValues = schema.get("enum");
+            final JsonNode minLength = schema.get("minLength");
+            final JsonNode maxLength = schema.get("maxLength");
+            final JsonNode minimum = schema.get("minimum");
+            final JsonNode maximum = schema.get("maximum");
+
+            if (types == null
+                    || (enumValues != null && !enumValues.isArray())
+                    || (minLength != null && !isInt(minLength))
+                    || (maxLength != null && !isInt(maxLength))
+                    || (minimum != null && !minimum.isNumber())
+                    || (maximum != null && !maximum.isNumber())) {
+                return null;
+            }
+
+            return new PropertySchema(
+                    types,
+                    enumValues != null ? toList(enumValues) : null,
+                    minLength != null ? minLength.intValue() : null,
+                    maxLength != null ? maxLength.intValue() : null,
+                    minimum != null ? minimum.decimalValue() : null,
+                    maximum != null ? maximum.decimalValue() : null);
+        }
+
+        private static boolean isInt(JsonNode node) {
+            return node.isIntegralNumber() && node.canConvertToInt();
+        }
+
+        private static Set<Type> types(JsonNode node) {
+            if (node == null) {
+                return null;
+            }
+
+            final List<JsonNode> typeNodes = node.isArray() ? toList(node) : List.of(node);
+            if (typeNodes.isEmpty()) {
+                return null;
+            }
+
+            final Set<Type> result = EnumSet.noneOf(Type.class);
+            for (JsonNode typeNode : typeNodes) {
+                final Type type = typeNode.isTextual() ? Type.of(typeNode.textValue()) : null;
+                if (type == null) {
+                    return null;
+                }
+                result.add(type);
+            }
+            return result;
+        }
+
+        private static List<JsonNode> toList(JsonNode arrayNode) {
+            final List<JsonNode> result = new ArrayList<>(arrayNode.size());
+            arrayNode.forEach(result::add);
+            return result;
+        }
+
+        boolean isValid(JsonNode value) {
+            if (types.stream().noneMatch(type -> type.matches(value))) {
+                return false;
+            }
+            if (enumValues != null && !enumValues.contains(value)) {
+                return false;
+            }
+
+            if (value.isTextual()) {
+                final String text = value.textValue();
+                // both lengths are checked the strictest way, whether validator counts chars or code points
+                return (minLength == null || text.codePointCount(0, text.length()) >= minLength)
+                        && (maxLength == null || text.length() <= maxLength);
+            }
+            if (value.isNumber()) {
+                final BigDecimal number = value.decimalValue();
+                return (minimum == null || number.compareTo(minimum) >= 0)
+                        && (maximum == null || number.compareTo(maximum) <= 0);
+            }
+            return true;
+        }
+    }
+
+    private enum Type {
+
+        STRING, INTEGER, NUMBER, BOOLEAN;
+
+        static Type of(String type) {
+            return switch (type) {
+                case "string" -> STRING;
+                case "integer" -> INTEGER;
+                case "number" -> NUMBER;
+                case "boolean" -> BOOLEAN;
+                default -> null;
+            };
+        }
+
+        boolean matches(JsonNode value) {
+            return switch (this) {
+                case STRING -> value.isTextual();
+                case INTEGER -> value.isIntegralNumber();
+                case NUMBER -> value.isNumber();
+                case BOOLEAN -> value.isBoolean();
+            };
+        }
+    }
+}
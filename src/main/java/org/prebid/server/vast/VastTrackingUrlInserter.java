@@ -0,0 +1,154 @@
+package org.prebid.server.vast;
+
+/**
+ * Inserts impression tracking URL into VAST XML: after the last Impression tag following the first InLine
+ * (or Wrapper, if there is no InLine) open tag, or right before its close tag if there are no impressions.
+ * <p>
+ * Tags are recognized the same way as by case-insensitive patterns like {@code <\s*inline(?:>|\s.*?>)} would do,
+ * but the XML is scanned for all of them at once, without regex matching at every position.
+ */
+final class VastTrackingUrlInserter {
+
+    private static final char[] INLINE = "inline".toCharArray();
+    private static final char[] WRAPPER = "wrapper".toCharArray();
+    private static final char[] IMPRESSION = "impression".toCharArray();
+
+    private static final String IMPRESSION_PREFIX = "<Impression><![CDATA[";
+    private static final String IMPRESSION_SUFFIX = "]]></Impression>";
+
+    private static final int NOT_FOUND = -1;
+
+    private VastTrackingUrlInserter() {
+    }
+
+    /**
+     * Returns VAST XML with tracking URL inserted, the same XML if there is no place to insert it to,
+     * or null if XML contains neither InLine nor Wrapper.
+     */
+    static String insert(String vastXml, String trackingUrl) {
+        int inlineOpenTagEnd = NOT_FOUND;
+        int wrapperOpenTagEnd = NOT_FOUND;
+        for (int i = vastXml.indexOf('<'); i != NOT_FOUND; i = vastXml.indexOf('<', i + 1)) {
+            inlineOpenTagEnd = tagEnd(vastXml, i, false, INLINE);
+            if (inlineOpenTagEnd != NOT_FOUND) {
+                break;
+            }
+            if (wrapperOpenTagEnd == NOT_FOUND) {
+                wrapperOpenTagEnd = tagEnd(vastXml, i, false, WRAPPER);
+            }
+        }
+
+        final boolean isInline = inlineOpenTagEnd != NOT_FOUND;
+        final int openTagEnd = isInline ? inlineOpenTagEnd : wrapperOpenTagEnd;
+        if (openTagEnd == NOT_FOUND) {
+            return null;
+        }
+
+        final int insertionIndex = insertionIndex(vastXml, openTagEnd, isInline ? INLINE : WRAPPER);
+        return insertionIndex != NOT_FOUND
+                ? insertImpression(vastXml, insertionIndex, trackingUrl)
+                : vastXml;
+    }
+
+    /**
+     * Returns the end of the last impression close tag, or the start of the first close tag of given name
+     * if there are no impressions.
+     */
+    private static int insertionIndex(String vastXml, int from, char[] closeTagName) {
+        int lastImpressionCloseTagEnd = NOT_FOUND;
+        int closeTagStart = NOT_FOUND;
+        for (int i = vastXml.indexOf('<', from); i != NOT_FOUND; i = vastXml.indexOf('<', i + 1)) {
+            final int impressionCloseTagEnd = tagEnd(vastXml, i, true, IMPRESSION);
+            if (impressionCloseTagEnd != NOT_FOUND) {
+                lastImpressionCloseTagEnd = impressionCloseTagEnd;
+                // next match is looked for after this one, as successive regex matches are
+                i = impressionCloseTagEnd - 1;
+            } else if (lastImpressionCloseTagEnd == NOT_FOUND
+                    && closeTagStart == NOT_FOUND
+                    && tagEnd(vastXml, i, true, closeTagName) != NOT_FOUND) {
+                closeTagStart = i;
+            }
+        }
+
+        return lastImpressionCloseTagEnd != NOT_FOUND ? lastImpressionCloseTagEnd : closeTagStart;
+    }
+
+    /**
+     * Returns the end of the tag with given name starting at given index, or {@link #NOT_FOUND}.
+     */
+    private static int tagEnd(String xml, int start, boolean closing, char[] name) {
+        final int length = xml.length();
+
+        int i = skipWhitespaces(xml, start + 1);
+        if (closing) {
+            if (i >= length || xml.charAt(i) != '/') {
+                return NOT_FOUND;
+            }
+            i = skipWhitespaces(xml, i + 1);
+        }
+
+        if (length - i < name.length) {
+            return NOT_FOUND;
+        }
+        for (char nameChar : name) {
+            // name is lowercase ASCII, other chars cannot give the same value with the lowercase bit set
+            if ((xml.charAt(i++) | 0x20) != nameChar) {
+                return NOT_FOUND;
+            }
+        }
+
+        if (i >= length) {
+            return NOT_FOUND;
+        }
+        if (xml.charAt(i) == '>') {
+            return i + 1;
+        }
+        if (!isWhitespace(xml.charAt(i))) {
+            return NOT_FOUND;
+        }
+
+        for (i++; i < length; i++) {
+            final char current = xml.charAt(i);
+            if (current == '>') {
+                return i + 1;
+            }
+            if (isLineTerminator(current)) {
+                return NOT_FOUND;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static int skipWhitespaces(String xml, int from) {
+        int i = from;
+        while (i < xml.length() && isWhitespace(xml.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Tells if char matches {@code \s} regex.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Tells if char is not matched by {@code .} regex.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static String insertImpression(String vastXml, int index, String trackingUrl) {
+        return new StringBuilder(
+                vastXml.length() + IMPRESSION_PREFIX.length() + trackingUrl.length() + IMPRESSION_SUFFIX.length())
+                .append(vastXml, 0, index)
+                .append(IMPRESSION_PREFIX)
+                .append(trackingUrl)
+                .append(IMPRESSION_SUFFIX)
+                .append(vastXml, index, vastXml.length())
+                .toString();
+    }
+}
@@ -1,31 +1,49 @@
 package org.prebid.server.vertx;
 
-import io.vertx.circuitbreaker.CircuitBreakerOptions;
 import io.vertx.circuitbreaker.CircuitBreakerState;
+import io.vertx.circuitbreaker.OpenCircuitException;
+import io.vertx.circuitbreaker.TimeoutException;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import org.prebid.server.log.Logger;
-import org.prebid.server.log.LoggerFactory;
 
 import java.time.Clock;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Wrapper over Vert.x {@link io.vertx.circuitbreaker.CircuitBreaker} with functionality
- * to reset failure counter to adjust open-circuit time frame.
+ * Circuit breaker opening the circuit when number of failures within the opening interval reaches the threshold.
+ * Once closing interval passes, circuit becomes half-open and lets a single operation through:
+ * circuit is closed if it succeeds, or opened again otherwise. Operation not completed within the probe timeout
+ * fails with {@link TimeoutException} and counts as failure, so a hung operation cannot keep circuit half-open.
+ * <p>
+ * State is kept in atomics and updated right on the thread completing the operation, so even thousands of failures
+ * per second never block and never move work to worker threads.
  */
 public class CircuitBreaker {
 
-    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+    private static final int FAILURE_WINDOW_BUCKETS = 10;
+    private static final long DEFAULT_PROBE_TIMEOUT_MS = 10_000L;
 
-    private final io.vertx.circuitbreaker.CircuitBreaker breaker;
     private final Vertx vertx;
-    private final long openingIntervalMs;
+    private final int openingThreshold;
+    private final long closingIntervalMs;
+    private final long probeTimeoutMs;
     private final Clock clock;
 
-    private volatile long lastFailureTime;
+    private final FailureWindow failures;
+    private final AtomicReference<CircuitBreakerState> state = new AtomicReference<>(CircuitBreakerState.CLOSED);
+    private final AtomicBoolean halfOpenOperationPassed = new AtomicBoolean();
+
+    private volatile Handler<Void> openHandler = ignored -> {
+    };
+    private volatile Handler<Void> halfOpenHandler = ignored -> {
+    };
+    private volatile Handler<Void> closeHandler = ignored -> {
+    };
 
     public CircuitBreaker(String name,
                           Vertx vertx,
@@ -34,88 +52,117 @@ public class CircuitBreaker {
                           long closingIntervalMs,
                           Clock clock) {
 
-        breaker = io.vertx.circuitbreaker.CircuitBreaker.create(
-                Objects.requireNonNull(name),
-                Objects.requireNonNull(vertx),
-                new CircuitBreakerOptions()
-                        .setNotificationPeriod(0)
-                        .setMaxFailures(openingThreshold)
-                        .setResetTimeout(closingIntervalMs));
+        this(name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs, DEFAULT_PROBE_TIMEOUT_MS, clock);
+    }
+
+    public CircuitBreaker(String name,
+                          Vertx vertx,
+                          int openingThreshold,
+                          long openingIntervalMs,
+                          long closingIntervalMs,
+                          long probeTimeoutMs,
+                          Clock clock) {
 
-        this.vertx = vertx;
-        this.openingIntervalMs = openingIntervalMs;
+        Objects.requireNonNull(name);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.openingThreshold = openingThreshold;
+        this.closingIntervalMs = closingIntervalMs;
+        this.probeTimeoutMs = probeTimeoutMs;
         this.clock = Objects.requireNonNull(clock);
+
+        failures = new FailureWindow(openingIntervalMs, FAILURE_WINDOW_BUCKETS);
     }
 
     /**
      * Executes the given operation with the circuit breaker control.
      */
     public <T> Future<T> execute(Handler<Promise<T>> command) {
-        return breaker.execute(promise -> execute(command, promise));
-    }
+        final CircuitBreakerState currentState = state.get();
+        if (currentState == CircuitBreakerState.OPEN
+                || (currentState == CircuitBreakerState.HALF_OPEN
+                && !halfOpenOperationPassed.compareAndSet(false, true))) {
 
-    /**
-     * Executes operation and handle result of it on given {@link Promise}.
-     */
-    private <T> void execute(Handler<Promise<T>> command, Promise<T> promise) {
-        final Promise<T> passedPromise = Promise.promise();
-        command.handle(passedPromise);
+            return Future.failedFuture(OpenCircuitException.INSTANCE);
+        }
 
-        passedPromise.future()
-                .compose(response -> succeedBreaker(response, promise))
-                .recover(exception -> failBreaker(exception, promise));
+        final boolean halfOpen = currentState == CircuitBreakerState.HALF_OPEN;
+        final Promise<T> promise = Promise.promise();
+        try {
+            command.handle(promise);
+        } catch (Throwable e) {
+            promise.tryFail(e);
+        }
+
+        final Future<T> future = halfOpen ? withProbeTimeout(promise.future()) : promise.future();
+
+        // state is updated before the result is propagated, so the next operation sees it
+        return future.andThen(result -> {
+            if (result.succeeded()) {
+                succeeded(halfOpen);
+            } else {
+                failed(halfOpen);
+            }
+        });
     }
 
-    /**
-     * Succeeds given {@link Promise} and returns corresponding {@link Future}.
-     */
-    private static <T> Future<T> succeedBreaker(T result, Promise<T> promise) {
-        promise.complete(result);
-        return promise.future();
+    private <T> Future<T> withProbeTimeout(Future<T> future) {
+        final Promise<T> timedPromise = Promise.promise();
+        final long timerId = vertx.setTimer(probeTimeoutMs,
+                ignored -> timedPromise.tryFail(TimeoutException.INSTANCE));
+
+        future.onComplete(result -> {
+            vertx.cancelTimer(timerId);
+            if (result.succeeded()) {
+                timedPromise.tryComplete(result.result());
+            } else {
+                timedPromise.tryFail(result.cause());
+            }
+        });
+
+        return timedPromise.future();
     }
 
-    /**
-     * Fails given {@link Promise} and returns corresponding {@link Future}.
-     */
-    private <T> Future<T> failBreaker(Throwable exception, Promise<T> promise) {
-        final Promise<T> ensureStatePromise = Promise.promise();
-        vertx.executeBlocking(this::ensureState, false, ensureStatePromise);
-
-        return ensureStatePromise.future()
-                .recover(throwable -> {
-                    logger.warn("Resetting circuit breaker state failed", throwable);
-                    promise.fail(throwable);
-                    return promise.future();
-                })
-                .compose(ignored -> { // ensuring state succeeded, propagate real error
-                    promise.fail(exception);
-                    return promise.future();
-                });
+    private void succeeded(boolean halfOpen) {
+        if (halfOpen) {
+            if (state.compareAndSet(CircuitBreakerState.HALF_OPEN, CircuitBreakerState.CLOSED)) {
+                failures.reset();
+                closeHandler.handle(null);
+            }
+        } else if (state.get() == CircuitBreakerState.CLOSED && failures.hasFailures()) {
+            failures.reset();
+        }
     }
 
-    /**
-     * Resets failure counter to adjust open-circuit time frame.
-     * <p>
-     * Note: the operations {@link io.vertx.circuitbreaker.CircuitBreaker#state()}
-     * and {@link io.vertx.circuitbreaker.CircuitBreaker#reset()} can take a while,
-     * so it is better to perform them on a worker thread.
-     */
-    private <T> void ensureState(Promise<T> executeBlockingPromise) {
-        final long currentTime = clock.millis();
-        if (breaker.state() == CircuitBreakerState.CLOSED && lastFailureTime > 0
-                && currentTime - lastFailureTime > openingIntervalMs) {
-            breaker.reset();
+    private void failed(boolean halfOpen) {
+        if (halfOpen) {
+            if (state.compareAndSet(CircuitBreakerState.HALF_OPEN, CircuitBreakerState.OPEN)) {
+                opened();
+            }
+        } else if (state.get() == CircuitBreakerState.CLOSED
+                && failures.increment(clock.millis()) >= openingThreshold
+                && state.compareAndSet(CircuitBreakerState.CLOSED, CircuitBreakerState.OPEN)) {
+
+            opened();
         }
+    }
+
+    private void opened() {
+        openHandler.handle(null);
+        vertx.setTimer(closingIntervalMs, ignored -> halfOpen());
+    }
 
-        lastFailureTime = currentTime;
-        executeBlockingPromise.complete();
+    private void halfOpen() {
+        halfOpenOperationPassed.set(false);
+        if (state.compareAndSet(CircuitBreakerState.OPEN, CircuitBreakerState.HALF_OPEN)) {
+            halfOpenHandler.handle(null);
+        }
     }
 
     /**
      * Sets a {@link Handler} invoked when the circuit breaker state switches to open.
      */
     public CircuitBreaker openHandler(Handler<Void> handler) {
-        breaker.openHandler(handler);
+        openHandler = Objects.requireNonNull(handler);
         return this;
     }
 
@@ -123,7 +170,7 @@ public class CircuitBreaker {
      * Sets a {@link Handler} invoked when the circuit breaker state switches to half-open.
      */
     public CircuitBreaker halfOpenHandler(Handler<Void> handler) {
-        breaker.halfOpenHandler(handler);
+        halfOpenHandler = Objects.requireNonNull(handler);
         return this;
     }
 
@@ -131,14 +178,88 @@ public class CircuitBreaker {
      * Sets a {@link Handler} invoked when the circuit breaker state switches to close.
      */
     public CircuitBreaker closeHandler(Handler<Void> handler) {
-        breaker.closeHandler(handler);
+        closeHandler = Objects.requireNonNull(handler);
         return this;
     }
 
     public boolean isOpen() {
-        return switch (breaker.state()) {
+        return switch (state.get()) {
             case OPEN, HALF_OPEN -> true;
             case CLOSED -> false;
         };
     }
+
+    /**
+     * Counts failures in a ring of time buckets covering the opening interval. Each bucket keeps its time epoch
+     * and failures count in a single long, so it is updated by CAS and reused once its epoch leaves the interval.
+     */
+    private static class FailureWindow {
+
+        private static final int COUNT_BITS = 20;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+        private final long bucketIntervalMs;
+        private final AtomicLongArray buckets;
+
+        FailureWindow(long intervalMs, int bucketsNumber) {
+            bucketIntervalMs = Math.max(1L, intervalMs / bucketsNumber);
+            buckets = new AtomicLongArray(bucketsNumber);
+        }
+
+        /**
+         * Adds failure happened at the given time and returns the number of failures within the interval.
+         */
+        int increment(long currentTimeMs) {
+            final long epoch = currentTimeMs / bucketIntervalMs;
+            final int index = (int) (epoch % buckets.length());
+
+            long bucket;
+            long updatedBucket;
+            do {
+                bucket = buckets.get(index);
+                updatedBucket = epochOf(bucket) != epoch
+                        ? epoch << COUNT_BITS | 1
+                        : countOf(bucket) < COUNT_MASK ? bucket + 1 : bucket;
+            } while (!buckets.compareAndSet(index, bucket, updatedBucket));
+
+            return count(epoch);
+        }
+
+        private int count(long currentEpoch) {
+            final long oldestEpoch = currentEpoch - buckets.length();
+
+            int count = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                final long bucket = buckets.get(i);
+                final long epoch = epochOf(bucket);
+                if (epoch > oldestEpoch && epoch <= currentEpoch) {
+                    count += (int) countOf(bucket);
+                }
+            }
+            return count;
+        }
+
+        boolean hasFailures() {
+            for (int i = 0; i < buckets.length(); i++) {
+                if (countOf(buckets.get(i)) > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void reset() {
+            for (int i = 0; i < buckets.length(); i++) {
+                buckets.set(i, 0L);
+            }
+        }
+
+        private static long epochOf(long bucket) {
+            return bucket >>> COUNT_BITS;
+        }
+
+        private static long countOf(long bucket) {
+            return bucket & COUNT_MASK;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package org.prebid.server.vertx.httpclient;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
@@ -10,11 +11,13 @@ import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 
@@ -23,12 +26,22 @@ import java.util.concurrent.TimeoutException;
  */
 public class BasicHttpClient implements HttpClient {
 
+    private static final int MAX_ORIGINS_NUMBER = 10_000;
+
     private final Vertx vertx;
     private final io.vertx.core.http.HttpClient httpClient;
 
+    // parsed scheme, host and port per origin, so the URL is not parsed again for each request to the same endpoint
+    private final Map<String, URL> originToUrl;
+
     public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
+
+        originToUrl = Caffeine.newBuilder()
+                .maximumSize(MAX_ORIGINS_NUMBER)
+                .<String, URL>build()
+                .asMap();
     }
 
     @Override
@@ -52,9 +65,13 @@ public class BasicHttpClient implements HttpClient {
             return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
         }
 
-        final URL absoluteUrl;
+        final RequestOptions options;
         try {
-            absoluteUrl = new URL(url);
+            options = requestOptions(url)
+                    .setFollowRedirects(true)
+                    .setConnectTimeout(timeoutMs)
+                    .setMethod(method)
+                    .setHeaders(headers);
         } catch (MalformedURLException e) {
             return Future.failedFuture(e);
         }
@@ -64,13 +81,6 @@ public class BasicHttpClient implements HttpClient {
                 responsePromise.tryFail(
                         new TimeoutException("Timeout period of %dms has been exceeded".formatted(timeoutMs))));
 
-        final RequestOptions options = new RequestOptions()
-                .setFollowRedirects(true)
-                .setConnectTimeout(timeoutMs)
-                .setMethod(method)
-                .setAbsoluteURI(absoluteUrl)
-                .setHeaders(headers);
-
         final Future<HttpClientRequest> requestFuture = makeRequest(options);
 
         requestFuture
@@ -84,6 +94,37 @@ public class BasicHttpClient implements HttpClient {
                 .onFailure(ignored -> requestFuture.onSuccess(HttpClientRequest::reset));
     }
 
+    private RequestOptions requestOptions(String url) throws MalformedURLException {
+        final String origin = HttpUtil.origin(url);
+        final URL originUrl = origin != null ? originToUrl.get(origin) : null;
+        if (originUrl == null) {
+            final URL absoluteUrl = new URL(url);
+            if (origin != null) {
+                cacheOriginUrl(origin);
+            }
+            return new RequestOptions().setAbsoluteURI(absoluteUrl);
+        }
+
+        return new RequestOptions()
+                .setAbsoluteURI(originUrl)
+                .setURI(relativeUri(url, origin.length()));
+    }
+
+    private void cacheOriginUrl(String origin) {
+        try {
+            originToUrl.put(origin, URI.create(origin + "/").toURL());
+        } catch (IllegalArgumentException | MalformedURLException e) {
+            // origin is left uncached, so requests to it keep using their absolute URL
+        }
+    }
+
+    private static String relativeUri(String url, int originLength) {
+        final int fragmentStart = url.indexOf('#', originLength);
+        final String uri = url.substring(originLength, fragmentStart != -1 ? fragmentStart : url.length());
+
+        return uri.isEmpty() || uri.charAt(0) == '?' ? "/" + uri : uri;
+    }
+
     private Future<HttpClientRequest> makeRequest(RequestOptions options) {
         try {
             return httpClient.request(options);
@@ -103,10 +144,7 @@ public class BasicHttpClient implements HttpClient {
         }
 
         return response.body()
-                .map(body -> HttpClientResponse.of(
-                        response.statusCode(),
-                        response.headers(),
-                        body.toString(StandardCharsets.UTF_8)));
+                .map(body -> HttpClientResponse.ofBuffer(response.statusCode(), response.headers(), body));
 
     }
 }
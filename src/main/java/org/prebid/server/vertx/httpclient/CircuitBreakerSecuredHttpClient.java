@@ -10,6 +10,7 @@ import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.CircuitBreaker;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
@@ -29,9 +30,11 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
     private static final Logger logger = LoggerFactory.getLogger(CircuitBreakerSecuredHttpClient.class);
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
     private static final int LOG_PERIOD_SECONDS = 5;
+    private static final int MAX_ORIGINS_NUMBER = 10_000;
 
     private final Function<String, CircuitBreaker> circuitBreakerCreator;
     private final Map<String, CircuitBreaker> circuitBreakerByName;
+    private final Map<String, String> nameByOrigin;
 
     private final HttpClient httpClient;
 
@@ -55,6 +58,11 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                 .build()
                 .asMap();
 
+        nameByOrigin = Caffeine.newBuilder()
+                .maximumSize(MAX_ORIGINS_NUMBER)
+                .<String, String>build()
+                .asMap();
+
         metrics.createHttpClientCircuitBreakerNumberGauge(circuitBreakerByName::size);
 
         logger.info("Initialized HTTP client with Circuit Breaker");
@@ -134,7 +142,24 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
         logger.warn("Http client request to {} becomes succeeded, circuit closed.", name);
     }
 
-    private static String nameFrom(String urlAsString) {
+    private String nameFrom(String urlAsString) {
+        final String origin = HttpUtil.origin(urlAsString);
+        if (origin == null) {
+            return nameFromUrl(urlAsString);
+        }
+
+        final String name = nameByOrigin.get(origin);
+        if (name != null) {
+            return name;
+        }
+
+        // name is resolved from the whole URL to fail on invalid ones the same way as without cache
+        final String resolvedName = nameFromUrl(urlAsString);
+        nameByOrigin.put(origin, resolvedName);
+        return resolvedName;
+    }
+
+    private static String nameFromUrl(String urlAsString) {
         final URL url = parseUrl(urlAsString);
         return url.getProtocol() + "://" + url.getHost() + (url.getPort() != -1 ? ":" + url.getPort() : "");
     }
@@ -1,19 +1,62 @@
 package org.prebid.server.vertx.httpclient.model;
 
 import io.vertx.core.MultiMap;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * Holds Http client response data.
  * <p>
  * Should be created in "bodyHandler(...) after response has been read."
+ * <p>
+ * Body is kept as received, its {@link String} representation is decoded lazily on first access.
  */
-@Value(staticConstructor = "of")
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class HttpClientResponse {
 
-    int statusCode;
+    @Getter
+    @EqualsAndHashCode.Include
+    private final int statusCode;
+
+    @Getter
+    @EqualsAndHashCode.Include
+    private final MultiMap headers;
+
+    @ToString.Exclude
+    private Buffer bodyBuffer;
+
+    @ToString.Exclude
+    private String body;
+
+    public static HttpClientResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpClientResponse(statusCode, headers, null, body);
+    }
+
+    public static HttpClientResponse ofBuffer(int statusCode, MultiMap headers, Buffer body) {
+        return new HttpClientResponse(statusCode, headers, body, null);
+    }
 
-    MultiMap headers;
+    @ToString.Include(name = "body")
+    @EqualsAndHashCode.Include
+    public String getBody() {
+        if (body == null && bodyBuffer != null) {
+            body = bodyBuffer.toString(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
 
-    String body;
+    public Buffer getBodyAsBuffer() {
+        if (bodyBuffer == null && body != null) {
+            bodyBuffer = Buffer.buffer(body, StandardCharsets.UTF_8.name());
+        }
+        return bodyBuffer;
+    }
 }
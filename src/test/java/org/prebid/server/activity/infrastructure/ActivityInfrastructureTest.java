@@ -26,6 +26,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -101,6 +102,39 @@ public class ActivityInfrastructureTest {
         verify(debug).emitActivityInvocationResult(eq(Activity.CALL_BIDDER), same(payload), same(result));
     }
 
+    @Test
+    public void isAllowedShouldProceedSameInvocationOnlyOnce() {
+        // given
+        given(activityController.isAllowed(any())).willReturn(false);
+
+        // when
+        infrastructure.isAllowed(
+                Activity.CALL_BIDDER, ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder"));
+        final boolean result = infrastructure.isAllowed(
+                Activity.CALL_BIDDER, ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder"));
+
+        // then
+        assertThat(result).isFalse();
+        verify(activityController).isAllowed(any());
+        verify(debug, times(2)).emitActivityInvocationResult(eq(Activity.CALL_BIDDER), any(), eq(false));
+    }
+
+    @Test
+    public void isAllowedShouldProceedEachInvocationWhenTraceIsEnabled() {
+        // given
+        given(debug.isTraceEnabled()).willReturn(true);
+        given(activityController.isAllowed(any())).willReturn(true);
+
+        final ActivityInvocationPayload payload = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder");
+
+        // when
+        infrastructure.isAllowed(Activity.CALL_BIDDER, payload);
+        infrastructure.isAllowed(Activity.CALL_BIDDER, payload);
+
+        // then
+        verify(activityController, times(2)).isAllowed(same(payload));
+    }
+
     @Test
     public void debugTraceShouldReturnSameTraceLog() {
         // given
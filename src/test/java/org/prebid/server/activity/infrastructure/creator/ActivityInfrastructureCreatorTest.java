@@ -28,6 +28,7 @@ import org.prebid.server.settings.model.activity.privacy.AccountUSNatModuleConfi
 import org.prebid.server.settings.model.activity.rule.AccountActivityConditionsRuleConfig;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -37,6 +38,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier.US_NAT;
 
@@ -107,6 +109,28 @@ public class ActivityInfrastructureCreatorTest {
         verify(metrics).updateAlertsMetrics(eq(MetricName.general));
     }
 
+    @Test
+    public void parseShouldPrepareEqualAccountPrivacyConfigurationsOnlyOnce() {
+        // given
+        final Supplier<Account> accountSupplier = () -> Account.builder()
+                .privacy(AccountPrivacyConfig.builder()
+                        .activities(Map.of(Activity.SYNC_USER, AccountActivityConfiguration.of(
+                                null, singletonList(AccountActivityConditionsRuleConfig.of(null, null)))))
+                        .modules(asList(
+                                AccountUSNatModuleConfig.of(null, 0, null),
+                                AccountUSNatModuleConfig.of(null, 0, null)))
+                        .build())
+                .build();
+
+        // when
+        creator.parse(accountSupplier.get(), null, debug);
+        creator.parse(accountSupplier.get(), null, debug);
+
+        // then
+        verify(activityRuleFactory, times(2)).from(any(), any());
+        verify(metrics).updateAlertsMetrics(eq(MetricName.general));
+    }
+
     @Test
     public void parseShouldPopulateSkipConfigForModules() {
         // given
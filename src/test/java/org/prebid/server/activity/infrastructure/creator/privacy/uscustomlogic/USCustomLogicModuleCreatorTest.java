@@ -16,6 +16,7 @@ import org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier;
 import org.prebid.server.activity.infrastructure.privacy.usnat.reader.USNationalGppReader;
 import org.prebid.server.activity.infrastructure.rule.Rule;
 import org.prebid.server.auction.gpp.model.GppContextCreator;
+import org.prebid.server.json.CompiledJsonLogic;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JsonLogic;
 import org.prebid.server.metric.MetricName;
@@ -34,6 +35,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.times;
@@ -50,6 +52,9 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
     @Mock(strictness = LENIENT)
     private JsonLogic jsonLogic;
 
+    @Mock(strictness = LENIENT)
+    private CompiledJsonLogic compiledJsonLogic;
+
     @Mock
     private Metrics metrics;
 
@@ -60,6 +65,7 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         given(gppReaderFactory.forSection(anyInt(), anyBoolean(), any()))
                 .willReturn(new USNationalGppReader(null));
         given(jsonLogic.parse(any())).willReturn(JsonLogicBoolean.TRUE);
+        given(jsonLogic.compile(any())).willReturn(compiledJsonLogic);
 
         target = new USCustomLogicModuleCreator(gppReaderFactory, jsonLogic, null, null, metrics, 0);
     }
@@ -141,8 +147,9 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verify(gppReaderFactory).forSection(eq(12), eq(true), any());
         verifyNoMoreInteractions(gppReaderFactory);
 
-        verify(jsonLogic, times(6)).parse(eq("{}"));
-        verify(jsonLogic, times(6)).evaluate(any(), any());
+        verify(jsonLogic).parse(eq("{}"));
+        verify(jsonLogic).compile(same(JsonLogicBoolean.TRUE));
+        verify(compiledJsonLogic, times(6)).evaluate(any());
         verifyNoMoreInteractions(jsonLogic);
         verifyNoInteractions(metrics);
     }
@@ -162,7 +169,8 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verifyNoMoreInteractions(gppReaderFactory);
 
         verify(jsonLogic).parse(eq("{}"));
-        verify(jsonLogic).evaluate(any(), any());
+        verify(jsonLogic).compile(same(JsonLogicBoolean.TRUE));
+        verify(compiledJsonLogic).evaluate(any());
         verifyNoMoreInteractions(jsonLogic);
         verifyNoInteractions(metrics);
     }
@@ -216,7 +224,8 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verifyNoMoreInteractions(gppReaderFactory);
 
         verify(jsonLogic).parse(eq("{}"));
-        verify(jsonLogic).evaluate(any(), any());
+        verify(jsonLogic).compile(same(JsonLogicBoolean.TRUE));
+        verify(compiledJsonLogic).evaluate(any());
         verifyNoMoreInteractions(jsonLogic);
         verifyNoInteractions(metrics);
     }
@@ -244,6 +253,27 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verifyNoMoreInteractions(metrics);
     }
 
+    @Test
+    public void fromShouldCompileEqualJsonLogicConfigsOnlyOnce() throws JsonLogicEvaluationException {
+        // given
+        final PrivacyModuleCreationContext creationContext = givenCreationContext(
+                singletonList(7),
+                givenConfig(singleton(7), null, Activity.CALL_BIDDER, mapper.createObjectNode()));
+        final PrivacyModuleCreationContext rebuiltCreationContext = givenCreationContext(
+                singletonList(7),
+                givenConfig(singleton(7), null, Activity.CALL_BIDDER, mapper.createObjectNode()));
+
+        // when
+        target.from(creationContext);
+        target.from(rebuiltCreationContext);
+
+        // then
+        verify(jsonLogic).parse(eq("{}"));
+        verify(jsonLogic).compile(same(JsonLogicBoolean.TRUE));
+        verify(compiledJsonLogic, times(2)).evaluate(any());
+        verifyNoMoreInteractions(jsonLogic);
+    }
+
     private static PrivacyModuleCreationContext givenCreationContext(List<Integer> sectionsIds,
                                                                      AccountUSCustomLogicModuleConfig.Config config) {
 
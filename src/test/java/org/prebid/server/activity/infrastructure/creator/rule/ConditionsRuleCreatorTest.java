@@ -77,6 +77,30 @@ public class ConditionsRuleCreatorTest {
         assertThat(rule.proceed(payload4)).isEqualTo(Rule.Result.DISALLOW);
     }
 
+    @Test
+    public void fromShouldMatchGppSectionsOfEachRequestForEqualConfigs() {
+        // given
+        final ActivityControllerCreationContext matchedCreationContext = creationContext(
+                GppContextCreator.from(null, singletonList(1)).build().getGppContext());
+        final ActivityControllerCreationContext notMatchedCreationContext = creationContext(
+                GppContextCreator.from(null, singletonList(3)).build().getGppContext());
+
+        // when
+        final Rule matchedRule = target.from(givenSidsConfig(), matchedCreationContext);
+        final Rule notMatchedRule = target.from(givenSidsConfig(), notMatchedCreationContext);
+
+        // then
+        final ActivityInvocationPayload payload = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "name");
+        assertThat(matchedRule.proceed(payload)).isEqualTo(Rule.Result.DISALLOW);
+        assertThat(notMatchedRule.proceed(payload)).isEqualTo(Rule.Result.ABSTAIN);
+    }
+
+    private static AccountActivityConditionsRuleConfig givenSidsConfig() {
+        return AccountActivityConditionsRuleConfig.of(
+                AccountActivityConditionsRuleConfig.Condition.of(null, null, singletonList(1), null, null),
+                false);
+    }
+
     private static BidRequest givenBidRequest(String country, String region, String gpc) {
         return BidRequest.builder()
                 .device(Device.builder().geo(Geo.builder().country(country).region(region).build()).build())
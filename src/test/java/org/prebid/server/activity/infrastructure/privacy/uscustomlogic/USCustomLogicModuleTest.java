@@ -2,17 +2,14 @@ package org.prebid.server.activity.infrastructure.privacy.uscustomlogic;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
-import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
-import io.github.jamsesso.jsonlogic.ast.JsonLogicString;
 import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
-import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.activity.infrastructure.rule.Rule;
-import org.prebid.server.json.JsonLogic;
+import org.prebid.server.json.CompiledJsonLogic;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -28,18 +25,17 @@ public class USCustomLogicModuleTest extends VertxTest {
     private USCustomLogicDataSupplier dataSupplier;
 
     @Mock
-    private JsonLogic jsonLogic;
+    private CompiledJsonLogic jsonLogic;
 
     @Test
     public void proceedShouldReturnDisallow() throws JsonLogicEvaluationException {
         // given
-        final JsonLogicNode jsonLogicNode = new JsonLogicString(StringUtils.EMPTY);
         final Map<String, Object> data = new HashMap<>();
 
         given(dataSupplier.get()).willReturn(data);
-        given(jsonLogic.evaluate(same(jsonLogicNode), same(data))).willReturn(true);
+        given(jsonLogic.evaluate(same(data))).willReturn(true);
 
-        final USCustomLogicModule target = new USCustomLogicModule(jsonLogic, jsonLogicNode, dataSupplier);
+        final USCustomLogicModule target = new USCustomLogicModule(jsonLogic, dataSupplier);
 
         // when
         final Rule.Result result = target.proceed(null);
@@ -51,13 +47,12 @@ public class USCustomLogicModuleTest extends VertxTest {
     @Test
     public void proceedShouldReturnAllow() throws JsonLogicEvaluationException {
         // given
-        final JsonLogicNode jsonLogicNode = new JsonLogicString(StringUtils.EMPTY);
         final Map<String, Object> data = new HashMap<>();
 
         given(dataSupplier.get()).willReturn(data);
-        given(jsonLogic.evaluate(same(jsonLogicNode), same(data))).willReturn(false);
+        given(jsonLogic.evaluate(same(data))).willReturn(false);
 
-        final USCustomLogicModule target = new USCustomLogicModule(jsonLogic, jsonLogicNode, dataSupplier);
+        final USCustomLogicModule target = new USCustomLogicModule(jsonLogic, dataSupplier);
 
         // when
         final Rule.Result result = target.proceed(null);
@@ -69,13 +64,12 @@ public class USCustomLogicModuleTest extends VertxTest {
     @Test
     public void asLogEntryShouldReturnExpectedResult() throws JsonLogicEvaluationException {
         // given
-        final JsonLogicNode jsonLogicNode = new JsonLogicString(StringUtils.EMPTY);
         final Map<String, Object> data = new HashMap<>();
 
         given(dataSupplier.get()).willReturn(data);
-        given(jsonLogic.evaluate(same(jsonLogicNode), same(data))).willReturn(false);
+        given(jsonLogic.evaluate(same(data))).willReturn(false);
 
-        final USCustomLogicModule target = new USCustomLogicModule(jsonLogic, jsonLogicNode, dataSupplier);
+        final USCustomLogicModule target = new USCustomLogicModule(jsonLogic, dataSupplier);
 
         // when
         final JsonNode logEntry = target.asLogEntry(mapper);
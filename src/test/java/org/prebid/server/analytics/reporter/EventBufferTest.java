@@ -0,0 +1,95 @@
+package org.prebid.server.analytics.reporter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventBufferTest {
+
+    @Test
+    public void pollToFlushShouldReturnEventsToFlushWhenMaxEventsExceeded() {
+        // given
+        final EventBuffer<String> target = new EventBuffer<>(1, 999);
+        target.put("test", 4);
+
+        // when and then
+        assertThat(target.pollToFlush()).containsExactly("test");
+    }
+
+    @Test
+    public void pollToFlushShouldReturnEventsToFlushWhenMaxBytesExceeded() {
+        // given
+        final EventBuffer<String> target = new EventBuffer<>(999, 1);
+        target.put("test", 4);
+
+        // when and then
+        assertThat(target.pollToFlush()).containsExactly("test");
+    }
+
+    @Test
+    public void pollToFlushShouldNotReturnAnyEventsWhenLimitsAreNotExceeded() {
+        // given
+        final EventBuffer<String> target = new EventBuffer<>(999, 999);
+        target.put("test", 4);
+
+        // when and then
+        assertThat(target.pollToFlush()).isEmpty();
+    }
+
+    @Test
+    public void pollAllShouldReturnAllEvents() {
+        // given
+        final EventBuffer<String> target = new EventBuffer<>(999, 999);
+        target.put("test", 4);
+
+        // when and then
+        assertThat(target.pollAll()).containsExactly("test");
+    }
+
+    @Test
+    public void pollAllShouldResetLimits() {
+        // given
+        final EventBuffer<String> target = new EventBuffer<>(2, 999);
+        target.put("test1", 5);
+        target.pollAll();
+
+        // when
+        target.put("test2", 5);
+
+        // then
+        assertThat(target.pollToFlush()).isEmpty();
+        assertThat(target.pollAll()).containsExactly("test2");
+    }
+
+    @Test
+    public void putShouldNotLoseEventsWhenCalledConcurrentlyWithPolling() throws InterruptedException {
+        // given
+        final EventBuffer<Integer> target = new EventBuffer<>(10, Long.MAX_VALUE);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Integer> polled = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            final int producer = i;
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    target.put(producer * 1000 + j, 1);
+                }
+            });
+        }
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            polled.addAll(target.pollToFlush());
+        }
+        polled.addAll(target.pollAll());
+
+        // then
+        assertThat(polled).hasSize(4000).doesNotHaveDuplicates();
+    }
+}
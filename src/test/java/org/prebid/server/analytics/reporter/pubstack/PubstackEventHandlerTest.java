@@ -12,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.SetuidEvent;
+import org.prebid.server.analytics.reporter.EventBuffer;
 import org.prebid.server.analytics.reporter.pubstack.model.PubstackAnalyticsProperties;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.TimeoutContext;
@@ -21,10 +22,6 @@ import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
-
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
@@ -80,30 +77,46 @@ public class PubstackEventHandlerTest extends VertxTest {
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
 
         // then
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
-        assertThat(events.get()).isEmpty();
+        @SuppressWarnings("unchecked") final EventBuffer<String> events =
+                (EventBuffer<String>) ReflectionTestUtils.getField(pubstackEventHandler, "events");
+        assertThat(events.pollAll()).isEmpty();
         verifyNoInteractions(httpClient);
     }
 
     @Test
-    public void handleShouldAddEventWithScopeIdAndIncreaseByteSize() throws JsonProcessingException {
+    public void handleShouldAddEventWithScopeId() throws JsonProcessingException {
         // given and when
         final SetuidEvent setuidEvent = SetuidEvent.builder().bidder("bidder1").build();
         pubstackEventHandler.handle(setuidEvent);
 
         // then
-        final AtomicLong byteSize = (AtomicLong) ReflectionTestUtils.getField(pubstackEventHandler, "byteSize");
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
+        @SuppressWarnings("unchecked") final EventBuffer<String> events =
+                (EventBuffer<String>) ReflectionTestUtils.getField(pubstackEventHandler, "events");
         final ObjectNode eventJsonNode = mapper.valueToTree(setuidEvent);
         eventJsonNode.put("scope", "scopeId");
         final String eventJsonRow = mapper.writeValueAsString(eventJsonNode);
-        assertThat(byteSize.get()).isEqualTo(eventJsonRow.getBytes().length);
-        assertThat(events.get()).hasSize(1)
-                .containsOnly(eventJsonRow);
+        assertThat(events.pollAll()).containsExactly(eventJsonRow);
+    }
+
+    @Test
+    public void handleShouldNotSendEventsWhenMaxCountEventsBufferIsReachedButNotExceeded() {
+        // given
+        final PubstackAnalyticsProperties properties = PubstackAnalyticsProperties.builder()
+                .endpoint("http://endpoint.com")
+                .scopeId("scopeId")
+                .sizeBytes(20000)
+                .count(1)
+                .reportTtlMs(10000L)
+                .timeoutMs(5000L)
+                .build();
+        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
+                httpClient, vertx);
+
+        // when
+        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
+
+        // then
+        verifyNoInteractions(httpClient);
     }
 
     @Test
@@ -179,8 +192,9 @@ public class PubstackEventHandlerTest extends VertxTest {
         verify(vertx).cancelTimer(anyLong());
         // one time in constructor and second after the send request
         verify(vertx, times(2)).setTimer(anyLong(), any());
-        final AtomicLong byteSize = (AtomicLong) ReflectionTestUtils.getField(pubstackEventHandler, "byteSize");
-        assertThat(byteSize.get()).isEqualTo(0);
+        @SuppressWarnings("unchecked") final EventBuffer<String> events =
+                (EventBuffer<String>) ReflectionTestUtils.getField(pubstackEventHandler, "events");
+        assertThat(events.pollAll()).isEmpty();
         final Long currentTimerId = (Long) ReflectionTestUtils.getField(pubstackEventHandler,
                 "reportTimerId");
         assertThat(currentTimerId).isEqualTo(2);
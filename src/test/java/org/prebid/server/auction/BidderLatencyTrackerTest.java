@@ -0,0 +1,80 @@
+package org.prebid.server.auction;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.auction.BidderLatencyTracker.LatencyStats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BidderLatencyTrackerTest {
+
+    @Test
+    public void creationShouldFailOnHeadroomFactorLessThanOne() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderLatencyTracker(0.99, 0.5, 0, 0, false));
+    }
+
+    @Test
+    public void limitTimeoutShouldReturnGivenTimeoutUntilEnoughSamplesCollected() {
+        // given
+        final BidderLatencyTracker target = new BidderLatencyTracker(0.99, 1.5, 0, 128, false);
+        givenResponseTimes(target, "bidder", 64, 100L);
+
+        // when and then
+        assertThat(target.limitTimeout("bidder", 500L)).isEqualTo(500L);
+        assertThat(target.limitTimeout("unknown", 500L)).isEqualTo(500L);
+        assertThat(target.stats()).isEmpty();
+    }
+
+    @Test
+    public void limitTimeoutShouldReturnResponseTimePercentileWithHeadroom() {
+        // given
+        final BidderLatencyTracker target = new BidderLatencyTracker(0.99, 1.5, 0, 64, false);
+        givenResponseTimes(target, "bidder", 64, 100L);
+
+        // when and then
+        assertThat(target.limitTimeout("bidder", 500L)).isEqualTo(150L);
+        assertThat(target.limitTimeout("bidder", 120L)).isEqualTo(120L);
+        assertThat(target.stats()).containsEntry("bidder", LatencyStats.of(64L, 100L, 100L, 100L, 150L));
+    }
+
+    @Test
+    public void limitTimeoutShouldNotReturnLessThanMinTimeout() {
+        // given
+        final BidderLatencyTracker target = new BidderLatencyTracker(0.99, 1.5, 50, 64, false);
+        givenResponseTimes(target, "bidder", 1024, 0L);
+
+        // when and then
+        assertThat(target.limitTimeout("bidder", 500L)).isEqualTo(50L);
+        assertThat(target.limitTimeout("bidder", 20L)).isEqualTo(20L);
+        assertThat(target.stats()).containsEntry("bidder", LatencyStats.of(1024L, 0L, 0L, 0L, 50L));
+    }
+
+    @Test
+    public void isTooSlowShouldReturnTrueWhenMedianResponseTimeExceedsRemainingTimeout() {
+        // given
+        final BidderLatencyTracker target = new BidderLatencyTracker(0.99, 1.5, 0, 0, true);
+        givenResponseTimes(target, "bidder", 64, 300L);
+
+        // when and then
+        assertThat(target.isTooSlow("bidder", 200L)).isTrue();
+        assertThat(target.isTooSlow("bidder", 400L)).isFalse();
+        assertThat(target.isTooSlow("unknown", 200L)).isFalse();
+    }
+
+    @Test
+    public void isTooSlowShouldReturnFalseWhenSkippingSlowBiddersIsDisabled() {
+        // given
+        final BidderLatencyTracker target = new BidderLatencyTracker(0.99, 1.5, 0, 0, false);
+        givenResponseTimes(target, "bidder", 64, 300L);
+
+        // when and then
+        assertThat(target.isTooSlow("bidder", 200L)).isFalse();
+    }
+
+    private static void givenResponseTimes(BidderLatencyTracker target, String bidder, int number, long responseTime) {
+        for (int i = 0; i < number; i++) {
+            target.recordResponseTime(bidder, responseTime);
+        }
+    }
+}
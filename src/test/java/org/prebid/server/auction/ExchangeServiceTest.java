@@ -208,6 +208,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.prebid.server.auction.model.BidRejectionReason.NO_BID;
+import static org.prebid.server.auction.model.BidRejectionReason.REQUEST_BLOCKED_OPTIMIZED;
 import static org.prebid.server.auction.model.BidRejectionReason.REQUEST_BLOCKED_UNACCEPTABLE_CURRENCY;
 import static org.prebid.server.proto.openrtb.ext.response.BidType.banner;
 import static org.prebid.server.proto.openrtb.ext.response.BidType.video;
@@ -245,6 +246,8 @@ public class ExchangeServiceTest extends VertxTest {
     @Mock(strictness = LENIENT)
     private TimeoutResolver timeoutResolver;
 
+    private BidderLatencyTracker bidderLatencyTracker;
+
     @Mock(strictness = LENIENT)
     private TimeoutFactory timeoutFactory;
 
@@ -2069,6 +2072,57 @@ public class ExchangeServiceTest extends VertxTest {
                 .containsOnly(new TextNode("skadnValue"));
     }
 
+    @Test
+    public void shouldShareUnmodifiedImpExtFieldsBetweenBidderRequestsAndCopyOwnBidderParams() {
+        // given
+        final ObjectNode skadn = mapper.createObjectNode().put("version", "2.0");
+        final ObjectNode someBidderParams = mapper.createObjectNode().put("param", 1);
+        final ObjectNode impExt = mapper.createObjectNode()
+                .<ObjectNode>set("prebid", mapper.createObjectNode()
+                        .<ObjectNode>set("bidder", mapper.createObjectNode()
+                                .<ObjectNode>set("someBidder", someBidderParams)
+                                .set("otherBidder", mapper.createObjectNode().put("param", 2))))
+                .set("skadn", skadn);
+        final ObjectNode originalImpExt = impExt.deepCopy();
+
+        final BidRequest bidRequest = givenBidRequest(
+                singletonList(Imp.builder()
+                        .id("impId")
+                        .banner(Banner.builder()
+                                .format(singletonList(Format.builder().w(400).h(300).build()))
+                                .build())
+                        .ext(impExt)
+                        .build()),
+                identity());
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
+                        givenBidderBid(Bid.builder().price(TEN).build())))));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester, times(2))
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        final List<ObjectNode> bidderImpExts = bidderRequestCaptor.getAllValues().stream()
+                .map(BidderRequest::getBidRequest)
+                .flatMap(request -> request.getImp().stream())
+                .map(Imp::getExt)
+                .toList();
+
+        assertThat(bidderImpExts).hasSize(2).allSatisfy(bidderImpExt -> {
+            assertThat(bidderImpExt.get("skadn")).isSameAs(skadn);
+            assertThat(bidderImpExt.get("bidder")).isNotSameAs(someBidderParams);
+        });
+        assertThat(bidderImpExts)
+                .extracting(bidderImpExt -> bidderImpExt.get("bidder"))
+                .containsExactlyInAnyOrder(
+                        mapper.createObjectNode().put("param", 1),
+                        mapper.createObjectNode().put("param", 2));
+        assertThat(impExt).isEqualTo(originalImpExt);
+    }
+
     @Test
     public void shouldCleanRequestExtPrebidData() {
         // given
@@ -4180,6 +4234,50 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(timeoutCaptor.getAllValues()).containsExactly(450L);
     }
 
+    @Test
+    public void shouldLimitBidderTimeoutToItsUsualResponseTime() {
+        // given
+        bidderLatencyTracker = givenBidderLatencyTracker("bidderName", 100L, false);
+        givenTarget(false);
+
+        given(timeoutResolver.adjustForBidder(anyLong(), anyInt(), anyLong(), anyLong())).willReturn(400L);
+        given(timeoutResolver.adjustForRequest(anyLong(), anyLong())).willReturn(450L);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidderName", 1)));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(timeoutFactory).create(anyLong(), eq(150L));
+        assertThat(bidderRequestCaptor.getValue().getBidRequest().getTmax()).isEqualTo(150L);
+    }
+
+    @Test
+    public void shouldSkipBidderWhenItsMedianResponseTimeExceedsRemainingTimeout() {
+        // given
+        bidderLatencyTracker = givenBidderLatencyTracker("bidderName", 1000L, true);
+        givenTarget(false);
+
+        given(timeout.remaining()).willReturn(500L);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp("impId", singletonMap("bidderName", 1)));
+
+        // when
+        final Future<AuctionContext> result = target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verifyNoInteractions(httpBidderRequester);
+        assertThat(result.result())
+                .extracting(AuctionContext::getBidRejectionTrackers)
+                .extracting(rejectionTrackers -> rejectionTrackers.get("bidderName"))
+                .extracting(BidRejectionTracker::getRejected)
+                .isEqualTo(Set.of(ImpRejection.of("bidderName", "impId", REQUEST_BLOCKED_OPTIMIZED)));
+    }
+
     @Test
     public void shouldDropBidsWithInvalidPrice() {
         // given
@@ -4240,6 +4338,17 @@ public class ExchangeServiceTest extends VertxTest {
         verify(metrics, times(3)).updateAdapterRequestErrorMetric("bidder", MetricName.unknown_error);
     }
 
+    private static BidderLatencyTracker givenBidderLatencyTracker(String bidder,
+                                                                  long responseTime,
+                                                                  boolean skipSlowBidders) {
+
+        final BidderLatencyTracker bidderLatencyTracker = new BidderLatencyTracker(0.99, 1.5, 0, 0, skipSlowBidders);
+        for (int i = 0; i < 64; i++) {
+            bidderLatencyTracker.recordResponseTime(bidder, responseTime);
+        }
+        return bidderLatencyTracker;
+    }
+
     private void givenTarget(boolean enabledStrictAppSiteDoohValidation) {
         target = new ExchangeService(
                 0,
@@ -4252,6 +4361,7 @@ public class ExchangeServiceTest extends VertxTest {
                 mediaTypeProcessor,
                 uidUpdater,
                 timeoutResolver,
+                bidderLatencyTracker,
                 timeoutFactory,
                 ortbVersionConversionManager,
                 httpBidderRequester,
@@ -14,6 +14,8 @@ import org.prebid.server.auction.gpp.model.GppContextWrapper;
 import org.prebid.server.auction.gpp.model.privacy.TcfEuV2Privacy;
 import org.prebid.server.auction.gpp.model.privacy.UspV1Privacy;
 import org.prebid.server.cookie.model.CookieSyncContext;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.DecodedConsentCache;
 import org.prebid.server.proto.request.CookieSyncRequest;
 
 import java.util.ArrayList;
@@ -33,12 +35,14 @@ public class CookieSyncGppServiceTest {
 
     @Mock
     private GppService gppService;
+    @Mock
+    private Metrics metrics;
 
     private CookieSyncGppService target;
 
     @BeforeEach
     public void setUp() {
-        target = new CookieSyncGppService(gppService);
+        target = new CookieSyncGppService(gppService, new DecodedConsentCache(1024L, metrics));
     }
 
     @Test
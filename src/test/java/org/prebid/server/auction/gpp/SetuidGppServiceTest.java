@@ -13,6 +13,8 @@ import org.prebid.server.auction.gpp.model.GppContextCreator;
 import org.prebid.server.auction.gpp.model.GppContextWrapper;
 import org.prebid.server.auction.gpp.model.privacy.TcfEuV2Privacy;
 import org.prebid.server.auction.model.SetuidContext;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.DecodedConsentCache;
 import org.prebid.server.privacy.model.Privacy;
 import org.prebid.server.privacy.model.PrivacyContext;
 
@@ -30,12 +32,14 @@ public class SetuidGppServiceTest {
 
     @Mock
     private GppService gppService;
+    @Mock
+    private Metrics metrics;
 
     private SetuidGppService target;
 
     @BeforeEach
     public void setUp() {
-        target = new SetuidGppService(gppService);
+        target = new SetuidGppService(gppService, new DecodedConsentCache(1024L, metrics));
     }
 
     @Test
@@ -7,7 +7,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.bidder.model.usersync.CookieFamilySource;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
@@ -330,6 +332,65 @@ public class BidderCatalogTest {
         assertThat(target.usersyncReadyBidders()).containsExactly("bidder-with-usersync");
     }
 
+    @Test
+    public void ordinalAndBidderBitsetsShouldReflectBiddersConfiguration() {
+        // given
+        final List<BidderDeps> bidderDeps = List.of(
+                BidderDeps.of(singletonList(BidderInstanceDeps.builder()
+                        .name("bidder-without-usersync")
+                        .deprecatedNames(emptyList())
+                        .build())),
+                BidderDeps.of(singletonList(BidderInstanceDeps.builder()
+                        .name("bidder-with-usersync")
+                        .deprecatedNames(emptyList())
+                        .usersyncer(Usersyncer.of(
+                                true, "family", CookieFamilySource.ROOT, null, null, true, List.of(2, 6)))
+                        .build())),
+                BidderDeps.of(singletonList(BidderInstanceDeps.builder()
+                        .name("bidder-with-disabled-usersync")
+                        .deprecatedNames(emptyList())
+                        .usersyncer(Usersyncer.of(
+                                false, "other-family", CookieFamilySource.ROOT, null, null, false, List.of(6)))
+                        .build())));
+
+        // when
+        target = new BidderCatalog(bidderDeps);
+
+        // then
+        final int withoutUsersync = target.ordinal("bidder-without-usersync");
+        final int withUsersync = target.ordinal("BIDDER-with-usersync");
+        final int withDisabledUsersync = target.ordinal("bidder-with-disabled-usersync");
+
+        assertThat(List.of(withoutUsersync, withUsersync, withDisabledUsersync)).containsExactlyInAnyOrder(0, 1, 2);
+        assertThat(target.ordinal("unknown")).isEqualTo(-1);
+        assertThat(target.ordinal(null)).isEqualTo(-1);
+
+        assertThat(target.activeBidders()).isEqualTo(bitSet());
+        assertThat(target.usersyncConfiguredBidders()).isEqualTo(bitSet(withUsersync, withDisabledUsersync));
+        assertThat(target.usersyncEnabledBidders()).isEqualTo(bitSet(withUsersync));
+        assertThat(target.skipSyncInGdprScopeBidders()).isEqualTo(bitSet(withUsersync));
+        assertThat(target.skipSyncForGppSidBidders(List.of(2))).isEqualTo(bitSet(withUsersync));
+        assertThat(target.skipSyncForGppSidBidders(List.of(6, 7)))
+                .isEqualTo(bitSet(withUsersync, withDisabledUsersync));
+        assertThat(target.skipSyncForGppSidBidders(null)).isEqualTo(bitSet());
+    }
+
+    @Test
+    public void bidderBitsetsShouldNotAffectCatalogWhenModified() {
+        // given
+        target = new BidderCatalog(singletonList(BidderDeps.of(singletonList(BidderInstanceDeps.builder()
+                .name("bidder")
+                .deprecatedNames(emptyList())
+                .usersyncer(Usersyncer.of("family", null, null, false, null))
+                .build()))));
+
+        // when
+        target.usersyncConfiguredBidders().clear();
+
+        // then
+        assertThat(target.usersyncConfiguredBidders()).isEqualTo(bitSet(0));
+    }
+
     @Test
     public void usersyncerByNameShouldReturnNullForUnknownBidder() {
         // given
@@ -417,4 +478,12 @@ public class BidderCatalogTest {
         // when and then
         assertThat(target.configuredName("unknown_bidder")).isNull();
     }
+
+    private static BitSet bitSet(int... ordinals) {
+        final BitSet bitSet = new BitSet();
+        for (int ordinal : ordinals) {
+            bitSet.set(ordinal);
+        }
+        return bitSet;
+    }
 }
@@ -0,0 +1,263 @@
+package org.prebid.server.bidder;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class BidderRequestHedgerTest {
+
+    private static final String URL = "http://bidder.com/auction";
+    private static final int MIN_SAMPLES = 64;
+    private static final long MIN_DELAY_MS = 20L;
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Metrics metrics;
+
+    private Clock clock;
+
+    private Timeout timeout;
+
+    @BeforeEach
+    public void setUp() {
+        clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        timeout = new TimeoutFactory(clock).create(500L);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidPercentile() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderRequestHedger(
+                        singletonList("bidder"), 1.5, MIN_SAMPLES, MIN_DELAY_MS, 0.1, vertx, clock, metrics));
+    }
+
+    @Test
+    public void isEnabledForShouldReturnTrueOnlyForConfiguredBidders() {
+        // given
+        final BidderRequestHedger target = givenTarget(1.0);
+
+        // when and then
+        assertThat(target.isEnabledFor("BIDDER")).isTrue();
+        assertThat(target.isEnabledFor("another")).isFalse();
+    }
+
+    @Test
+    public void requestShouldNotHedgeUntilEnoughLatencySamplesCollected() {
+        // given
+        final BidderRequestHedger target = givenTarget(1.0);
+        final AtomicInteger requestsNumber = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < MIN_SAMPLES - 1; i++) {
+            target.request("bidder", URL, timeout, () -> {
+                requestsNumber.incrementAndGet();
+                return Future.succeededFuture(givenResponse(200));
+            });
+        }
+
+        // then
+        assertThat(requestsNumber.get()).isEqualTo(MIN_SAMPLES - 1);
+        verifyNoInteractions(vertx);
+    }
+
+    @Test
+    public void requestShouldHedgeSlowRequestAndTakeFirstReceivedResponse() {
+        // given
+        final BidderRequestHedger target = givenTarget(1.0);
+        warmUp(target);
+
+        final Promise<HttpClientResponse> originalResponse = Promise.promise();
+        final HttpClientResponse hedgedResponse = givenResponse(204);
+        final Supplier<Future<HttpClientResponse>> requestSupplier = givenRequestSupplier(
+                originalResponse.future(), Future.succeededFuture(hedgedResponse));
+
+        // when
+        final Future<HttpClientResponse> result = target.request("bidder", URL, timeout, requestSupplier);
+        lastTimerHandler().handle(1L);
+        originalResponse.complete(givenResponse(200));
+
+        // then
+        verify(vertx, atLeastOnce()).setTimer(eq(MIN_DELAY_MS), any());
+        assertThat(result.result()).isSameAs(hedgedResponse);
+        verify(metrics).updateAdapterHedgedRequestMetric("bidder");
+        verify(metrics).updateAdapterHedgedRequestWonMetric("bidder");
+    }
+
+    @Test
+    public void requestShouldReturnOriginalResponseWhenHedgedRequestFailed() {
+        // given
+        final BidderRequestHedger target = givenTarget(1.0);
+        warmUp(target);
+
+        final Promise<HttpClientResponse> originalResponse = Promise.promise();
+        final HttpClientResponse response = givenResponse(200);
+        final Supplier<Future<HttpClientResponse>> requestSupplier = givenRequestSupplier(
+                originalResponse.future(), Future.failedFuture("Connection reset"));
+
+        // when
+        final Future<HttpClientResponse> result = target.request("bidder", URL, timeout, requestSupplier);
+        lastTimerHandler().handle(1L);
+        originalResponse.complete(response);
+
+        // then
+        assertThat(result.result()).isSameAs(response);
+        verify(metrics).updateAdapterHedgedRequestMetric("bidder");
+        verify(metrics, never()).updateAdapterHedgedRequestWonMetric(any());
+    }
+
+    @Test
+    public void requestShouldReturnHedgedResponseWhenOriginalRequestFailedFirst() {
+        // given
+        final BidderRequestHedger target = givenTarget(1.0);
+        warmUp(target);
+
+        final Promise<HttpClientResponse> originalResponse = Promise.promise();
+        final Promise<HttpClientResponse> hedgedResponse = Promise.promise();
+        final HttpClientResponse response = givenResponse(200);
+        final Supplier<Future<HttpClientResponse>> requestSupplier = givenRequestSupplier(
+                originalResponse.future(), hedgedResponse.future());
+
+        // when
+        final Future<HttpClientResponse> result = target.request("bidder", URL, timeout, requestSupplier);
+        lastTimerHandler().handle(1L);
+        originalResponse.fail("Connection reset");
+        final boolean completedBeforeHedgedResponse = result.isComplete();
+        hedgedResponse.complete(response);
+
+        // then
+        assertThat(completedBeforeHedgedResponse).isFalse();
+        assertThat(result.result()).isSameAs(response);
+        verify(metrics).updateAdapterHedgedRequestWonMetric("bidder");
+    }
+
+    @Test
+    public void requestShouldFailWhenAllRequestsFailed() {
+        // given
+        final BidderRequestHedger target = givenTarget(1.0);
+        warmUp(target);
+
+        final Promise<HttpClientResponse> originalResponse = Promise.promise();
+        final Promise<HttpClientResponse> hedgedResponse = Promise.promise();
+        final Supplier<Future<HttpClientResponse>> requestSupplier = givenRequestSupplier(
+                originalResponse.future(), hedgedResponse.future());
+
+        // when
+        final Future<HttpClientResponse> result = target.request("bidder", URL, timeout, requestSupplier);
+        lastTimerHandler().handle(1L);
+        hedgedResponse.fail("Connection refused");
+        final boolean completedBeforeOriginalResponse = result.isComplete();
+        originalResponse.fail("Connection reset");
+
+        // then
+        assertThat(completedBeforeOriginalResponse).isFalse();
+        assertThat(result.cause()).hasMessage("Connection reset");
+        verify(metrics, never()).updateAdapterHedgedRequestWonMetric(any());
+    }
+
+    @Test
+    public void requestShouldFailWithoutHedgingWhenOriginalRequestFailedBeforeHedgeDelay() {
+        // given
+        final BidderRequestHedger target = givenTarget(1.0);
+        warmUp(target);
+
+        final AtomicInteger requestsNumber = new AtomicInteger();
+
+        // when
+        final Future<HttpClientResponse> result = target.request("bidder", URL, timeout, () -> {
+            requestsNumber.incrementAndGet();
+            return Future.failedFuture("Connection reset");
+        });
+        lastTimerHandler().handle(1L);
+
+        // then
+        assertThat(result.cause()).hasMessage("Connection reset");
+        assertThat(requestsNumber.get()).isEqualTo(1);
+        verify(metrics, never()).updateAdapterHedgedRequestMetric(any());
+    }
+
+    @Test
+    public void requestShouldNotHedgeWhenHedgeRateBudgetIsExhausted() {
+        // given
+        final BidderRequestHedger target = givenTarget(0.0);
+        warmUp(target);
+
+        final Promise<HttpClientResponse> originalResponse = Promise.promise();
+        final AtomicInteger requestsNumber = new AtomicInteger();
+
+        // when
+        final Future<HttpClientResponse> result = target.request("bidder", URL, timeout, () -> {
+            requestsNumber.incrementAndGet();
+            return originalResponse.future();
+        });
+        lastTimerHandler().handle(1L);
+
+        // then
+        assertThat(requestsNumber.get()).isEqualTo(1);
+        assertThat(result.isComplete()).isFalse();
+        verifyNoInteractions(metrics);
+    }
+
+    private BidderRequestHedger givenTarget(double maxHedgeRate) {
+        return new BidderRequestHedger(
+                singletonList("bidder"), 0.95, MIN_SAMPLES, MIN_DELAY_MS, maxHedgeRate, vertx, clock, metrics);
+    }
+
+    private void warmUp(BidderRequestHedger target) {
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            target.request("bidder", URL, timeout, () -> Future.succeededFuture(givenResponse(200)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<Long> lastTimerHandler() {
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx, atLeastOnce()).setTimer(anyLong(), timerHandlerCaptor.capture());
+
+        final List<Handler<Long>> timerHandlers = timerHandlerCaptor.getAllValues();
+        return timerHandlers.getLast();
+    }
+
+    private static Supplier<Future<HttpClientResponse>> givenRequestSupplier(
+            Future<HttpClientResponse> originalResponse,
+            Future<HttpClientResponse> hedgedResponse) {
+
+        final AtomicInteger requestsNumber = new AtomicInteger();
+        return () -> requestsNumber.getAndIncrement() == 0 ? originalResponse : hedgedResponse;
+    }
+
+    private static HttpClientResponse givenResponse(int statusCode) {
+        return HttpClientResponse.of(statusCode, MultiMap.caseInsensitiveMultiMap(), "{}");
+    }
+}
@@ -10,6 +10,7 @@ import io.netty.handler.codec.http.HttpHeaderValues;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
@@ -36,6 +37,7 @@ import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
@@ -45,6 +47,8 @@ import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -52,6 +56,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -74,6 +79,7 @@ import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.isNull;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -96,6 +102,10 @@ public class HttpBidderRequesterTest extends VertxTest {
     private BidderErrorNotifier bidderErrorNotifier;
     @Mock(strictness = LENIENT)
     private HttpBidderRequestEnricher requestEnricher;
+    @Mock
+    private BidderRequestHedger requestHedger;
+    @Mock
+    private Metrics metrics;
     @Mock(strictness = LENIENT)
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
@@ -120,7 +130,7 @@ public class HttpBidderRequesterTest extends VertxTest {
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
         target = new HttpBidderRequester(
-                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0);
+                httpClient, null, bidderErrorNotifier, requestEnricher, null, metrics, jacksonMapper, 0.0);
         given(bidder.makeBidderResponse(any(BidderCall.class), any(BidRequest.class))).willCallRealMethod();
     }
 
@@ -184,6 +194,7 @@ public class HttpBidderRequesterTest extends VertxTest {
         assertThat(bidderSeatBid.getHttpCalls()).isEmpty();
         assertThat(bidderSeatBid.getErrors())
                 .extracting(BidderError::getMessage).containsOnly("error1", "error2");
+        assertThat(bidderSeatBid.isRespondedInTime()).isFalse();
 
         verifyNoInteractions(bidRejectionTracker);
     }
@@ -343,6 +354,42 @@ public class HttpBidderRequesterTest extends VertxTest {
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
     }
 
+    @Test
+    public void shouldSendRequestThroughHedgerWhenHedgingIsEnabledForBidder() throws JsonProcessingException {
+        // given
+        given(requestHedger.isEnabledFor("bidder")).willReturn(true);
+        given(requestHedger.request(eq("bidder"), anyString(), same(timeout), any()))
+                .willAnswer(invocation -> invocation.<Supplier<Future<HttpClientResponse>>>getArgument(3).get());
+
+        target = new HttpBidderRequester(
+                httpClient, null, bidderErrorNotifier, requestEnricher, requestHedger, metrics, jacksonMapper, 0.0);
+
+        givenHttpClientResponse(200, null);
+        final byte[] body = mapper.writeValueAsBytes(givenBidRequest(identity()));
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(
+                singletonList(givenSimpleHttpRequest(httpRequestBuilder -> httpRequestBuilder.body(body))),
+                emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                bidder,
+                bidderRequest,
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+
+        // then
+        verify(requestHedger).request(eq("bidder"), anyString(), same(timeout), any());
+        verify(httpClient).request(any(), anyString(), any(), any(byte[].class), anyLong());
+    }
+
     @Test
     public void shouldReturnBidsCreatedByBidder() {
         // given
@@ -371,6 +418,7 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // then
         assertThat(bidderSeatBid.getBids()).hasSameElementsAs(bids);
+        assertThat(bidderSeatBid.isRespondedInTime()).isTrue();
 
         verify(bidRejectionTracker, never()).reject(any(Rejection.class));
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
@@ -558,6 +606,8 @@ public class HttpBidderRequesterTest extends VertxTest {
                 },
                 bidderErrorNotifier,
                 requestEnricher,
+                null,
+                metrics,
                 jacksonMapper,
                 0.0);
 
@@ -748,6 +798,79 @@ public class HttpBidderRequesterTest extends VertxTest {
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
     }
 
+    @Test
+    public void shouldNotDecodeResponseBodyAsStringIfDebugDisabled() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(
+                Result.of(singletonList(givenSimpleHttpRequest(identity())), emptyList()));
+
+        final Buffer responseBody = spy(Buffer.buffer("responseBody"));
+        givenHttpClientReturnsResponses(HttpClientResponse.ofBuffer(200, null, responseBody));
+
+        given(bidder.makeBidderResponse(any(), any())).willReturn(CompositeBidderResponse.empty());
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                target.requestBids(
+                                bidder,
+                                bidderRequest,
+                                bidRejectionTracker,
+                                timeout,
+                                CaseInsensitiveMultiMap.empty(),
+                                bidderAliases,
+                                false)
+                        .result();
+
+        // then
+        assertThat(bidderSeatBid.getHttpCalls()).isEmpty();
+        verify(responseBody, never()).toString(any(Charset.class));
+    }
+
+    @Test
+    public void shouldDecodeResponseBodyAsStringOnlyOnceIfDebugEnabled() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(
+                Result.of(singletonList(givenSimpleHttpRequest(httpRequestBuilder -> httpRequestBuilder
+                        .uri("uri"))), emptyList()));
+
+        final Buffer responseBody = spy(Buffer.buffer("responseBody"));
+        givenHttpClientReturnsResponses(HttpClientResponse.ofBuffer(200, null, responseBody));
+
+        given(bidder.makeBidderResponse(any(), any())).willAnswer(invocation -> {
+            final BidderCall<BidRequest> httpCall = invocation.getArgument(0);
+            assertThat(httpCall.getResponse().getBody()).isEqualTo("responseBody");
+            return CompositeBidderResponse.empty();
+        });
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                target.requestBids(
+                                bidder,
+                                bidderRequest,
+                                bidRejectionTracker,
+                                timeout,
+                                CaseInsensitiveMultiMap.empty(),
+                                bidderAliases,
+                                true)
+                        .result();
+
+        // then
+        assertThat(bidderSeatBid.getHttpCalls())
+                .extracting(ExtHttpCall::getResponsebody)
+                .containsExactly("responseBody");
+        verify(responseBody).toString(StandardCharsets.UTF_8);
+    }
+
     @Test
     public void shouldReturnRecordBidRejections() throws JsonProcessingException {
         // given
@@ -1127,6 +1250,41 @@ public class HttpBidderRequesterTest extends VertxTest {
         verify(bidderErrorNotifier).processTimeout(any(), same(bidder));
     }
 
+    @Test
+    public void shouldReturnNotRespondedInTimeSeatBidIfAnyRequestTimedOut() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(
+                asList(givenSimpleHttpRequest(identity()), givenSimpleHttpRequest(identity())),
+                emptyList()));
+
+        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, "responseBody")))
+                .willReturn(Future.failedFuture(new TimeoutException("Timeout exception")));
+
+        given(bidder.makeBidderResponse(any(), any())).willReturn(CompositeBidderResponse.empty());
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                target.requestBids(
+                                bidder,
+                                bidderRequest,
+                                bidRejectionTracker,
+                                timeout,
+                                CaseInsensitiveMultiMap.empty(),
+                                bidderAliases,
+                                false)
+                        .result();
+
+        // then
+        assertThat(bidderSeatBid.getErrors()).extracting(BidderError::getType).containsOnly(BidderError.Type.timeout);
+        assertThat(bidderSeatBid.isRespondedInTime()).isFalse();
+    }
+
     @Test
     public void shouldTolerateMultipleErrors() {
         // given
@@ -0,0 +1,114 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.bidder.appnexus.proto.AppnexusExtImp;
+import org.prebid.server.proto.openrtb.ext.ExtPrebid;
+import org.prebid.server.proto.openrtb.ext.request.openx.ExtImpOpenx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class ImpExtDecoderTest extends VertxTest {
+
+    private static final TypeReference<ExtPrebid<?, ExtImpOpenx>> OPENX_EXT_TYPE_REFERENCE =
+            new TypeReference<>() {
+            };
+
+    private ImpExtDecoder target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new ImpExtDecoder(100, jacksonMapper);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveCacheSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ImpExtDecoder(0, jacksonMapper))
+                .withMessage("Imp ext decoding cache size must be positive");
+    }
+
+    @Test
+    public void decodeShouldReturnSameValueForEqualImpExt() {
+        // when
+        final ExtPrebid<?, ExtImpOpenx> first = target.decode(givenImpExt("unit"), OPENX_EXT_TYPE_REFERENCE);
+        final ExtPrebid<?, ExtImpOpenx> second = target.decode(givenImpExt("unit"), OPENX_EXT_TYPE_REFERENCE);
+
+        // then
+        assertThat(first.getBidder().getUnit()).isEqualTo("unit");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void decodeShouldReturnSameValueForImpExtsDifferingInFieldsNotDecodedOnly() {
+        // when
+        final ExtPrebid<?, ExtImpOpenx> first =
+                target.decode(givenImpExt("unit").put("tid", "tid1"), OPENX_EXT_TYPE_REFERENCE);
+        final ExtPrebid<?, ExtImpOpenx> second =
+                target.decode(givenImpExt("unit").put("tid", "tid2"), OPENX_EXT_TYPE_REFERENCE);
+
+        // then
+        assertThat(first.getBidder().getUnit()).isEqualTo("unit");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void decodeShouldNotReuseValueForImpExtsDifferingInDecodedFields() {
+        // when
+        final AppnexusExtImp first = target.decode(givenImpExt("unit").put("gpid", "gpid1"), AppnexusExtImp.class);
+        final AppnexusExtImp second = target.decode(givenImpExt("unit").put("gpid", "gpid2"), AppnexusExtImp.class);
+
+        // then
+        assertThat(first.getGpid()).isEqualTo("gpid1");
+        assertThat(second.getGpid()).isEqualTo("gpid2");
+    }
+
+    @Test
+    public void decodeShouldNotReuseValueAfterImpExtModification() {
+        // given
+        final ObjectNode impExt = givenImpExt("unit");
+        final ExtPrebid<?, ExtImpOpenx> first = target.decode(impExt, OPENX_EXT_TYPE_REFERENCE);
+
+        // when
+        ((ObjectNode) impExt.get("bidder")).put("unit", "otherUnit");
+        final ExtPrebid<?, ExtImpOpenx> second = target.decode(impExt, OPENX_EXT_TYPE_REFERENCE);
+
+        // then
+        assertThat(first.getBidder().getUnit()).isEqualTo("unit");
+        assertThat(second.getBidder().getUnit()).isEqualTo("otherUnit");
+    }
+
+    @Test
+    public void decodeShouldDistinguishTargetTypes() {
+        // given
+        final ObjectNode impExt = givenImpExt("unit");
+
+        // when
+        final ExtPrebid<?, ExtImpOpenx> ext = target.decode(impExt, OPENX_EXT_TYPE_REFERENCE);
+        final ExtImpOpenx bidderExt = target.decode((ObjectNode) impExt.get("bidder"), ExtImpOpenx.class);
+
+        // then
+        assertThat(ext.getBidder()).isEqualTo(bidderExt);
+        assertThat(target.decode(impExt, ObjectNode.class)).isEqualTo(impExt);
+    }
+
+    @Test
+    public void decodeShouldFailOnInvalidImpExt() {
+        // given
+        final ObjectNode impExt = mapper.createObjectNode().put("bidder", "invalid");
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.decode(impExt, OPENX_EXT_TYPE_REFERENCE));
+    }
+
+    private static ObjectNode givenImpExt(String unit) {
+        final ObjectNode impExt = mapper.createObjectNode();
+        impExt.set("bidder", mapper.createObjectNode().put("unit", unit));
+        return impExt;
+    }
+}
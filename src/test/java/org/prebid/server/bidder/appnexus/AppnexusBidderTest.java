@@ -15,6 +15,7 @@ import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.VertxTest;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.bidder.appnexus.proto.AppnexusBidExt;
 import org.prebid.server.bidder.appnexus.proto.AppnexusBidExtAppnexus;
 import org.prebid.server.bidder.appnexus.proto.AppnexusBidExtCreative;
@@ -66,6 +67,7 @@ public class AppnexusBidderTest extends VertxTest {
             "https://endpoint.com/",
             null,
             Map.of(10, "IAB4-5"),
+            new ImpExtDecoder(100, jacksonMapper),
             jacksonMapper);
 
     @Test
@@ -75,6 +77,7 @@ public class AppnexusBidderTest extends VertxTest {
                 "invalid_url",
                 null,
                 Collections.emptyMap(),
+                new ImpExtDecoder(100, jacksonMapper),
                 jacksonMapper));
     }
 
@@ -499,6 +502,7 @@ public class AppnexusBidderTest extends VertxTest {
                 "https://endpoint.com/",
                 1,
                 Map.of(10, "IAB4-5"),
+                new ImpExtDecoder(100, jacksonMapper),
                 jacksonMapper);
 
         final BidRequest bidRequest = givenBidRequest(givenImp(givenExt(identity())));
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.bidder.ix.model.response.AuctionConfigExtBidResponse;
 import org.prebid.server.bidder.ix.model.response.IxBidResponse;
 import org.prebid.server.bidder.ix.model.response.IxExtBidResponse;
@@ -77,14 +78,16 @@ public class IxBidderTest extends VertxTest {
 
     @BeforeEach
     public void setUp() {
-        target = new IxBidder(ENDPOINT_URL, prebidVersionProvider, jacksonMapper);
+        target = new IxBidder(
+                ENDPOINT_URL, prebidVersionProvider, new ImpExtDecoder(100, jacksonMapper), jacksonMapper);
         given(prebidVersionProvider.getNameVersionRecord()).willReturn(null);
     }
 
     @Test
     public void creationShouldFailOnInvalidEndpointUrl() {
         assertThatIllegalArgumentException().isThrownBy(
-                () -> new IxBidder("invalid_url", prebidVersionProvider, jacksonMapper));
+                () -> new IxBidder(
+                        "invalid_url", prebidVersionProvider, new ImpExtDecoder(100, jacksonMapper), jacksonMapper));
     }
 
     @Test
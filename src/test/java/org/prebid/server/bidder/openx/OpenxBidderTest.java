@@ -16,6 +16,7 @@ import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.VertxTest;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -55,11 +56,13 @@ public class OpenxBidderTest extends VertxTest {
 
     private static final String ENDPOINT_URL = "http://test/auction";
 
-    private final OpenxBidder target = new OpenxBidder(ENDPOINT_URL, jacksonMapper);
+    private final OpenxBidder target =
+            new OpenxBidder(ENDPOINT_URL, new ImpExtDecoder(100, jacksonMapper), jacksonMapper);
 
     @Test
     public void creationShouldFailOnNullArguments() {
-        assertThatNullPointerException().isThrownBy(() -> new OpenxBidder(null, jacksonMapper));
+        assertThatNullPointerException()
+                .isThrownBy(() -> new OpenxBidder(null, new ImpExtDecoder(100, jacksonMapper), jacksonMapper));
     }
 
     @Test
@@ -2,6 +2,7 @@ package org.prebid.server.cookie;
 
 import io.vertx.core.Future;
 import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.collections4.CollectionUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,10 +43,14 @@ import org.prebid.server.settings.model.AccountCoopSyncConfig;
 import org.prebid.server.spring.config.bidder.model.usersync.CookieFamilySource;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.UnaryOperator;
@@ -89,10 +94,35 @@ public class CookieSyncServiceTest extends VertxTest {
     @Mock(strictness = LENIENT)
     private ActivityInfrastructure activityInfrastructure;
 
+    private final Map<String, Integer> bidderOrdinals = new HashMap<>();
+    private final Set<String> validBidders = new HashSet<>();
+    private final BitSet activeBidders = new BitSet();
+    private final BitSet usersyncConfiguredBidders = new BitSet();
+    private final BitSet usersyncEnabledBidders = new BitSet();
+    private final BitSet skipSyncInGdprScopeBidders = new BitSet();
+    private final Map<Integer, BitSet> gppSidToSkipSyncBidders = new HashMap<>();
+
     private CookieSyncService target;
 
     @BeforeEach
     public void setUp() {
+        given(bidderCatalog.ordinal(any())).willAnswer(invocation -> {
+            final String bidder = invocation.getArgument(0);
+            return validBidders.contains(bidder) ? bidderOrdinals.get(bidder) : -1;
+        });
+        given(bidderCatalog.activeBidders()).willAnswer(invocation -> activeBidders.clone());
+        given(bidderCatalog.usersyncConfiguredBidders()).willAnswer(invocation -> usersyncConfiguredBidders.clone());
+        given(bidderCatalog.usersyncEnabledBidders()).willAnswer(invocation -> usersyncEnabledBidders.clone());
+        given(bidderCatalog.skipSyncInGdprScopeBidders()).willAnswer(invocation -> skipSyncInGdprScopeBidders.clone());
+        given(bidderCatalog.skipSyncForGppSidBidders(any())).willAnswer(invocation -> {
+            final BitSet bidders = new BitSet();
+            CollectionUtils.<Integer>emptyIfNull(invocation.getArgument(0)).stream()
+                    .map(gppSidToSkipSyncBidders::get)
+                    .filter(Objects::nonNull)
+                    .forEach(bidders::or);
+            return bidders;
+        });
+
         given(uidsCookie.allowsSync()).willReturn(true);
         given(hostVendorTcfDefinerService.isAllowedForHostVendorId(any()))
                 .willReturn(Future.succeededFuture(HostVendorTcfResponse.allowedVendor()));
@@ -350,7 +380,7 @@ public class CookieSyncServiceTest extends VertxTest {
         // given
         givenCoopSyncBidders("coop-sync-bidder");
 
-        given(bidderCatalog.isValidName("disabled-bidder")).willReturn(true);
+        givenValidBidder("disabled-bidder");
         givenValidActiveBidders("requested-bidder", "coop-sync-bidder");
         givenUsersyncersForBidders("requested-bidder", "coop-sync-bidder");
 
@@ -1010,8 +1040,7 @@ public class CookieSyncServiceTest extends VertxTest {
     @Test
     public void prepareResponseShouldReturnWarningForAliasesSyncedAsRootCookieFamilyWhenDebugTrue() {
         // given
-        given(bidderCatalog.isValidName("alias")).willReturn(true);
-        given(bidderCatalog.isActive("alias")).willReturn(true);
+        givenValidActiveBidder("alias");
         given(bidderCatalog.isAlias("alias")).willReturn(true);
         givenUsersyncerForBidder(true, "alias", "root-cookie-family", CookieFamilySource.ROOT, false, null);
 
@@ -1038,8 +1067,7 @@ public class CookieSyncServiceTest extends VertxTest {
     @Test
     public void prepareResponseShouldNotReturnWarningForAliasesSyncedAsAliasCookieFamilyWhenDebugFalse() {
         // given
-        given(bidderCatalog.isValidName("alias")).willReturn(true);
-        given(bidderCatalog.isActive("alias")).willReturn(true);
+        givenValidActiveBidder("alias");
         given(bidderCatalog.isAlias("alias")).willReturn(true);
         givenUsersyncerForBidder(true, "alias", "alias-cookie-family", CookieFamilySource.ALIAS, false, null);
 
@@ -1226,8 +1254,18 @@ public class CookieSyncServiceTest extends VertxTest {
     }
 
     private void givenValidActiveBidder(String bidder) {
-        given(bidderCatalog.isValidName(bidder)).willReturn(true);
         given(bidderCatalog.isActive(bidder)).willReturn(true);
+        activeBidders.set(givenValidBidder(bidder));
+    }
+
+    private int givenValidBidder(String bidder) {
+        given(bidderCatalog.isValidName(bidder)).willReturn(true);
+        validBidders.add(bidder);
+        return givenBidderOrdinal(bidder);
+    }
+
+    private int givenBidderOrdinal(String bidder) {
+        return bidderOrdinals.computeIfAbsent(bidder, ignored -> bidderOrdinals.size());
     }
 
     private void givenCoopSyncBidders(String... bidders) {
@@ -1264,6 +1302,13 @@ public class CookieSyncServiceTest extends VertxTest {
                 enabled, cookieFamilyName, cookieFamilySource, usersyncMethod, null, gdpr, gppSid);
 
         given(bidderCatalog.usersyncerByName(eq(bidder))).willReturn(Optional.of(usersyncer));
+
+        final int ordinal = givenBidderOrdinal(bidder);
+        usersyncConfiguredBidders.set(ordinal);
+        usersyncEnabledBidders.set(ordinal, enabled);
+        skipSyncInGdprScopeBidders.set(ordinal, gdpr);
+        CollectionUtils.emptyIfNull(gppSid).forEach(sid ->
+                gppSidToSkipSyncBidders.computeIfAbsent(sid, key -> new BitSet()).set(ordinal));
         given(bidderCatalog.cookieFamilyName(eq(bidder))).willReturn(Optional.of(cookieFamilyName));
         given(usersyncMethodChooser.choose(eq(usersyncer), eq(bidder))).willReturn(usersyncMethod);
     }
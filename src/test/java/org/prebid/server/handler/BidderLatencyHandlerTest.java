@@ -0,0 +1,57 @@
+package org.prebid.server.handler;
+
+import io.netty.util.AsciiString;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.auction.BidderLatencyTracker;
+import org.prebid.server.auction.BidderLatencyTracker.LatencyStats;
+import org.prebid.server.handler.admin.BidderLatencyHandler;
+
+import static java.util.Collections.singletonMap;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class BidderLatencyHandlerTest extends VertxTest {
+
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerResponse httpResponse;
+    @Mock
+    private BidderLatencyTracker bidderLatencyTracker;
+
+    private BidderLatencyHandler target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new BidderLatencyHandler(bidderLatencyTracker, "/endpoint", jacksonMapper);
+
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+        given(httpResponse.putHeader(any(), any(AsciiString.class))).willReturn(httpResponse);
+    }
+
+    @Test
+    public void handleShouldRespondWithBidderLatencyStats() {
+        // given
+        given(bidderLatencyTracker.stats())
+                .willReturn(singletonMap("bidder", LatencyStats.of(1024L, 50L, 120L, 200L, 300L)));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(200);
+        verify(httpResponse).end("""
+                {"bidder":{"count":1024,"p50":50,"p95":120,"p99":200,"timeout":300}}""");
+    }
+}
@@ -1334,6 +1334,37 @@ public class HookStageExecutorTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void shouldExecuteRawAuctionRequestHooksFromUpdatedAccountExecutionPlan(VertxTestContext context) {
+        // given
+        final RawAuctionRequestHookImpl hookImpl = spy(
+                RawAuctionRequestHookImpl.of(immediateHook(InvocationResultUtils.noAction())));
+        given(hookCatalog.hookById(any(), eq(StageWithHookType.RAW_AUCTION_REQUEST)))
+                .willReturn(hookImpl);
+
+        final HookStageExecutor executor = createExecutor(null, null);
+
+        final Account account = givenAccountWithExecutionPlan("module-alpha", "hook-a");
+        final Account updatedAccount = givenAccountWithExecutionPlan("module-beta", "hook-b");
+
+        // when
+        final Future<HookStageExecutionResult<AuctionRequestPayload>> future = executor
+                .executeRawAuctionRequestStage(givenAuctionContext(account))
+                .compose(ignored -> executor.executeRawAuctionRequestStage(givenAuctionContext(account)))
+                .compose(ignored -> executor.executeRawAuctionRequestStage(givenAuctionContext(updatedAccount)));
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            verify(hookImpl, times(3)).call(any(), any());
+            verify(hookCatalog, times(2))
+                    .hookById(eqHook("module-alpha", "hook-a"), eq(StageWithHookType.RAW_AUCTION_REQUEST));
+            verify(hookCatalog)
+                    .hookById(eqHook("module-beta", "hook-b"), eq(StageWithHookType.RAW_AUCTION_REQUEST));
+
+            context.completeNow();
+        }));
+    }
+
     @Test
     public void shouldExecuteRawAuctionRequestHooksToleratingUnknownHookInAccountPlan(VertxTestContext context) {
         // given
@@ -3545,6 +3576,22 @@ public class HookStageExecutorTest extends VertxTest {
                 ABTest.builder().enabled(true).build());
     }
 
+    @Test
+    public void abTestsShouldReuseCompiledExecutionPlanForEqualAccountHooksConfigurations() {
+        // given
+        final HookStageExecutor executor = createExecutor(null, null);
+
+        final Account account = givenAccountWithABTest("1", mapper.createObjectNode().put("param", 1));
+        final Account rebuiltAccount = givenAccountWithABTest("1", mapper.createObjectNode().put("param", 2));
+
+        // when
+        final List<ABTest> abTests = executor.abTests(account);
+
+        // then
+        assertThat(abTests).containsExactly(ABTest.builder().enabled(true).moduleCode("module-alpha").build());
+        assertThat(executor.abTests(rebuiltAccount)).isSameAs(abTests);
+    }
+
     @Test
     public void abTestsShouldReturnEnabledTestsFromHost() {
         // given
@@ -3569,6 +3616,18 @@ public class HookStageExecutorTest extends VertxTest {
                 ABTest.builder().enabled(true).build());
     }
 
+    private static Account givenAccountWithABTest(String accountId, ObjectNode moduleConfig) {
+        return Account.builder()
+                .id(accountId)
+                .hooks(AccountHooksConfiguration.of(
+                        ExecutionPlan.of(
+                                singletonList(ABTest.builder().enabled(true).moduleCode("module-alpha").build()),
+                                emptyMap()),
+                        singletonMap("module-alpha", moduleConfig),
+                        null))
+                .build();
+    }
+
     private String executionPlan(Map<Endpoint, EndpointExecutionPlan> endpoints) {
         return jacksonMapper.encodeToString(ExecutionPlan.of(null, endpoints));
     }
@@ -3724,6 +3783,28 @@ public class HookStageExecutorTest extends VertxTest {
         return ArgumentMatchers.eq(HookId.of(moduleCode, hookCode));
     }
 
+    private Account givenAccountWithExecutionPlan(String moduleCode, String hookImplCode) {
+        final ExecutionPlan accountPlan = ExecutionPlan.of(emptyList(), singletonMap(
+                Endpoint.openrtb2_auction,
+                EndpointExecutionPlan.of(singletonMap(
+                        Stage.raw_auction_request,
+                        execPlanOneGroupOneHook(moduleCode, hookImplCode)))));
+
+        return Account.builder()
+                .id("accountId")
+                .hooks(AccountHooksConfiguration.of(accountPlan, null, null))
+                .build();
+    }
+
+    private static AuctionContext givenAuctionContext(Account account) {
+        return AuctionContext.builder()
+                .bidRequest(BidRequest.builder().build())
+                .account(account)
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .build();
+    }
+
     private HookStageExecutor createExecutor(String hostExecutionPlan) {
         return createExecutor(hostExecutionPlan, null);
     }
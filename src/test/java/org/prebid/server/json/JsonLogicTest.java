@@ -8,8 +8,12 @@ import io.github.jamsesso.jsonlogic.ast.JsonLogicVariable;
 import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class JsonLogicTest {
@@ -41,4 +45,68 @@ public class JsonLogicTest {
         // then
         assertThat(result).isFalse();
     }
+
+    @Test
+    public void compileShouldReturnExpressionEvaluatedAsByEvaluator() {
+        // given
+        final List<String> expressions = List.of(
+                "true",
+                "\"text\"",
+                "{\"var\": \"a\"}",
+                "{\"var\": [\"missing\", true]}",
+                "{\"var\": [\"nested.flag\", false]}",
+                "{\"var\": \"list.1\"}",
+                "{\"==\": [{\"var\": \"number\"}, \"1\"]}",
+                "{\"===\": [{\"var\": \"number\"}, 1]}",
+                "{\"!=\": [{\"var\": \"text\"}, \"value\"]}",
+                "{\"!==\": [{\"var\": \"text\"}, \"value\"]}",
+                "{\"!\": [{\"var\": \"a\"}]}",
+                "{\"!!\": [{\"var\": \"list\"}]}",
+                "{\"and\": [{\"var\": \"a\"}, {\">\": [{\"var\": \"number\"}, 0]}]}",
+                "{\"or\": [{\"var\": \"missing\"}, {\"<=\": [{\"var\": \"number\"}, 1]}]}",
+                "{\"and\": []}",
+                "{\"if\": [{\"var\": \"a\"}, true, {\"var\": \"b\"}, false, true]}",
+                "{\"?:\": [{\"var\": \"b\"}, false, true]}",
+                "{\"in\": [{\"var\": \"text\"}, [\"value\", \"other\"]]}",
+                "{\"in\": [\"al\", {\"var\": \"text\"}]}",
+                "{\"some\": [{\"var\": \"list\"}, {\">\": [{\"var\": \"\"}, 1]}]}",
+                "{\"==\": [{\"+\": [{\"var\": \"number\"}, 1]}, 2]}",
+                "{\"unknown\": [1]}");
+
+        final List<Map<String, Object>> data = asList(
+                Map.of("a", true, "number", 1, "text", "value", "list", List.of(1, 2), "nested", Map.of("flag", true)),
+                Map.of("a", false, "b", 1, "number", -1, "text", "other", "list", emptyList()),
+                emptyMap(),
+                null);
+
+        for (String expression : expressions) {
+            final JsonLogicNode jsonLogicNode = jsonLogic.parse(expression);
+            final CompiledJsonLogic compiledJsonLogic = jsonLogic.compile(jsonLogicNode);
+
+            for (Map<String, Object> value : data) {
+                // when
+                final Object expectedResult = evaluate(() -> jsonLogic.evaluate(jsonLogicNode, value));
+                final Object result = evaluate(() -> compiledJsonLogic.evaluate(value));
+
+                // then
+                assertThat(result)
+                        .describedAs("Expression %s with data %s", expression, value)
+                        .isEqualTo(expectedResult);
+            }
+        }
+    }
+
+    private static Object evaluate(Evaluation evaluation) {
+        try {
+            return evaluation.evaluate();
+        } catch (JsonLogicEvaluationException | RuntimeException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Evaluation {
+
+        boolean evaluate() throws JsonLogicEvaluationException;
+    }
 }
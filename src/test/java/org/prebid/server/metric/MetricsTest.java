@@ -409,6 +409,24 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("request_time").getCount()).isOne();
     }
 
+    @Test
+    public void updateBidderParamsValidationTimeShouldUpdateMetric() {
+        // when
+        metrics.updateBidderParamsValidationTime(1500L);
+
+        // then
+        assertThat(metricRegistry.timer("bidder_params_validation_time").getCount()).isOne();
+    }
+
+    @Test
+    public void updateAdapterMakeHttpRequestsTimeShouldUpdateMetric() {
+        // when
+        metrics.updateAdapterMakeHttpRequestsTime(RUBICON, 1500L);
+
+        // then
+        assertThat(metricRegistry.timer("adapter.rubicon.make_http_requests_time").getCount()).isOne();
+    }
+
     @Test
     public void updateRequestTypeMetricShouldIncrementMetric() {
         // when
@@ -937,6 +955,24 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.tcf.missing").getCount()).isOne();
     }
 
+    @Test
+    public void updatePrivacyConsentCacheMetricShouldIncrementMetric() {
+        // when
+        metrics.updatePrivacyConsentCacheMetric(MetricName.gpp, MetricName.hit);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.consent-cache.gpp.hit").getCount()).isOne();
+    }
+
+    @Test
+    public void updatePrivacyConsentDecodeTimeShouldUpdateHistogram() {
+        // when
+        metrics.updatePrivacyConsentDecodeTime(MetricName.tcf, 150L);
+
+        // then
+        assertThat(metricRegistry.histogram("privacy.consent-cache.tcf.decode_time").getCount()).isOne();
+    }
+
     @Test
     public void updatePrivacyTcfInvalidMetricShouldIncrementMetric() {
         // when
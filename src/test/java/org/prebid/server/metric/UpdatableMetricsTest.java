@@ -13,6 +13,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +58,35 @@ public class UpdatableMetricsTest {
         verify(nameCreator).apply(eq(MetricName.requests));
     }
 
+    @Test
+    public void incCounterShouldResolveCounterFromRegistryOnlyOnceOnSuccessiveCalls() {
+        // given
+        final MetricRegistry registry = spy(new MetricRegistry());
+        updatableMetrics = new UpdatableMetrics(registry, CounterType.counter, MetricName::toString);
+
+        // when
+        updatableMetrics.incCounter(MetricName.requests, 5);
+        updatableMetrics.incCounter(MetricName.requests, 6);
+
+        // then
+        verify(registry).counter(eq("requests"));
+        assertThat(registry.counter("requests").getCount()).isEqualTo(11);
+    }
+
+    @Test
+    public void incCounterShouldRegisterCounterAgainAfterMetricRemoval() {
+        // given
+        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter, MetricName::toString);
+        updatableMetrics.incCounter(MetricName.requests, 5);
+
+        // when
+        updatableMetrics.removeMetric(MetricName.requests);
+        updatableMetrics.incCounter(MetricName.requests, 6);
+
+        // then
+        assertThat(metricRegistry.counter("requests").getCount()).isEqualTo(6);
+    }
+
     @Test
     public void incCounterShouldIncrementByOne() {
         // given
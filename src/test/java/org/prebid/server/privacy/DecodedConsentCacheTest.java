@@ -0,0 +1,91 @@
+package org.prebid.server.privacy;
+
+import com.iab.gpp.encoder.GppModel;
+import com.iab.gpp.encoder.section.UspV1;
+import com.iabtcf.decoder.TCString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class DecodedConsentCacheTest {
+
+    private static final String TCF_CONSENT = "CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA";
+    private static final String GPP_CONSENT = "DBABTA~1YNN";
+
+    @Mock
+    private Metrics metrics;
+
+    private DecodedConsentCache target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new DecodedConsentCache(1024L, metrics);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new DecodedConsentCache(0L, metrics))
+                .withMessage("Consent cache size must be positive");
+    }
+
+    @Test
+    public void decodeTcfShouldReturnCachedTcStringOnSubsequentCalls() {
+        // when
+        final TCString first = target.decodeTcf(TCF_CONSENT);
+        final TCString second = target.decodeTcf(TCF_CONSENT);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getCmpId()).isEqualTo(TCString.decode(TCF_CONSENT).getCmpId());
+        verify(metrics).updatePrivacyConsentCacheMetric(MetricName.tcf, MetricName.miss);
+        verify(metrics).updatePrivacyConsentCacheMetric(MetricName.tcf, MetricName.hit);
+        verify(metrics).updatePrivacyConsentDecodeTime(eq(MetricName.tcf), anyLong());
+    }
+
+    @Test
+    public void decodeTcfShouldNotCacheInvalidConsent() {
+        // when and then
+        assertThatThrownBy(() -> target.decodeTcf("invalid")).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> target.decodeTcf("invalid")).isInstanceOf(RuntimeException.class);
+
+        verify(metrics, times(2)).updatePrivacyConsentCacheMetric(MetricName.tcf, MetricName.miss);
+    }
+
+    @Test
+    public void decodeGppShouldReturnCachedModelOnSubsequentCalls() {
+        // when
+        final GppModel first = target.decodeGpp(GPP_CONSENT);
+        final GppModel second = target.decodeGpp(GPP_CONSENT);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getSectionIds()).containsExactly(UspV1.ID);
+        verify(metrics).updatePrivacyConsentCacheMetric(MetricName.gpp, MetricName.miss);
+        verify(metrics).updatePrivacyConsentCacheMetric(MetricName.gpp, MetricName.hit);
+        verify(metrics).updatePrivacyConsentDecodeTime(eq(MetricName.gpp), anyLong());
+    }
+
+    @Test
+    public void decodeGppShouldReturnFullyDecodedModel() {
+        // when
+        final GppModel result = target.decodeGpp(GPP_CONSENT);
+
+        // then
+        assertThat(result.getUspV1Section().getNotice()).isEqualTo('Y');
+        assertThat(result.getUspV1Section().getOptOutSale()).isEqualTo('N');
+    }
+}
@@ -15,6 +15,7 @@ import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.DecodedConsentCache;
 import org.prebid.server.privacy.gdpr.model.PrivacyEnforcementAction;
 import org.prebid.server.privacy.gdpr.model.TCStringEmpty;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
@@ -85,6 +86,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new DecodedConsentCache(1024L, metrics),
                 metrics,
                 0.01);
     }
@@ -100,6 +102,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new DecodedConsentCache(1024L, metrics),
                 metrics,
                 0.01);
 
@@ -179,6 +182,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new DecodedConsentCache(1024L, metrics),
                 metrics,
                 0.01);
 
@@ -212,6 +216,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new DecodedConsentCache(1024L, metrics),
                 metrics,
                 0.01);
 
@@ -245,6 +250,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new DecodedConsentCache(1024L, metrics),
                 metrics,
                 0.01);
 
@@ -289,6 +295,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new DecodedConsentCache(1024L, metrics),
                 metrics,
                 0.01);
 
@@ -331,6 +338,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new DecodedConsentCache(1024L, metrics),
                 metrics,
                 0.01);
 
@@ -451,6 +459,7 @@ public class TcfDefinerServiceTest {
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
+                new DecodedConsentCache(1024L, metrics),
                 metrics,
                 0.01);
 
@@ -0,0 +1,63 @@
+package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.utils.BitSetIntIterable;
+import com.iabtcf.v2.PublisherRestriction;
+import com.iabtcf.v2.RestrictionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class PublisherRestrictionsTest {
+
+    @Mock
+    private TCString tcString;
+
+    @Test
+    public void restrictionForShouldReturnFirstRestrictionOfVendorUnlessItIsNotAllowed() {
+        // given
+        given(tcString.getPublisherRestrictions()).willReturn(asList(
+                new PublisherRestriction(
+                        PurposeCode.TWO.code(), RestrictionType.REQUIRE_CONSENT, BitSetIntIterable.from(1, 2, 3)),
+                new PublisherRestriction(
+                        PurposeCode.TWO.code(), RestrictionType.REQUIRE_LEGITIMATE_INTEREST,
+                        BitSetIntIterable.from(2, 4)),
+                new PublisherRestriction(
+                        PurposeCode.TWO.code(), RestrictionType.NOT_ALLOWED, BitSetIntIterable.from(3))));
+
+        // when
+        final PublisherRestrictions result = PublisherRestrictions.of(tcString);
+
+        // then
+        assertThat(result.restrictionFor(PurposeCode.TWO, 1)).isEqualTo(RestrictionType.REQUIRE_CONSENT);
+        assertThat(result.restrictionFor(PurposeCode.TWO, 2)).isEqualTo(RestrictionType.REQUIRE_CONSENT);
+        assertThat(result.restrictionFor(PurposeCode.TWO, 3)).isEqualTo(RestrictionType.NOT_ALLOWED);
+        assertThat(result.restrictionFor(PurposeCode.TWO, 4)).isEqualTo(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
+    }
+
+    @Test
+    public void restrictionForShouldReturnUndefinedForVendorOrPurposeWithoutRestrictions() {
+        // given
+        given(tcString.getPublisherRestrictions()).willReturn(asList(
+                new PublisherRestriction(
+                        PurposeCode.TWO.code(), RestrictionType.UNDEFINED, BitSetIntIterable.from(1)),
+                new PublisherRestriction(
+                        PurposeCode.TWO.code(), RestrictionType.REQUIRE_CONSENT, BitSetIntIterable.from(1, 2))));
+
+        // when
+        final PublisherRestrictions result = PublisherRestrictions.of(tcString);
+
+        // then
+        assertThat(result.restrictionFor(PurposeCode.TWO, 1)).isEqualTo(RestrictionType.UNDEFINED);
+        assertThat(result.restrictionFor(PurposeCode.TWO, 5)).isEqualTo(RestrictionType.UNDEFINED);
+        assertThat(result.restrictionFor(PurposeCode.TWO, null)).isEqualTo(RestrictionType.UNDEFINED);
+        assertThat(result.restrictionFor(PurposeCode.THREE, 2)).isEqualTo(RestrictionType.UNDEFINED);
+    }
+}
@@ -1,6 +1,7 @@
 package org.prebid.server.settings;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +37,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -48,6 +50,9 @@ public class CachingApplicationSettingsTest {
     @Mock
     private Metrics metrics;
 
+    @Mock
+    private Clock clock;
+
     private CachingApplicationSettings target;
 
     private Timeout timeout;
@@ -56,16 +61,7 @@ public class CachingApplicationSettingsTest {
     public void setUp() {
         timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
 
-        target = new CachingApplicationSettings(
-                delegateSettings,
-                new SettingsCache<>(360, 100, 0),
-                new SettingsCache<>(360, 100, 0),
-                new SettingsCache<>(360, 100, 0),
-                new SettingsCache<>(360, 100, 0),
-                metrics,
-                360,
-                100,
-                0);
+        target = givenTarget(0, 100);
     }
 
     @Test
@@ -132,6 +128,49 @@ public class CachingApplicationSettingsTest {
         verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
     }
 
+    @Test
+    public void getAccountByIdShouldNotRefreshAccountWhenRefreshAheadIsDisabledAndClockIsRealistic() {
+        // given
+        given(clock.millis()).willReturn(Instant.parse("2024-01-01T00:00:00Z").toEpochMilli());
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.succeededFuture(Account.empty("accountId")));
+
+        // when
+        target.getAccountById("accountId", timeout);
+        final Future<Account> future = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(future.result()).isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics, never()).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.stale));
+        verify(metrics, never()).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.refresh_ahead));
+    }
+
+    @Test
+    public void getAccountByIdShouldNotCacheAccountLoadedBeforeInvalidation() {
+        // given
+        final Promise<Account> outdatedAccountPromise = Promise.promise();
+        final Promise<Account> actualAccountPromise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(outdatedAccountPromise.future())
+                .willReturn(actualAccountPromise.future());
+
+        final Account actualAccount = Account.builder().id("accountId").build();
+
+        // when
+        target.getAccountById("accountId", timeout);
+        target.invalidateAccountCache("accountId");
+        target.getAccountById("accountId", timeout);
+        actualAccountPromise.complete(actualAccount);
+        outdatedAccountPromise.complete(Account.empty("accountId"));
+        final Future<Account> future = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(future.result()).isSameAs(actualAccount);
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics, never()).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.coalesced));
+    }
+
     @Test
     public void getAccountByIdShouldReturnResultFromSeparateCallWhenCacheWasInvalidatedForAllAccounts() {
         // given
@@ -274,6 +313,71 @@ public class CachingApplicationSettingsTest {
         verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.hit));
     }
 
+    @Test
+    public void getAccountByIdShouldCoalesceConcurrentMissesIntoSingleDelegateCall() {
+        // given
+        final Promise<Account> accountPromise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(accountPromise.future());
+
+        // when
+        final Future<Account> firstFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = target.getAccountById("accountId", timeout);
+        accountPromise.complete(Account.empty("accountId"));
+
+        // then
+        assertThat(firstFuture.result()).isEqualTo(Account.empty("accountId"));
+        assertThat(secondFuture.result()).isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getAccountByIdShouldServeStaleAccountAndRefreshItAheadOfExpiry() {
+        // given
+        target = givenTarget(60, 100);
+
+        final Account refreshedAccount = Account.builder().id("accountId").build();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.succeededFuture(Account.empty("accountId")))
+                .willReturn(Future.succeededFuture(refreshedAccount));
+        given(clock.millis()).willReturn(0L, 300_000L);
+
+        // when
+        target.getAccountById("accountId", timeout);
+        final Future<Account> staleFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> refreshedFuture = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(staleFuture.result()).isEqualTo(Account.empty("accountId"));
+        assertThat(refreshedFuture.result()).isSameAs(refreshedAccount);
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.stale));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.refresh_ahead));
+    }
+
+    @Test
+    public void getAccountByIdShouldNotRefreshAheadWhenTooManyLoadsInFlight() {
+        // given
+        target = givenTarget(60, 1);
+
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.succeededFuture(Account.empty("accountId")));
+        given(delegateSettings.getAccountById(eq("anotherAccountId"), same(timeout)))
+                .willReturn(Promise.<Account>promise().future());
+        given(clock.millis()).willReturn(0L, 300_000L);
+
+        // when
+        target.getAccountById("accountId", timeout);
+        target.getAccountById("anotherAccountId", timeout);
+        final Future<Account> staleFuture = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(staleFuture.result()).isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics, never()).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.refresh_ahead));
+    }
+
     @Test
     public void getCategoriesShouldReturnResultFromCacheOnSuccessiveCalls() {
         // given
@@ -430,6 +534,27 @@ public class CachingApplicationSettingsTest {
         verifyNoMoreInteractions(delegateSettings);
     }
 
+    @Test
+    public void getStoredDataShouldCoalesceConcurrentMissesIntoSingleDelegateCall() {
+        // given
+        final Promise<StoredDataResult<String>> storedDataPromise = Promise.promise();
+        given(delegateSettings.getStoredData(any(), any(), any(), any()))
+                .willReturn(storedDataPromise.future());
+
+        // when
+        final Future<StoredDataResult<String>> firstFuture =
+                target.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        final Future<StoredDataResult<String>> secondFuture =
+                target.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        storedDataPromise.complete(StoredDataResult.of(singletonMap("reqid", "json"), emptyMap(), emptyList()));
+
+        // then
+        assertThat(firstFuture.result()).isEqualTo(secondFuture.result());
+        verify(delegateSettings)
+                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(emptySet()), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.stored_request), eq(MetricName.coalesced));
+    }
+
     @Test
     public void getStoredResponseShouldPropagateFailure() {
         // given
@@ -446,4 +571,20 @@ public class CachingApplicationSettingsTest {
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("error");
     }
+
+    private CachingApplicationSettings givenTarget(int refreshAhead, int refreshAheadMaxInFlightLoads) {
+        return new CachingApplicationSettings(
+                delegateSettings,
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                metrics,
+                360,
+                100,
+                0,
+                refreshAhead,
+                refreshAheadMaxInFlightLoads,
+                clock);
+    }
 }
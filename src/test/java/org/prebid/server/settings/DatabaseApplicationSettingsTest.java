@@ -2,15 +2,23 @@ package org.prebid.server.settings;
 
 import com.fasterxml.jackson.databind.node.TextNode;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import lombok.Value;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.settings.helper.IdsBatcher;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.Profile;
@@ -22,16 +30,23 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+import static org.mockito.quality.Strictness.LENIENT;
 
 @ExtendWith(MockitoExtension.class)
 
@@ -66,6 +81,12 @@ public class DatabaseApplicationSettingsTest extends VertxTest {
     @Mock
     private DatabaseClient databaseClient;
 
+    @Mock
+    private Vertx vertx;
+
+    @Mock
+    private RowSet<Row> rowSet;
+
     private DatabaseApplicationSettings target;
 
     private Timeout timeout;
@@ -82,7 +103,8 @@ public class DatabaseApplicationSettingsTest extends VertxTest {
                 SELECT_QUERY,
                 SELECT_QUERY,
                 SELECT_PROFILES_QUERY,
-                SELECT_RESPONSE_QUERY);
+                SELECT_RESPONSE_QUERY,
+                null);
     }
 
     @Test
@@ -298,6 +320,48 @@ public class DatabaseApplicationSettingsTest extends VertxTest {
         assertThat(future.result()).isEqualTo(givenProfilesResult);
     }
 
+    @Test
+    public void getStoredDataShouldFetchConcurrentlyRequestedIdsBySingleQueryAndReturnEachCallerItsOwnData() {
+        // given
+        target = new DatabaseApplicationSettings(
+                databaseClient,
+                jacksonMapper,
+                parametrizedQueryHelper,
+                SELECT_ACCOUNT_QUERY,
+                SELECT_QUERY,
+                SELECT_QUERY,
+                SELECT_PROFILES_QUERY,
+                SELECT_RESPONSE_QUERY,
+                new IdsBatcher.Factory(vertx, 2L, 10));
+
+        given(parametrizedQueryHelper.replaceRequestAndImpIdPlaceholders(SELECT_QUERY, 3, 1))
+                .willReturn("query");
+        given(databaseClient.<RowSet<Row>>executeQuery(eq("query"), any(), any(), eq(timeout)))
+                .willReturn(Future.succeededFuture(rowSet));
+        givenRowSet(
+                givenRow("1001", "1", "value1", "request"),
+                givenRow("1001", "2", "value2", "request"),
+                givenRow("1001", "4", "value4", "imp"));
+
+        // when
+        final Future<StoredDataResult<String>> firstFuture =
+                target.getStoredData("1001", Set.of("1"), Set.of("4"), timeout);
+        final Future<StoredDataResult<String>> secondFuture =
+                target.getStoredData("1001", new HashSet<>(asList("2", "3")), emptySet(), timeout);
+        lastTimerHandler().handle(1L);
+
+        // then
+        verify(databaseClient).executeQuery(eq("query"), eq(List.of("1", "2", "3", "4")), any(), eq(timeout));
+        assertThat(firstFuture.result()).isEqualTo(StoredDataResult.of(
+                Map.of("1", "value1"),
+                Map.of("4", "value4"),
+                emptyList()));
+        assertThat(secondFuture.result()).isEqualTo(StoredDataResult.of(
+                Map.of("2", "value2"),
+                Map.of(),
+                List.of("No stored request found for id: 3")));
+    }
+
     @Test
     public void getStoredResponseShouldReturnExpectedResult() {
         // given
@@ -330,10 +394,45 @@ public class DatabaseApplicationSettingsTest extends VertxTest {
                 .hasMessage("Not supported");
     }
 
+    private void givenRowSet(Row... rows) {
+        // each caller maps the shared row set on its own
+        given(rowSet.iterator()).willAnswer(invocation -> CustomRowIterator.of(asList(rows).iterator()));
+    }
+
+    private static Row givenRow(Object... values) {
+        final Row row = mock(Row.class, withSettings().strictness(LENIENT));
+        given(row.getValue(anyInt())).willAnswer(invocation -> values[(Integer) invocation.getArgument(0)]);
+        given(row.size()).willReturn(values.length);
+        return row;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<Long> lastTimerHandler() {
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(2L), timerHandlerCaptor.capture());
+        return timerHandlerCaptor.getValue();
+    }
+
     private static Profile givenProfile(String value) {
         return Profile.of(
                 Profile.Type.REQUEST,
                 Profile.MergePrecedence.PROFILE,
                 TextNode.valueOf(value));
     }
+
+    @Value(staticConstructor = "of")
+    private static class CustomRowIterator implements RowIterator<Row> {
+
+        Iterator<Row> delegate;
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Row next() {
+            return delegate.next();
+        }
+    }
 }
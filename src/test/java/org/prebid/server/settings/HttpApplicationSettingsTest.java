@@ -2,6 +2,8 @@ package org.prebid.server.settings;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.utils.URIBuilder;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,7 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.settings.helper.IdsBatcher;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.settings.model.AccountPrivacyConfig;
@@ -60,6 +63,8 @@ public class HttpApplicationSettingsTest extends VertxTest {
 
     @Mock(strictness = LENIENT)
     private HttpClient httpClient;
+    @Mock
+    private Vertx vertx;
 
     private HttpApplicationSettings httpApplicationSettings;
 
@@ -75,7 +80,8 @@ public class HttpApplicationSettingsTest extends VertxTest {
                 VIDEO_ENDPOINT,
                 CATEGORY_ENDPOINT,
                 httpClient,
-                jacksonMapper);
+                jacksonMapper,
+                null);
 
         final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
         final TimeoutFactory timeoutFactory = new TimeoutFactory(clock);
@@ -93,7 +99,8 @@ public class HttpApplicationSettingsTest extends VertxTest {
                         VIDEO_ENDPOINT,
                         CATEGORY_ENDPOINT,
                         httpClient,
-                        jacksonMapper))
+                        jacksonMapper,
+                        null))
                 .withMessage("URL supplied is not valid: invalid_url");
     }
 
@@ -107,7 +114,8 @@ public class HttpApplicationSettingsTest extends VertxTest {
                         VIDEO_ENDPOINT,
                         CATEGORY_ENDPOINT,
                         httpClient,
-                        jacksonMapper))
+                        jacksonMapper,
+                        null))
                 .withMessage("URL supplied is not valid: invalid_url");
     }
 
@@ -121,7 +129,8 @@ public class HttpApplicationSettingsTest extends VertxTest {
                         "invalid_url",
                         CATEGORY_ENDPOINT,
                         httpClient,
-                        jacksonMapper))
+                        jacksonMapper,
+                        null))
                 .withMessage("URL supplied is not valid: invalid_url");
     }
 
@@ -152,6 +161,44 @@ public class HttpApplicationSettingsTest extends VertxTest {
                 anyLong());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getAccountByIdShouldFetchAccountsRequestedWithinBatchWindowBySingleCall()
+            throws JsonProcessingException {
+
+        // given
+        httpApplicationSettings = new HttpApplicationSettings(
+                false,
+                ENDPOINT,
+                AMP_ENDPOINT,
+                VIDEO_ENDPOINT,
+                CATEGORY_ENDPOINT,
+                httpClient,
+                jacksonMapper,
+                new IdsBatcher.Factory(vertx, 2L, 100));
+
+        final HttpAccountsResponse response = HttpAccountsResponse.of(Map.of(
+                "accountId1", Account.empty("accountId1"),
+                "accountId2", Account.empty("accountId2")));
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(response));
+
+        // when
+        final Future<Account> firstFuture = httpApplicationSettings.getAccountById("accountId1", timeout);
+        final Future<Account> secondFuture = httpApplicationSettings.getAccountById("accountId2", timeout);
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(2L), timerHandlerCaptor.capture());
+        timerHandlerCaptor.getValue().handle(1L);
+
+        // then
+        assertThat(firstFuture.result()).isEqualTo(Account.empty("accountId1"));
+        assertThat(secondFuture.result()).isEqualTo(Account.empty("accountId2"));
+
+        final ArgumentCaptor<String> urlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpClient).get(urlCaptor.capture(), any(), anyLong());
+        assertThat(urlCaptor.getValue()).contains("accountId1", "accountId2");
+    }
+
     @Test
     public void getAccountByIdShouldReturnFetchedAccountWithRfc3986CompatibleParams() throws JsonProcessingException {
         // given
@@ -163,7 +210,8 @@ public class HttpApplicationSettingsTest extends VertxTest {
                 VIDEO_ENDPOINT,
                 CATEGORY_ENDPOINT,
                 httpClient,
-                jacksonMapper);
+                jacksonMapper,
+                null);
 
         final Account account = Account.builder()
                 .id("someId")
@@ -319,7 +367,8 @@ public class HttpApplicationSettingsTest extends VertxTest {
                 VIDEO_ENDPOINT,
                 CATEGORY_ENDPOINT,
                 httpClient,
-                jacksonMapper);
+                jacksonMapper,
+                null);
 
         // when
         httpApplicationSettings.getStoredData(null, singleton("id1"), singleton("id2"), timeout);
@@ -341,7 +390,8 @@ public class HttpApplicationSettingsTest extends VertxTest {
                 VIDEO_ENDPOINT,
                 CATEGORY_ENDPOINT,
                 httpClient,
-                jacksonMapper);
+                jacksonMapper,
+                null);
 
         // when
         httpApplicationSettings.getStoredData(null, Set.of("id1", "id2"), Set.of("id1", "id2"), timeout);
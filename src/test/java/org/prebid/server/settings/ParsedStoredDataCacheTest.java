@@ -0,0 +1,72 @@
+package org.prebid.server.settings;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ParsedStoredDataCacheTest extends VertxTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private ParsedStoredDataCache target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new ParsedStoredDataCache(10, 10, jacksonMapper, metrics, Clock.systemUTC());
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ParsedStoredDataCache(10, 0, jacksonMapper, metrics, Clock.systemUTC()));
+    }
+
+    @Test
+    public void parseShouldReturnParsedTree() throws JsonProcessingException {
+        // when
+        final JsonNode result = target.parse("{\"id\":\"storedId\"}");
+
+        // then
+        assertThat(result).isEqualTo(mapper.createObjectNode().put("id", "storedId"));
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.parsed_stored_data, MetricName.miss);
+        verify(metrics).updateSettingsCacheParseTime(eq(MetricName.parsed_stored_data), anyLong());
+    }
+
+    @Test
+    public void parseShouldReturnSameTreeForSameStoredData() throws JsonProcessingException {
+        // given
+        final JsonNode first = target.parse("{\"id\":\"storedId\"}");
+
+        // when
+        final JsonNode second = target.parse("{\"id\":\"storedId\"}");
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.parsed_stored_data, MetricName.hit);
+        verify(metrics, times(1)).updateSettingsCacheParseTime(eq(MetricName.parsed_stored_data), anyLong());
+    }
+
+    @Test
+    public void parseShouldFailOnInvalidJson() {
+        assertThatThrownBy(() -> target.parse("{invalid")).isInstanceOf(JsonProcessingException.class);
+    }
+}
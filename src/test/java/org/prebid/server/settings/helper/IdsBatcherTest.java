@@ -0,0 +1,138 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class IdsBatcherTest {
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private IdsBatcher.Fetcher<String> fetcher;
+
+    private TimeoutFactory timeoutFactory;
+
+    @BeforeEach
+    public void setUp() {
+        timeoutFactory = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault()));
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveWindow() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new IdsBatcher<>(vertx, 0L, 10, fetcher))
+                .withMessage("Batch window and max batch size must be positive");
+    }
+
+    @Test
+    public void fetchShouldFetchIdsRequestedWithinWindowBySingleCallWithLongestTimeout() {
+        // given
+        final IdsBatcher<String> target = new IdsBatcher<>(vertx, 2L, 10, fetcher);
+        final Timeout longestTimeout = timeoutFactory.create(500L);
+        given(fetcher.fetch(any(), any(), any())).willReturn(Future.succeededFuture("result"));
+
+        // when
+        final Future<String> firstResult = target.fetch(Set.of("req1"), Set.of("imp1"), timeoutFactory.create(100L));
+        final Future<String> secondResult = target.fetch(Set.of("req2"), emptySet(), longestTimeout);
+        lastTimerHandler().handle(1L);
+
+        // then
+        verify(fetcher).fetch(eq(Set.of("req1", "req2")), eq(Set.of("imp1")), same(longestTimeout));
+        assertThat(firstResult.result()).isEqualTo("result");
+        assertThat(secondResult.result()).isEqualTo("result");
+    }
+
+    @Test
+    public void fetchShouldFetchBatchWithoutWaitingForWindowWhenMaxBatchSizeIsReached() {
+        // given
+        final IdsBatcher<String> target = new IdsBatcher<>(vertx, 2L, 2, fetcher);
+        given(vertx.setTimer(anyLong(), any())).willReturn(1L);
+        given(fetcher.fetch(any(), any(), any())).willReturn(Future.succeededFuture("result"));
+
+        // when
+        target.fetch(Set.of("req1"), emptySet(), timeoutFactory.create(500L));
+        final Future<String> result = target.fetch(Set.of("req2"), emptySet(), timeoutFactory.create(500L));
+
+        // then
+        verify(vertx).cancelTimer(1L);
+        verify(fetcher).fetch(eq(Set.of("req1", "req2")), eq(emptySet()), any());
+        assertThat(result.result()).isEqualTo("result");
+    }
+
+    @Test
+    public void fetchShouldNotFetchBatchAgainWhenWindowIsOverAfterItWasSent() {
+        // given
+        final IdsBatcher<String> target = new IdsBatcher<>(vertx, 2L, 1, fetcher);
+        given(fetcher.fetch(any(), any(), any())).willReturn(Future.succeededFuture("result"));
+
+        // when
+        target.fetch(Set.of("req1"), emptySet(), timeoutFactory.create(500L));
+        lastTimerHandler().handle(1L);
+
+        // then
+        verify(fetcher).fetch(any(), any(), any());
+    }
+
+    @Test
+    public void fetchShouldFailAllCallersWhenFetcherThrowsException() {
+        // given
+        final IdsBatcher<String> target = new IdsBatcher<>(vertx, 2L, 10, fetcher);
+        given(fetcher.fetch(any(), any(), any())).willThrow(new PreBidException("URL has bad syntax"));
+
+        // when
+        final Future<String> firstResult = target.fetch(Set.of("req1"), emptySet(), timeoutFactory.create(500L));
+        final Future<String> secondResult = target.fetch(Set.of("req2"), emptySet(), timeoutFactory.create(500L));
+        lastTimerHandler().handle(1L);
+
+        // then
+        assertThat(firstResult.cause()).hasMessage("URL has bad syntax");
+        assertThat(secondResult.cause()).hasMessage("URL has bad syntax");
+    }
+
+    @Test
+    public void fetchShouldNotFetchAnythingUntilWindowIsOver() {
+        // given
+        final IdsBatcher<String> target = new IdsBatcher<>(vertx, 2L, 10, fetcher);
+
+        // when
+        final Future<String> result = target.fetch(Set.of("req1"), emptySet(), timeoutFactory.create(500L));
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+        verifyNoInteractions(fetcher);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<Long> lastTimerHandler() {
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(2L), timerHandlerCaptor.capture());
+        return timerHandlerCaptor.getValue();
+    }
+}
@@ -128,6 +128,23 @@ public class HttpUtilTest {
         assertThat(host).isNull();
     }
 
+    @Test
+    public void originShouldReturnSchemeAndAuthority() {
+        // when and then
+        assertThat(HttpUtil.origin("https://www.domain.com:8080/ad?param=value"))
+                .isEqualTo("https://www.domain.com:8080");
+        assertThat(HttpUtil.origin("http://www.domain.com?param=value")).isEqualTo("http://www.domain.com");
+        assertThat(HttpUtil.origin("http://www.domain.com#fragment")).isEqualTo("http://www.domain.com");
+        assertThat(HttpUtil.origin("http://www.domain.com")).isEqualTo("http://www.domain.com");
+    }
+
+    @Test
+    public void originShouldReturnNullIfUrlHasNoScheme() {
+        // when and then
+        assertThat(HttpUtil.origin("www.domain.com/ad")).isNull();
+        assertThat(HttpUtil.origin(null)).isNull();
+    }
+
     @Test
     public void cookiesAsMapShouldReturnExpectedResult() {
         // given
@@ -0,0 +1,105 @@
+package org.prebid.server.util.dsl.config.impl;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.util.IterableUtil;
+import org.prebid.server.util.dsl.config.PrebidConfigParameter;
+import org.prebid.server.util.dsl.config.PrebidConfigSchema;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MostAccurateCombinationIndexTest {
+
+    private static final PrebidConfigSchema SCHEMA = SimpleSource.of("*", "|", null);
+
+    @Test
+    public void matchShouldPickRulesInSamePriorityAsMostAccurateCombinationStrategy() {
+        // given
+        final List<PrebidConfigParameter> parameters = asList(
+                SimpleDirectParameter.of(asList("1", "11")),
+                PrebidConfigParameter.wildcard(),
+                SimpleDirectParameter.of(singleton("2")),
+                SimpleDirectParameter.of(asList("3", "33", "333")));
+
+        final List<String> rulesByPriority = new ArrayList<>();
+        IterableUtil.iterable(new MostAccurateCombinationStrategy.RuleIterator(SCHEMA, parameters))
+                .forEach(rulesByPriority::add);
+
+        final Map<String, Integer> rules = new LinkedHashMap<>();
+        for (int i = rulesByPriority.size() - 1; i >= 0; i--) {
+            rules.put(rulesByPriority.get(i), i);
+        }
+
+        // when and then
+        for (String expectedRule : rulesByPriority) {
+            final MostAccurateCombinationIndex.Match<Integer> match = MostAccurateCombinationIndex.of(SCHEMA, 4, rules)
+                    .match(parameters);
+
+            assertThat(match).isNotNull();
+            assertThat(match.rule()).isEqualTo(expectedRule);
+            assertThat(match.value()).isEqualTo(rules.get(expectedRule));
+
+            rules.remove(expectedRule);
+        }
+    }
+
+    @Test
+    public void matchShouldBeCaseInsensitive() {
+        // given
+        final MostAccurateCombinationIndex<Integer> target = MostAccurateCombinationIndex.of(
+                SCHEMA, 2, Map.of("Banner|AppNexus", 1));
+
+        // when
+        final MostAccurateCombinationIndex.Match<Integer> result = target.match(parameters(
+                SimpleDirectParameter.of("banner"),
+                SimpleDirectParameter.of("APPNEXUS")));
+
+        // then
+        assertThat(result).isEqualTo(new MostAccurateCombinationIndex.Match<>("banner|appnexus", 1));
+    }
+
+    @Test
+    public void matchShouldReturnNullIfParametersNumberDiffersFromFieldsNumber() {
+        // given
+        final MostAccurateCombinationIndex<Integer> target = MostAccurateCombinationIndex.of(
+                SCHEMA, 2, Map.of("*|*", 1));
+
+        // when and then
+        assertThat(target.match(parameters(PrebidConfigParameter.wildcard()))).isNull();
+    }
+
+    @Test
+    public void matchShouldReturnNullIfAnyParameterEmpty() {
+        // given
+        final MostAccurateCombinationIndex<Integer> target = MostAccurateCombinationIndex.of(
+                SCHEMA, 2, Map.of("*|*", 1));
+
+        // when and then
+        assertThat(target.match(parameters(
+                SimpleDirectParameter.of("banner"),
+                SimpleDirectParameter.of(emptyList())))).isNull();
+    }
+
+    @Test
+    public void ofShouldSkipRulesWithUnexpectedFieldsNumber() {
+        // given
+        final MostAccurateCombinationIndex<Integer> target = MostAccurateCombinationIndex.of(
+                SCHEMA, 2, Map.of("banner|*|*", 1, "banner", 2));
+
+        // when and then
+        assertThat(target.match(parameters(
+                SimpleDirectParameter.of("banner"),
+                PrebidConfigParameter.wildcard()))).isNull();
+    }
+
+    private static List<PrebidConfigParameter> parameters(PrebidConfigParameter... parameters) {
+        return asList(parameters);
+    }
+}
@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,6 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.adrino.ExtImpAdrino;
 import org.prebid.server.proto.openrtb.ext.request.adtelligent.ExtImpAdtelligent;
 import org.prebid.server.proto.openrtb.ext.request.appnexus.ExtImpAppnexus;
@@ -31,10 +33,12 @@ import java.util.Set;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class BidderParamValidatorTest extends VertxTest {
@@ -53,6 +57,8 @@ public class BidderParamValidatorTest extends VertxTest {
 
     @Mock(strictness = LENIENT)
     private BidderCatalog bidderCatalog;
+    @Mock
+    private Metrics metrics;
 
     private BidderParamValidator bidderParamValidator;
 
@@ -73,27 +79,64 @@ public class BidderParamValidatorTest extends VertxTest {
         given(bidderCatalog.bidderInfoByName(anyString())).willReturn(givenBidderInfo());
         given(bidderCatalog.bidderInfoByName(eq(APPNEXUS_ALIAS))).willReturn(givenBidderInfo(APPNEXUS));
 
-        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", jacksonMapper);
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 100, metrics, jacksonMapper);
     }
 
     @Test
     public void createShouldFailOnInvalidSchemaPath() {
         assertThatIllegalArgumentException().isThrownBy(
-                () -> BidderParamValidator.create(bidderCatalog, "noschema", jacksonMapper));
+                () -> BidderParamValidator.create(bidderCatalog, "noschema", 100, metrics, jacksonMapper));
     }
 
     @Test
     public void createShouldFailOnEmptySchemaFile() {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> BidderParamValidator.create(
-                        bidderCatalog, "org/prebid/server/validation/schema/empty", jacksonMapper));
+                        bidderCatalog, "org/prebid/server/validation/schema/empty", 100, metrics, jacksonMapper));
     }
 
     @Test
     public void createShouldFailOnInvalidSchemaFile() {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> BidderParamValidator.create(
-                        bidderCatalog, "org/prebid/server/validation/schema/invalid", jacksonMapper));
+                        bidderCatalog, "org/prebid/server/validation/schema/invalid", 100, metrics, jacksonMapper));
+    }
+
+    @Test
+    public void validateShouldReturnSameMessagesForStructurallyEqualParams() {
+        // given
+        final JsonNode node = mapper.createObjectNode().put("accountId", "invalid");
+        final Set<String> firstMessages = bidderParamValidator.validate(RUBICON, node);
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node.deepCopy());
+
+        // then
+        assertThat(messages).isNotEmpty().isSameAs(firstMessages);
+    }
+
+    @Test
+    public void validateShouldNotReuseMessagesWhenParamsWereModifiedAfterValidation() {
+        // given
+        final ObjectNode node = mapper.createObjectNode().put("uid", "1a2b3c");
+        bidderParamValidator.validate(VISX, node);
+        node.put("uid", 123);
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(VISX, node);
+
+        // then
+        assertThat(messages).isEmpty();
+    }
+
+    @Test
+    public void validateShouldUpdateValidationTimeMetric() {
+        // when
+        bidderParamValidator.validate(VISX, mapper.createObjectNode().put("uid", 123));
+
+        // then
+        verify(metrics).updateBidderParamsValidationTime(anyLong());
     }
 
     @Test
@@ -348,7 +391,7 @@ public class BidderParamValidatorTest extends VertxTest {
         given(bidderCatalog.names()).willReturn(new HashSet<>(asList("test-rubicon", "test-appnexus")));
 
         bidderParamValidator = BidderParamValidator.create(
-                bidderCatalog, "org/prebid/server/validation/schema/valid", jacksonMapper);
+                bidderCatalog, "org/prebid/server/validation/schema/valid", 100, metrics, jacksonMapper);
 
         // when
         final String result = bidderParamValidator.schemas();
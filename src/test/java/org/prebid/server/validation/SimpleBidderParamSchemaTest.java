@@ -0,0 +1,141 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SimpleBidderParamSchemaTest extends VertxTest {
+
+    private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
+
+    @Test
+    public void fromShouldReturnNullForSchemaWithUnsupportedKeywords() throws IOException {
+        // given
+        final JsonNode schema = mapper.readTree("""
+                {"type": "object", "properties": {"id": {"type": "string", "pattern": "^\\\\d+$"}}}""");
+
+        // when and then
+        assertThat(SimpleBidderParamSchema.from(schema)).isNull();
+    }
+
+    @Test
+    public void isValidShouldCheckRequiredPropertiesTypesAndConstraints() throws IOException {
+        // given
+        final SimpleBidderParamSchema target = SimpleBidderParamSchema.from(mapper.readTree("""
+                {
+                  "type": "object",
+                  "properties": {
+                    "id": {"type": "string", "minLength": 2},
+                    "size": {"type": ["integer", "string"], "minimum": 1},
+                    "mode": {"type": "string", "enum": ["a", "b"]}
+                  },
+                  "required": ["id"],
+                  "oneOf": [{"required": ["size"]}, {"required": ["mode"]}]
+                }"""));
+
+        // when and then
+        assertThat(target.isValid(params("{\"id\": \"ab\", \"size\": 1}"))).isTrue();
+        assertThat(target.isValid(params("{\"id\": \"ab\", \"size\": \"0\", \"extra\": true}"))).isTrue();
+        assertThat(target.isValid(params("{\"id\": \"ab\", \"mode\": \"b\"}"))).isTrue();
+        assertThat(target.isValid(params("{\"id\": \"ab\", \"size\": 0}"))).isFalse();
+        assertThat(target.isValid(params("{\"id\": \"a\", \"size\": 1}"))).isFalse();
+        assertThat(target.isValid(params("{\"id\": 1, \"size\": 1}"))).isFalse();
+        assertThat(target.isValid(params("{\"id\": \"ab\", \"mode\": \"c\"}"))).isFalse();
+        assertThat(target.isValid(params("{\"id\": \"ab\", \"size\": 1, \"mode\": \"a\"}"))).isFalse();
+        assertThat(target.isValid(params("{\"size\": 1}"))).isFalse();
+    }
+
+    @Test
+    public void isValidShouldNotConfirmParamsRejectedByJsonSchemaOfAnyBidder() throws IOException, URISyntaxException {
+        // given
+        final List<JsonNode> schemas = bidderSchemas();
+        final Random random = new Random(42);
+        int confirmedParams = 0;
+
+        for (JsonNode schema : schemas) {
+            final SimpleBidderParamSchema target = SimpleBidderParamSchema.from(schema);
+            if (target == null) {
+                continue;
+            }
+
+            final JsonSchema jsonSchema = SCHEMA_FACTORY.getSchema(schema);
+            for (int i = 0; i < 100; i++) {
+                final JsonNode params = randomParams(schema, random);
+
+                // when
+                final boolean result = target.isValid(params);
+
+                // then
+                if (result) {
+                    confirmedParams++;
+                    assertThat(jsonSchema.validate(params))
+                            .describedAs("Params %s for schema %s", params, schema.get("title"))
+                            .isEmpty();
+                }
+            }
+        }
+
+        assertThat(confirmedParams).isPositive();
+    }
+
+    private static JsonNode params(String json) throws IOException {
+        return mapper.readTree(json);
+    }
+
+    private static List<JsonNode> bidderSchemas() throws IOException, URISyntaxException {
+        final Path directory = Path.of(Objects.requireNonNull(
+                SimpleBidderParamSchemaTest.class.getClassLoader().getResource("static/bidder-params")).toURI());
+
+        final List<JsonNode> schemas = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                schemas.add(mapper.readTree(file.toFile()));
+            }
+        }
+        return schemas;
+    }
+
+    private static JsonNode randomParams(JsonNode schema, Random random) {
+        final ObjectNode params = mapper.createObjectNode();
+
+        final Iterator<String> properties = schema.path("properties").fieldNames();
+        while (properties.hasNext()) {
+            final String property = properties.next();
+            if (random.nextInt(4) == 0) {
+                continue;
+            }
+
+            final JsonNode enumValues = schema.path("properties").path(property).path("enum");
+            switch (random.nextInt(enumValues.isArray() ? 10 : 9)) {
+                case 0 -> params.put(property, "");
+                case 1 -> params.put(property, "1");
+                case 2 -> params.put(property, "value\uD83D\uDE00");
+                case 3 -> params.put(property, 0);
+                case 4 -> params.put(property, 123);
+                case 5 -> params.put(property, 1.5);
+                case 6 -> params.put(property, true);
+                case 7 -> params.putNull(property);
+                case 8 -> params.set(property, mapper.createObjectNode());
+                default -> params.set(property, enumValues.get(random.nextInt(enumValues.size())));
+            }
+        }
+        return params;
+    }
+}
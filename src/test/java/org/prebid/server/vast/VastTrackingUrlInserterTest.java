@@ -0,0 +1,137 @@
+package org.prebid.server.vast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VastTrackingUrlInserterTest {
+
+    private static final String URL = "http://tracking-url";
+    private static final String IMPRESSION = "<Impression><![CDATA[http://tracking-url]]></Impression>";
+
+    private static final List<String> FRAGMENTS = List.of(
+            "<", ">", "/", " ", "\t", "\n", "\r", "\u2028", "\u0085", "a", "=\"1\"",
+            "inline", "InLine", "INLINE", "inlinex",
+            "wrapper", "Wrapper", "WRAPPER", "wrapperx",
+            "impression", "Impression", "IMPRESSION", "impressions",
+            "<InLine>", "</InLine>", "<Wrapper>", "</Wrapper>", "<Impression>", "</Impression>",
+            "< inline a=\"1\">", "</ inline\n>", "< / Wrapper >", "</impression x>", "<![CDATA[url]]>");
+
+    @Test
+    public void insertShouldReturnNullIfXmlContainsNeitherInLineNorWrapper() {
+        // when and then
+        assertThat(VastTrackingUrlInserter.insert("<VAST><Ad></Ad></VAST>", URL)).isNull();
+        assertThat(VastTrackingUrlInserter.insert("<VAST><Inline\n\n></Inline></VAST>", URL)).isNull();
+    }
+
+    @Test
+    public void insertShouldInsertAfterLastImpressionOfInLineEvenIfWrapperComesFirst() {
+        // when
+        final String result = VastTrackingUrlInserter.insert(
+                "<Wrapper></Wrapper><InLine><Impression>1</Impression><impression>2</ impression ></InLine>", URL);
+
+        // then
+        assertThat(result).isEqualTo("<Wrapper></Wrapper><InLine><Impression>1</Impression><impression>2"
+                + "</ impression >" + IMPRESSION + "</InLine>");
+    }
+
+    @Test
+    public void insertShouldInsertBeforeCloseTagIfThereAreNoImpressions() {
+        // when
+        final String result = VastTrackingUrlInserter.insert("<wrapper a=\"1\"><Creatives/></WRAPPER>", URL);
+
+        // then
+        assertThat(result).isEqualTo("<wrapper a=\"1\"><Creatives/>" + IMPRESSION + "</WRAPPER>");
+    }
+
+    @Test
+    public void insertShouldReturnSameXmlIfThereIsNoPlaceToInsert() {
+        // given
+        final String xml = "<VAST><InLine><Creatives/></VAST>";
+
+        // when and then
+        assertThat(VastTrackingUrlInserter.insert(xml, URL)).isSameAs(xml);
+    }
+
+    @Test
+    public void insertShouldGiveTheSameResultAsRegularExpressions() {
+        // given
+        final Random random = new Random(42);
+        int modifiedXmls = 0;
+
+        for (int i = 0; i < 20000; i++) {
+            final StringBuilder xml = new StringBuilder();
+            final int fragments = random.nextInt(30);
+            for (int j = 0; j < fragments; j++) {
+                xml.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+            }
+            final String vastXml = xml.toString();
+
+            // when
+            final String result = VastTrackingUrlInserter.insert(vastXml, URL);
+
+            // then
+            assertThat(result).describedAs("VAST XML: %s", vastXml).isEqualTo(RegexInserter.insert(vastXml, URL));
+            if (result != null && !result.equals(vastXml)) {
+                modifiedXmls++;
+            }
+        }
+
+        assertThat(modifiedXmls).isPositive();
+    }
+
+    /**
+     * Regular expressions based implementation the inserter replaced.
+     */
+    private static class RegexInserter {
+
+        private static final Pattern WRAPPER_OPEN_TAG_PATTERN =
+                Pattern.compile("<\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern WRAPPER_CLOSE_TAG_PATTERN =
+                Pattern.compile("<\\s*/\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern INLINE_OPEN_TAG_PATTERN =
+                Pattern.compile("<\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern INLINE_CLOSE_TAG_PATTERN =
+                Pattern.compile("<\\s*/\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern IMPRESSION_CLOSE_TAG_PATTERN =
+                Pattern.compile("<\\s*/\\s*impression(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+
+        static String insert(String vastXml, String url) {
+            final String result = insert(vastXml, url, INLINE_OPEN_TAG_PATTERN, INLINE_CLOSE_TAG_PATTERN);
+            return result != null
+                    ? result
+                    : insert(vastXml, url, WRAPPER_OPEN_TAG_PATTERN, WRAPPER_CLOSE_TAG_PATTERN);
+        }
+
+        private static String insert(String vastXml, String url, Pattern openTagPattern, Pattern closeTagPattern) {
+            final Matcher openTagMatcher = openTagPattern.matcher(vastXml);
+            if (!openTagMatcher.find()) {
+                return null;
+            }
+
+            final Matcher impressionCloseTagMatcher = IMPRESSION_CLOSE_TAG_PATTERN.matcher(vastXml);
+            if (impressionCloseTagMatcher.find(openTagMatcher.end())) {
+                int replacementEnd = impressionCloseTagMatcher.end();
+                while (impressionCloseTagMatcher.find(replacementEnd)) {
+                    replacementEnd = impressionCloseTagMatcher.end();
+                }
+                return insert(vastXml, replacementEnd, url);
+            }
+
+            final Matcher closeTagMatcher = closeTagPattern.matcher(vastXml);
+            return closeTagMatcher.find(openTagMatcher.end())
+                    ? insert(vastXml, closeTagMatcher.start(), url)
+                    : vastXml;
+        }
+
+        private static String insert(String vastXml, int index, String url) {
+            return vastXml.substring(0, index) + "<Impression><![CDATA[" + url + "]]></Impression>"
+                    + vastXml.substring(index);
+        }
+    }
+}
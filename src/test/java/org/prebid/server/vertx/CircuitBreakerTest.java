@@ -15,8 +15,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 @ExtendWith(VertxExtension.class)
@@ -112,6 +122,30 @@ public class CircuitBreakerTest {
         assertThat(future3.result()).isEqualTo("value after half-open");
     }
 
+    @Test
+    public void executeShouldFailsAndOpenCircuitAgainIfCircuitIsHalfOpenedAndOperationTimesOut() {
+        // given
+        circuitBreaker = new CircuitBreaker("name", vertx, 1, 100L, 200L, 100L, clock);
+
+        // when
+        final Future<?> future1 = executeWithFail("exception1");
+        waitForClosingInterval();
+        final Future<?> future2 = execute(operationPromise -> {
+        });
+        final Future<?> future3 = executeWithSuccess("value after timeout");
+
+        // then
+        assertThat(future1.failed()).isTrue();
+        assertThat(future1.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception1");
+
+        assertThat(future2.failed()).isTrue();
+        assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("operation timeout");
+
+        assertThat(future3.failed()).isTrue();
+        assertThat(future3.cause()).isInstanceOf(RuntimeException.class).hasMessage("open circuit");
+        assertThat(circuitBreaker.isOpen()).isTrue();
+    }
+
     @Test
     public void executeShouldFailsWithOriginalExceptionIfOpeningIntervalExceeds() {
         // given
@@ -130,6 +164,101 @@ public class CircuitBreakerTest {
         assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception2");
     }
 
+    @Test
+    public void executeShouldOpenCircuitOnlyIfFailuresThresholdIsReachedWithinOpeningInterval() {
+        // given
+        final Clock movingClock = mock(Clock.class);
+        given(movingClock.millis()).willReturn(1000L, 1150L, 1160L);
+        circuitBreaker = new CircuitBreaker("name", vertx, 2, 100L, 200L, movingClock);
+
+        // when
+        executeWithFail("exception1");
+        executeWithFail("exception2");
+        final boolean openAfterFailuresSpreadOverInterval = circuitBreaker.isOpen();
+        executeWithFail("exception3");
+
+        // then
+        assertThat(openAfterFailuresSpreadOverInterval).isFalse();
+        assertThat(circuitBreaker.isOpen()).isTrue();
+    }
+
+    @Test
+    public void executeShouldOpenCircuitOnceAndPassSingleOperationWhenHalfOpenedDuringFailuresStorm()
+            throws InterruptedException {
+
+        // given
+        circuitBreaker = new CircuitBreaker("name", vertx, 100, 100L, 1000L, clock);
+
+        final AtomicInteger openings = new AtomicInteger();
+        final AtomicInteger closings = new AtomicInteger();
+        circuitBreaker.openHandler(ignored -> openings.incrementAndGet())
+                .closeHandler(ignored -> closings.incrementAndGet());
+
+        final AtomicInteger failedOperations = new AtomicInteger();
+        final Handler<Promise<String>> failingOperation = promise -> {
+            failedOperations.incrementAndGet();
+            promise.fail(new RuntimeException("outage"));
+        };
+
+        // when
+        final List<Future<String>> stormResults = executeConcurrently(8, 5_000, () -> failingOperation);
+
+        // then
+        assertThat(stormResults).allMatch(Future::failed);
+        assertThat(openings.get()).isOne();
+        assertThat(failedOperations.get()).isBetween(100, 5_000 * 8 - 1);
+        assertThat(circuitBreaker.isOpen()).isTrue();
+
+        // given
+        waitForInterval(1100L);
+
+        final List<Promise<String>> halfOpenOperations = new CopyOnWriteArrayList<>();
+        final Handler<Promise<String>> pendingOperation = halfOpenOperations::add;
+
+        // when
+        final List<Future<String>> halfOpenResults = executeConcurrently(8, 100, () -> pendingOperation);
+
+        // then
+        assertThat(halfOpenOperations).hasSize(1);
+        assertThat(halfOpenResults).filteredOn(Future::failed).hasSize(8 * 100 - 1);
+
+        // when
+        halfOpenOperations.getFirst().complete("recovered");
+
+        // then
+        assertThat(closings.get()).isOne();
+        assertThat(circuitBreaker.isOpen()).isFalse();
+        assertThat(executeWithSuccess("value").result()).isEqualTo("value");
+    }
+
+    private List<Future<String>> executeConcurrently(int threads,
+                                                     int operationsPerThread,
+                                                     Supplier<Handler<Promise<String>>> operationSupplier)
+            throws InterruptedException {
+
+        final List<Future<String>> results = new CopyOnWriteArrayList<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < operationsPerThread; j++) {
+                    results.add(circuitBreaker.execute(operationSupplier.get()));
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        return results;
+    }
+
     private Future<String> executeWithSuccess(String result) {
         return execute(operationPromise -> operationPromise.complete(result));
     }
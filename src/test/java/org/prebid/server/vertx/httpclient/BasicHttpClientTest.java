@@ -29,11 +29,13 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -81,6 +83,27 @@ public class BasicHttpClientTest {
         verify(httpClientRequest).send(eq(Buffer.buffer("body".getBytes())));
     }
 
+    @Test
+    public void requestShouldReuseParsedOriginForSubsequentRequestsToSameEndpoint() {
+        // given and when
+        httpClient.request(HttpMethod.GET, "https://www.example.com:8443/first?a=b#c", null, (String) null, 500L);
+        httpClient.request(HttpMethod.GET, "https://www.example.com:8443/second?c=d#e", null, (String) null, 500L);
+        httpClient.request(HttpMethod.GET, "https://www.example.com:8443?e=f", null, (String) null, 500L);
+
+        // then
+        final ArgumentCaptor<RequestOptions> requestOptionsArgumentCaptor =
+                ArgumentCaptor.forClass(RequestOptions.class);
+        verify(wrappedHttpClient, times(3)).request(requestOptionsArgumentCaptor.capture());
+
+        assertThat(requestOptionsArgumentCaptor.getAllValues())
+                .extracting(RequestOptions::getHost, RequestOptions::getPort, RequestOptions::isSsl,
+                        RequestOptions::getURI)
+                .containsExactly(
+                        tuple("www.example.com", 8443, true, "/first?a=b"),
+                        tuple("www.example.com", 8443, true, "/second?c=d"),
+                        tuple("www.example.com", 8443, true, "/?e=f"));
+    }
+
     @Test
     public void requestShouldSucceedIfHttpRequestSucceeds() {
         // given